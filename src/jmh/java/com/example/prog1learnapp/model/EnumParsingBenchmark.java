@@ -0,0 +1,52 @@
+package com.example.prog1learnapp.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsen von Formular- und Katalogwerten, jeweils für einen gültigen und einen ungültigen Wert.
+ * Ungültige Werte laufen über die Exception von {@code valueOf}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnumParsingBenchmark {
+
+    // Nicht final, damit der JIT die Eingaben nicht als Konstanten faltet
+    private String studyProgram = " winf ";
+    private String unknownStudyProgram = "bwl";
+    private String difficulty = "medium";
+    private String unknownDifficulty = "extreme";
+
+    @Benchmark
+    public StudyProgram studyProgramFromValue() {
+        return StudyProgram.fromValue(studyProgram);
+    }
+
+    @Benchmark
+    public StudyProgram studyProgramFromUnknownValue() {
+        return StudyProgram.fromValue(unknownStudyProgram);
+    }
+
+    @Benchmark
+    public Difficulty difficultyFromString() {
+        return Difficulty.fromString(difficulty);
+    }
+
+    @Benchmark
+    public Difficulty difficultyFromUnknownString() {
+        return Difficulty.fromString(unknownDifficulty);
+    }
+}
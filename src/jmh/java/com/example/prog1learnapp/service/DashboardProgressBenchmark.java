@@ -0,0 +1,72 @@
+package com.example.prog1learnapp.service;
+
+import com.example.prog1learnapp.model.Lesson;
+import com.example.prog1learnapp.repository.LessonProgressView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fortschrittsberechnung von {@code GET /dashboard} ab dem Ergebnis der gruppierten Abfrage:
+ * Prozentwerte je Lektion und Gesamtfortschritt.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DashboardProgressBenchmark {
+
+    @Param({"1000", "10000"})
+    public int exerciseCount;
+
+    private List<Lesson> lessons;
+    private List<LessonProgressView> rows;
+
+    @Setup
+    public void setUp() {
+        CatalogSnapshot snapshot = SyntheticCatalog.of(exerciseCount);
+        lessons = snapshot.getLessons();
+        rows = new ArrayList<>(lessons.size());
+        SplittableRandom random = new SplittableRandom(42);
+        for (Lesson lesson : lessons) {
+            long total = snapshot.getExercisesByLesson(lesson.getId()).size();
+            rows.add(new Row(lesson.getId(), total, total > 0 ? random.nextLong(total + 1) : 0L));
+        }
+    }
+
+    @Benchmark
+    public void dashboardProgress(Blackhole blackhole) {
+        DashboardProgress progress = DashboardProgress.fromLessonProgress(rows);
+        blackhole.consume(progress.getLessonPercentages(lessons));
+        blackhole.consume(progress.getOverallPercentage());
+        blackhole.consume(progress.getCompletedCount());
+    }
+
+    private record Row(Long lessonId, Long totalCount, Long completedCount) implements LessonProgressView {
+
+        @Override
+        public Long getLessonId() { return lessonId; }
+
+        @Override
+        public Long getTotalCount() { return totalCount; }
+
+        @Override
+        public Long getCompletedCount() { return completedCount; }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.prog1learnapp.service;
+
+import com.example.prog1learnapp.model.Difficulty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Durchsatz paralleler Ziehungen aus gemeinsamen Kandidaten-Pools, wie beim gleichzeitigen
+ * Prüfungsstart vieler Studierender: drei Bereiche à 3 Aufgaben mit Schwierigkeitsquote und
+ * Lektionsgewicht, alle verfügbaren Threads ziehen aus denselben Pools.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(Threads.MAX)
+@Fork(1)
+public class ExamCandidatePoolsBenchmark {
+
+    @Param({"1000", "10000"})
+    public int exerciseCount;
+
+    private ExamCandidatePools pools;
+
+    @Setup
+    public void setUp() {
+        ExamBlueprint.Band first = new ExamBlueprint.Band("3-5", List.of(3L, 4L, 5L), 3);
+        first.getDifficultyQuotas().put(Difficulty.MEDIUM, 1);
+        ExamBlueprint.Band second = new ExamBlueprint.Band("6-8", List.of(6L, 7L, 8L), 3);
+        second.getLessonWeights().put(8L, 2.0);
+        ExamBlueprint.Band third = new ExamBlueprint.Band("9-11", List.of(9L, 10L, 11L), 3);
+        ExamBlueprint blueprint = new ExamBlueprint();
+        blueprint.setBands(new ArrayList<>(List.of(first, second, third)));
+        pools = ExamCandidatePools.build(SyntheticCatalog.of(exerciseCount), blueprint);
+    }
+
+    @Benchmark
+    public long[] draw() {
+        return pools.draw(Set.of(), ThreadLocalRandom.current());
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.prog1learnapp.service;
+
+import com.example.prog1learnapp.model.ExamSessionState;
+import com.example.prog1learnapp.model.Exercise;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Zusammenstellen und Auflösen eines Exams mit dem Standard-Blueprint. Die Kandidaten-Pools werden
+ * beim ersten Aufruf im Setup gebaut und danach wiederverwendet.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExamSelectionBenchmark {
+
+    @Param({"1000", "10000"})
+    public int exerciseCount;
+
+    private ExamSelectionService service;
+    private ExamSessionState state;
+    private List<Long> previousExerciseIds;
+
+    @Setup
+    public void setUp() {
+        ExerciseCatalog catalog = SyntheticCatalog.catalogOf(SyntheticCatalog.of(exerciseCount));
+        service = new ExamSelectionService(catalog, new ExamBlueprint());
+        state = service.startNewExam();
+        previousExerciseIds = state.getSelectedExerciseIds();
+    }
+
+    @Benchmark
+    public ExamSessionState startNewExam() {
+        return service.startNewExam();
+    }
+
+    @Benchmark
+    public ExamSessionState startNewExamAvoidingPrevious() {
+        return service.startNewExam(previousExerciseIds);
+    }
+
+    @Benchmark
+    public List<Exercise> resolveSelectedExercises() {
+        return service.resolveSelectedExercises(state);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.prog1learnapp.service;
+
+import com.example.prog1learnapp.model.Difficulty;
+import com.example.prog1learnapp.model.Exercise;
+import com.example.prog1learnapp.model.Lesson;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Synthetischer Katalog für Benchmarks: {@value #EXERCISES_PER_LESSON} Übungen je Lektion, die
+ * Schwierigkeitsgrade wechseln reihum. Lektions-IDs beginnen bei 1, damit der Standard-Blueprint
+ * (Lektionen 3-11) Kandidaten findet.
+ */
+final class SyntheticCatalog {
+
+    static final int EXERCISES_PER_LESSON = 50;
+
+    private SyntheticCatalog() {
+    }
+
+    static CatalogSnapshot of(int exerciseCount) {
+        int lessonCount = Math.max(11, (exerciseCount + EXERCISES_PER_LESSON - 1) / EXERCISES_PER_LESSON);
+        List<Lesson> lessons = new ArrayList<>(lessonCount);
+        List<Exercise> exercises = new ArrayList<>(exerciseCount);
+        Difficulty[] difficulties = Difficulty.values();
+        for (long lessonId = 1; lessonId <= lessonCount; lessonId++) {
+            lessons.add(new Lesson(lessonId, "Lesson " + lessonId, "Short " + lessonId, "Content " + lessonId));
+        }
+        for (int i = 0; i < exerciseCount; i++) {
+            Exercise exercise = new Exercise();
+            exercise.setId((long) i + 1);
+            exercise.setTitle("Exercise " + i);
+            exercise.setDescription("Description " + i);
+            exercise.setStarterCode("public class Main { }");
+            exercise.setSolution("public class Main { }");
+            exercise.setDifficulty(difficulties[i % difficulties.length].name());
+            exercise.setPosition(i % EXERCISES_PER_LESSON);
+            exercise.setLesson(lessons.get(i / EXERCISES_PER_LESSON % lessonCount));
+            exercises.add(exercise);
+        }
+        return CatalogSnapshot.of(1L, lessons, exercises);
+    }
+
+    /**
+     * Katalog ohne Datenbank, der immer den übergebenen Snapshot liefert.
+     */
+    static ExerciseCatalog catalogOf(CatalogSnapshot snapshot) {
+        return new ExerciseCatalog() {
+            @Override
+            public CatalogSnapshot snapshot() {
+                return snapshot;
+            }
+
+            @Override
+            public Optional<Exercise> findExercise(Long exerciseId) {
+                return Optional.ofNullable(snapshot.getExercise(exerciseId));
+            }
+        };
+    }
+}
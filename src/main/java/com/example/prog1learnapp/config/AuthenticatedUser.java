@@ -0,0 +1,34 @@
+package com.example.prog1learnapp.config;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.io.Serial;
+import java.util.Collection;
+
+/**
+ * Principal der angemeldeten Sitzung. Trägt ID und Anzeigenamen des Benutzers,
+ * damit Controller dafür nicht bei jeder Anfrage die users-Tabelle lesen müssen.
+ */
+public class AuthenticatedUser extends User {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final Long id;
+    private final String displayName;
+
+    public AuthenticatedUser(Long id,
+                             String username,
+                             String password,
+                             String displayName,
+                             Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, authorities);
+        this.id = id;
+        this.displayName = displayName;
+    }
+
+    public Long getId() { return id; }
+
+    public String getDisplayName() { return displayName; }
+}
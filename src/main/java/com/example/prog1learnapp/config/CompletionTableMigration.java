@@ -0,0 +1,86 @@
+package com.example.prog1learnapp.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Locale;
+
+/**
+ * Ergänzt den Primärschlüssel (user_id, completed_exercises) auf Datenbanken, deren Tabelle
+ * {@code completed_exercises} noch aus der Zeit als Liste stammt. {@code ddl-auto=update} legt ihn nur
+ * beim Neuanlegen der Tabelle an; ohne ihn kann {@code UserRepository.insertCompletion} bei parallelen
+ * Abschlüssen doppelte Zeilen erzeugen, die der Fortschritt doppelt zählt.
+ * Vorhandene Duplikate werden in derselben Transaktion entfernt.
+ */
+@Component
+@Order(0)
+public class CompletionTableMigration implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(CompletionTableMigration.class);
+
+    static final String TABLE = "completed_exercises";
+    private static final String COPY = "completed_exercises_dedup";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public CompletionTableMigration(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void run(String... args) {
+        if (hasPrimaryKey()) {
+            return;
+        }
+        try {
+            Integer removed = transactionTemplate.execute(status -> deduplicateAndAddKey());
+            log.info("Added primary key to {} and removed {} duplicate completion rows", TABLE, removed);
+        } catch (DataAccessException ex) {
+            // z.B. parallel eingefügtes Duplikat bei laufendem Altknoten; der nächste Start versucht es erneut
+            log.warn("Could not add primary key to {}, duplicate completions remain possible", TABLE, ex);
+        }
+    }
+
+    private int deduplicateAndAddKey() {
+        jdbcTemplate.execute("CREATE TABLE " + COPY + " AS " +
+                "SELECT DISTINCT user_id, completed_exercises FROM " + TABLE);
+        int before = jdbcTemplate.update("DELETE FROM " + TABLE);
+        int after = jdbcTemplate.update("INSERT INTO " + TABLE + " (user_id, completed_exercises) " +
+                "SELECT user_id, completed_exercises FROM " + COPY);
+        jdbcTemplate.execute("DROP TABLE " + COPY);
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD PRIMARY KEY (user_id, completed_exercises)");
+        return before - after;
+    }
+
+    boolean hasPrimaryKey() {
+        try {
+            return Boolean.TRUE.equals(JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(), metaData -> {
+                String table = metaData.storesUpperCaseIdentifiers() ? TABLE.toUpperCase(Locale.ROOT) : TABLE;
+                return hasPrimaryKey(metaData, table);
+            }));
+        } catch (MetaDataAccessException ex) {
+            log.warn("Could not inspect table {}", TABLE, ex);
+            return true;
+        }
+    }
+
+    private static boolean hasPrimaryKey(DatabaseMetaData metaData, String table) throws SQLException {
+        try (ResultSet keys = metaData.getPrimaryKeys(null, null, table)) {
+            return keys.next();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.prog1learnapp.config;
+
+import com.example.prog1learnapp.repository.UserRepository;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Stellt Controller-Parametern vom Typ {@link AuthenticatedUser} den angemeldeten Benutzer bereit.
+ * Liefert {@code null}, wenn niemand angemeldet ist.
+ */
+@Component
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final UserRepository userRepository;
+
+    public CurrentUserArgumentResolver(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return AuthenticatedUser.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter,
+                                  ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest,
+                                  WebDataBinderFactory binderFactory) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null
+                || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        if (authentication.getPrincipal() instanceof AuthenticatedUser authenticatedUser) {
+            return authenticatedUser;
+        }
+        // Fallback für Principals, die nicht über CustomUserDetailsService entstanden sind (z.B. @WithMockUser)
+        return userRepository.findByUsername(authentication.getName())
+                .map(user -> new AuthenticatedUser(user.getId(), user.getUsername(), "",
+                        user.getDisplayName(), authentication.getAuthorities()))
+                .orElse(null);
+    }
+}
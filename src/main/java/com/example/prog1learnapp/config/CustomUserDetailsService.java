@@ -2,15 +2,28 @@ package com.example.prog1learnapp.config;
 
 import com.example.prog1learnapp.model.User;
 import com.example.prog1learnapp.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.userdetails.*;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
     private final UserRepository userRepository;
+    private final Set<String> adminUsernames;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository,
+                                    @Value("${app.admin.usernames:}") Set<String> adminUsernames) {
         this.userRepository = userRepository;
+        this.adminUsernames = adminUsernames.stream()
+            .map(name -> name.trim().toLowerCase())
+            .filter(name -> !name.isEmpty())
+            .collect(Collectors.toUnmodifiableSet());
     }
 
     @Override
@@ -20,10 +33,15 @@ public class CustomUserDetailsService implements UserDetailsService {
 
         User user = userRepository.findByUsername(normalizedUsername)
             .orElseThrow(() -> new UsernameNotFoundException("User not found: " + normalizedUsername));
-        return org.springframework.security.core.userdetails.User
-            .withUsername(user.getUsername())
-            .password(user.getPassword())
-            .roles("USER")
-            .build();
+        List<GrantedAuthority> authorities = adminUsernames.contains(user.getUsername())
+            ? AuthorityUtils.createAuthorityList("ROLE_USER", "ROLE_ADMIN")
+            : AuthorityUtils.createAuthorityList("ROLE_USER");
+        // ID und Anzeigename landen im Principal, damit Folgeanfragen ohne User-Lookup auskommen
+        return new AuthenticatedUser(
+            user.getId(),
+            user.getUsername(),
+            user.getPassword(),
+            user.getDisplayName(),
+            authorities);
     }
-}
\ No newline at end of file
+}
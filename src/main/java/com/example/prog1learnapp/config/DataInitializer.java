@@ -1,22 +1,134 @@
 package com.example.prog1learnapp.config;
 
-import com.example.prog1learnapp.config.lessons.LessonDataInitializer;
+import com.example.prog1learnapp.config.seed.ContentBundleLoader;
+import com.example.prog1learnapp.config.seed.ContentFingerprint;
+import com.example.prog1learnapp.config.seed.ExerciseSeedService;
+import com.example.prog1learnapp.config.seed.LessonSeed;
+import com.example.prog1learnapp.config.seed.SeedReport;
+import com.example.prog1learnapp.model.ContentVersion;
+import com.example.prog1learnapp.repository.ContentVersionRepository;
+import com.example.prog1learnapp.service.CatalogCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Component
 public class DataInitializer implements CommandLineRunner {
 
-    private final List<LessonDataInitializer> lessonInitializers;
+    private static final Logger log = LoggerFactory.getLogger(DataInitializer.class);
 
-    public DataInitializer(List<LessonDataInitializer> lessonInitializers) {
-        this.lessonInitializers = lessonInitializers;
+    private final ContentBundleLoader contentBundleLoader;
+    private final ExerciseSeedService exerciseSeedService;
+    private final ContentVersionRepository contentVersionRepository;
+    private final CatalogCache catalogCache;
+    private final TransactionTemplate transactionTemplate;
+
+    public DataInitializer(ContentBundleLoader contentBundleLoader,
+                           ExerciseSeedService exerciseSeedService,
+                           ContentVersionRepository contentVersionRepository,
+                           CatalogCache catalogCache,
+                           PlatformTransactionManager transactionManager) {
+        this.contentBundleLoader = contentBundleLoader;
+        this.exerciseSeedService = exerciseSeedService;
+        this.contentVersionRepository = contentVersionRepository;
+        this.catalogCache = catalogCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
+    /**
+     * Stimmt der Fingerabdruck des Inhalts mit dem zuletzt eingespielten überein, entfällt das Seeding.
+     * Sonst werden die Lektionen parallel, jeweils in eigener Transaktion, abgeglichen. Starten mehrere
+     * Instanzen gleichzeitig (Rolling Deploy), seedet nur eine; siehe {@link #seedLocked}.
+     */
     @Override
     public void run(String... args) {
-        lessonInitializers.forEach(LessonDataInitializer::init);
+        long start = System.nanoTime();
+        List<LessonSeed> seeds = contentBundleLoader.load();
+        // Vor dem Seeding berechnen, da dabei fehlende Positionen gesetzt werden
+        String fingerprint = ContentFingerprint.of(seeds);
+
+        ContentVersion version = contentVersionRepository.findById(ContentVersion.CATALOG).orElse(null);
+        if (version != null && fingerprint.equals(version.getFingerprint())) {
+            log.info("Content fingerprint {} unchanged since {}, skipped seeding of {} lessons ({} ms)",
+                    fingerprint.substring(0, 12), version.getSeededAt(), seeds.size(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } else {
+            seedLocked(seeds, fingerprint, start);
+        }
+        // Inhalte sind nach dem Seeding unveränderlich, daher einmal vollständig in den Cache laden
+        catalogCache.reload();
+    }
+
+    /**
+     * Seedet unter einer Zeilensperre auf {@code content_version}: Eine zweite Instanz wartet, bis die
+     * erste fertig ist, sieht danach den neuen Fingerabdruck und überspringt das Seeding. Der
+     * Fingerabdruck wird erst nach vollständigem Seeding gesetzt, ein abgebrochener Start wiederholt es.
+     */
+    private void seedLocked(List<LessonSeed> seeds, String fingerprint, long start) {
+        try {
+            contentVersionRepository.createIfAbsent(ContentVersion.CATALOG);
+        } catch (DataIntegrityViolationException ex) {
+            log.debug("Content version row was created concurrently", ex);
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            ContentVersion version = contentVersionRepository.findForUpdate(ContentVersion.CATALOG)
+                    .orElseThrow(() -> new IllegalStateException("content_version-Zeile fehlt"));
+            if (fingerprint.equals(version.getFingerprint())) {
+                log.info("Content fingerprint {} was seeded by another instance meanwhile, skipped seeding",
+                        fingerprint.substring(0, 12));
+                return;
+            }
+            // Die Lektionen laufen auf eigenen Threads und Verbindungen, die Sperre bleibt hier gehalten
+            seedAll(seeds, start);
+            version.setFingerprint(fingerprint);
+        });
+    }
+
+    private void seedAll(List<LessonSeed> seeds, long start) {
+        int threads = Math.max(1, Math.min(seeds.size(), Runtime.getRuntime().availableProcessors()));
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads,
+                runnable -> new Thread(runnable, "lesson-seed-" + threadCounter.incrementAndGet()));
+        List<SeedReport> reports = new ArrayList<>();
+        try {
+            List<CompletableFuture<SeedReport>> futures = seeds.stream()
+                    .map(seed -> CompletableFuture.supplyAsync(() -> exerciseSeedService.seedLesson(seed), executor))
+                    .toList();
+            for (CompletableFuture<SeedReport> future : futures) {
+                reports.add(future.join());
+            }
+        } catch (CompletionException ex) {
+            throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+        } finally {
+            executor.shutdown();
+        }
+
+        logReport(reports, (System.nanoTime() - start) / 1_000_000, threads);
+    }
+
+    private void logReport(List<SeedReport> reports, long totalMillis, int threads) {
+        int inserted = 0;
+        StringBuilder lines = new StringBuilder();
+        for (SeedReport report : reports.stream().sorted(Comparator.comparing(SeedReport::lessonId)).toList()) {
+            inserted += report.insertedExercises();
+            lines.append(String.format("%n  lesson %3d: %4d ms, %2d existing, %2d inserted%s",
+                    report.lessonId(), report.millis(), report.existingExercises(), report.insertedExercises(),
+                    report.lessonCreated() ? ", lesson created" : ""));
+        }
+        log.info("Seeded {} lessons ({} new exercises) in {} ms on {} threads:{}",
+                reports.size(), inserted, totalMillis, threads, lines);
     }
 }
@@ -0,0 +1,12 @@
+package com.example.prog1learnapp.config;
+
+import com.example.prog1learnapp.service.ExamBlueprint;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableConfigurationProperties(ExamBlueprint.class)
+@EnableScheduling
+public class ExamConfig {
+}
@@ -0,0 +1,36 @@
+package com.example.prog1learnapp.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.session.MapSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sessions im Speicher des Prozesses, für lokale Entwicklung und Tests ({@code app.session.store=memory}).
+ * Läuft über denselben {@code SessionRepositoryFilter} und denselben {@code SESSION}-Cookie wie der
+ * JDBC-Store ({@link JdbcSessionConfig}), sodass Tests den Session-Pfad der Produktion durchlaufen.
+ * Abgelaufene Sessions werden jede Minute entfernt.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "app.session.store", havingValue = "memory", matchIfMissing = true)
+@EnableSpringHttpSession
+public class InMemorySessionConfig {
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+    @Bean
+    public MapSessionRepository sessionRepository() {
+        return new MapSessionRepository(sessions);
+    }
+
+    @Scheduled(fixedDelayString = "PT1M")
+    public void purgeExpiredSessions() {
+        sessions.values().removeIf(Session::isExpired);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.prog1learnapp.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.session.JdbcSessionDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.session.JdbcSessionProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.session.FlushMode;
+import org.springframework.session.SaveMode;
+import org.springframework.session.jdbc.config.annotation.web.http.EnableJdbcHttpSession;
+
+import javax.sql.DataSource;
+
+/**
+ * Legt HTTP-Sessions (Login und Exam-Versuchs-ID) in der Datenbank ab, damit mehrere Knoten
+ * ohne Sticky Sessions arbeiten und ein Redeploy niemanden abmeldet.
+ * Aktiv mit {@code app.session.store=jdbc}; sonst liegen die Sessions im Speicher ({@link InMemorySessionConfig}).
+ * <p>
+ * Attribute werden erst beim Zugriff deserialisiert, und beim Speichern werden nur
+ * per {@code setAttribute} geänderte Attribute geschrieben ({@link SaveMode#ON_SET_ATTRIBUTE}),
+ * einmal am Ende der Anfrage ({@link FlushMode#ON_SAVE}).
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "app.session.store", havingValue = "jdbc")
+@EnableJdbcHttpSession(flushMode = FlushMode.ON_SAVE, saveMode = SaveMode.ON_SET_ATTRIBUTE)
+@EnableConfigurationProperties(JdbcSessionProperties.class)
+public class JdbcSessionConfig {
+
+    /**
+     * Legt die Spring-Session-Tabellen passend zur Datenbank an ({@code spring.session.jdbc.initialize-schema}).
+     */
+    @Bean
+    public JdbcSessionDataSourceScriptDatabaseInitializer jdbcSessionDataSourceScriptDatabaseInitializer(
+            DataSource dataSource, JdbcSessionProperties properties) {
+        return new JdbcSessionDataSourceScriptDatabaseInitializer(dataSource, properties);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.prog1learnapp.config;
+
+import com.example.prog1learnapp.service.RenderMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * Misst die Renderzeit von Views: {@code postHandle} läuft direkt vor, {@code afterCompletion} direkt nach dem Rendern.
+ */
+@Component
+public class RenderTimingInterceptor implements HandlerInterceptor {
+
+    private static final String VIEW_ATTRIBUTE = RenderTimingInterceptor.class.getName() + ".view";
+    private static final String START_ATTRIBUTE = RenderTimingInterceptor.class.getName() + ".start";
+
+    private final RenderMetrics renderMetrics;
+
+    public RenderTimingInterceptor(RenderMetrics renderMetrics) {
+        this.renderMetrics = renderMetrics;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        if (modelAndView == null || modelAndView.getViewName() == null
+                || modelAndView.getViewName().startsWith("redirect:")) {
+            return;
+        }
+        request.setAttribute(VIEW_ATTRIBUTE, modelAndView.getViewName());
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(VIEW_ATTRIBUTE) instanceof String viewName
+                && request.getAttribute(START_ATTRIBUTE) instanceof Long start) {
+            renderMetrics.record(viewName, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.prog1learnapp.config;
+
+import com.example.prog1learnapp.service.submission.SubmissionProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(SubmissionProperties.class)
+public class SubmissionConfig {
+}
@@ -0,0 +1,31 @@
+package com.example.prog1learnapp.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final CurrentUserArgumentResolver currentUserArgumentResolver;
+    private final RenderTimingInterceptor renderTimingInterceptor;
+
+    public WebConfig(CurrentUserArgumentResolver currentUserArgumentResolver,
+                     RenderTimingInterceptor renderTimingInterceptor) {
+        this.currentUserArgumentResolver = currentUserArgumentResolver;
+        this.renderTimingInterceptor = renderTimingInterceptor;
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(currentUserArgumentResolver);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(renderTimingInterceptor);
+    }
+}
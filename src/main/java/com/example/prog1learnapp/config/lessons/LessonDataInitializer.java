@@ -1,5 +0,0 @@
-package com.example.prog1learnapp.config.lessons;
-
-public interface LessonDataInitializer {
-    void init();
-}
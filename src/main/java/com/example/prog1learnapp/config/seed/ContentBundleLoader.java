@@ -0,0 +1,128 @@
+package com.example.prog1learnapp.config.seed;
+
+import com.example.prog1learnapp.model.Exercise;
+import com.example.prog1learnapp.model.Lesson;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternUtils;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Liest die Lehrinhalte aus dem Content-Bundle unter {@code app.content.location}: je Lektion ein
+ * Verzeichnis mit {@code lesson.properties} (Metadaten und Reihenfolge der Übungen), {@code content.html}
+ * und je Übung {@code <key>.description.txt}, {@code <key>.starter.java} und {@code <key>.solution.java},
+ * optional {@code <key>.inputs.txt} mit den Testeingaben für die automatische Bewertung.
+ */
+@Component
+public class ContentBundleLoader {
+
+    static final String MANIFEST = "lesson.properties";
+
+    private final ResourcePatternResolver resolver;
+    private final String location;
+
+    public ContentBundleLoader(ResourceLoader resourceLoader,
+                               @Value("${app.content.location:classpath:content}") String location) {
+        this.resolver = ResourcePatternUtils.getResourcePatternResolver(resourceLoader);
+        this.location = location.endsWith("/") ? location.substring(0, location.length() - 1) : location;
+    }
+
+    /**
+     * Alle Lektionen des Bundles, nach ID sortiert.
+     */
+    public List<LessonSeed> load() {
+        Resource[] manifests;
+        try {
+            manifests = resolver.getResources(location + "/*/" + MANIFEST);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Content-Bundle unter " + location + " konnte nicht gelesen werden", ex);
+        }
+        if (manifests.length == 0) {
+            throw new IllegalStateException("Keine Lektionen unter " + location + " gefunden");
+        }
+
+        List<LessonSeed> seeds = new ArrayList<>(manifests.length);
+        Set<Long> lessonIds = new HashSet<>();
+        for (Resource manifest : manifests) {
+            LessonSeed seed = loadLesson(manifest);
+            if (!lessonIds.add(seed.lesson().getId())) {
+                throw new IllegalStateException("Lektion " + seed.lesson().getId() + " ist mehrfach im Content-Bundle");
+            }
+            seeds.add(seed);
+        }
+        seeds.sort(Comparator.comparing(seed -> seed.lesson().getId()));
+        return seeds;
+    }
+
+    private LessonSeed loadLesson(Resource manifest) {
+        try {
+            Properties properties = new Properties();
+            properties.load(new StringReader(read(manifest)));
+
+            Lesson lesson = new Lesson(
+                    Long.valueOf(required(properties, "id", manifest)),
+                    required(properties, "title", manifest),
+                    required(properties, "shortDescription", manifest),
+                    read(manifest.createRelative("content.html")));
+
+            List<Exercise> exercises = new ArrayList<>();
+            for (String key : required(properties, "exercises", manifest).split(",")) {
+                key = key.trim();
+                Exercise exercise = new Exercise();
+                exercise.setTitle(required(properties, key + ".title", manifest));
+                exercise.setDifficulty(required(properties, key + ".difficulty", manifest));
+                exercise.setDescription(read(manifest.createRelative(key + ".description.txt")));
+                exercise.setStarterCode(read(manifest.createRelative(key + ".starter.java")));
+                exercise.setSolution(read(manifest.createRelative(key + ".solution.java")));
+                Resource inputs = manifest.createRelative(key + ".inputs.txt");
+                if (inputs.exists()) {
+                    exercise.setTestInputs(read(inputs));
+                }
+                exercise.setLesson(lesson);
+                exercises.add(exercise);
+            }
+            return new LessonSeed(lesson, exercises);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Lektion " + manifest.getDescription() + " konnte nicht gelesen werden", ex);
+        }
+    }
+
+    private static String required(Properties properties, String key, Resource manifest) {
+        String value = properties.getProperty(key);
+        if (value == null || value.isBlank()) {
+            throw new IllegalStateException("Pflichtangabe '" + key + "' fehlt in " + manifest.getDescription());
+        }
+        return value;
+    }
+
+    /**
+     * Dateien im Dateisystem werden gemappt und direkt dekodiert, Einträge im JAR gestreamt.
+     */
+    static String read(Resource resource) throws IOException {
+        if (resource.isFile()) {
+            try (FileChannel channel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                return StandardCharsets.UTF_8.decode(buffer).toString();
+            }
+        }
+        try (InputStream in = resource.getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
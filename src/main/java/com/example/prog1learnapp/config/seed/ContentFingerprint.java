@@ -0,0 +1,69 @@
+package com.example.prog1learnapp.config.seed;
+
+import com.example.prog1learnapp.model.Exercise;
+import com.example.prog1learnapp.model.Lesson;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * SHA-256 über alle geseedeten Lektionen und Übungen. Jeder Wert wird mit seiner Länge
+ * vorangestellt, damit sich verschobene Feldgrenzen nicht gegenseitig aufheben.
+ */
+public final class ContentFingerprint {
+
+    private ContentFingerprint() {
+    }
+
+    public static String of(List<LessonSeed> seeds) {
+        MessageDigest digest = sha256();
+        seeds.stream()
+                .sorted(Comparator.comparing(seed -> seed.lesson().getId()))
+                .forEach(seed -> update(digest, seed));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, LessonSeed seed) {
+        Lesson lesson = seed.lesson();
+        update(digest, String.valueOf(lesson.getId()));
+        update(digest, lesson.getTitle());
+        update(digest, lesson.getShortDescription());
+        update(digest, lesson.getContent());
+        update(digest, String.valueOf(seed.exercises().size()));
+        for (Exercise exercise : seed.exercises()) {
+            update(digest, exercise.getTitle());
+            update(digest, exercise.getDescription());
+            update(digest, exercise.getStarterCode());
+            update(digest, exercise.getSolution());
+            update(digest, exercise.getTestInputs());
+            update(digest, exercise.getDifficulty());
+            update(digest, String.valueOf(exercise.getPosition()));
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value == null) {
+            digest.update(intBytes(-1));
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(intBytes(bytes.length));
+        digest.update(bytes);
+    }
+
+    private static byte[] intBytes(int value) {
+        return new byte[]{(byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value};
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 nicht verfügbar", ex);
+        }
+    }
+}
@@ -1,11 +1,23 @@
 package com.example.prog1learnapp.config.seed;
 
 import com.example.prog1learnapp.model.Exercise;
-import com.example.prog1learnapp.repository.ExerciseRepository;
-import jakarta.transaction.Transactional;
+import com.example.prog1learnapp.model.Lesson;
+import com.example.prog1learnapp.repository.LessonRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.rowset.serial.SerialClob;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 @Service
 public class ExerciseSeedService {
@@ -13,31 +25,146 @@ public class ExerciseSeedService {
     private static final Logger log =
             LoggerFactory.getLogger(ExerciseSeedService.class);
 
-    private final ExerciseRepository exerciseRepository;
+    /**
+     * Direktes JDBC-Insert: Hibernate bündelt Inserts bei IDENTITY-IDs nicht.
+     */
+    private static final String INSERT_EXERCISE =
+            "INSERT INTO exercise (title, description, starter_code, solution, test_inputs, difficulty, position_in_lesson, lesson_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * Vorhandene Übungen einer Lektion: Titel für den Abgleich, ID und Position für das Nachtragen der Positionen.
+     */
+    private static final String SELECT_EXISTING =
+            "SELECT id, title, position_in_lesson FROM exercise WHERE lesson_id = ? ORDER BY id";
+
+    private static final String UPDATE_POSITION =
+            "UPDATE exercise SET position_in_lesson = ? WHERE id = ?";
+
+    /**
+     * Testeingaben gehören zur Bewertung und folgen immer dem Content-Bundle, auch für bestehende Übungen.
+     */
+    private static final String UPDATE_TEST_INPUTS =
+            "UPDATE exercise SET test_inputs = ? WHERE lesson_id = ? AND title = ?";
+
+    private final LessonRepository lessonRepository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public ExerciseSeedService(ExerciseRepository exerciseRepository) {
-        this.exerciseRepository = exerciseRepository;
+    public ExerciseSeedService(LessonRepository lessonRepository,
+                               JdbcTemplate jdbcTemplate) {
+        this.lessonRepository = lessonRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     /**
-     * Speichert eine Übung nur, wenn sie noch nicht existiert.
+     * Legt die Lektion an, falls sie fehlt, und fügt alle noch fehlenden Übungen (Abgleich über den Titel)
+     * in einem JDBC-Batch an. Neue Übungen werden in Seed-Reihenfolge hinten angehängt; bei bestehenden
+     * Übungen werden nur die Testeingaben übernommen.
      * Muss public sein, damit @Transactional greift.
      */
     @Transactional
-    public void saveExerciseIfNotExists(Exercise exercise) {
-
-        boolean exists = exerciseRepository
-                .findByLessonId(exercise.getLesson().getId())
-                .stream()
-                .anyMatch(e -> e.getTitle().equals(exercise.getTitle()));
-
-        if (!exists) {
-            exerciseRepository.save(exercise);
-            log.debug(
-                    "Exercise '{}' saved for lesson {}",
-                    exercise.getTitle(),
-                    exercise.getLesson().getId()
-            );
+    public SeedReport seedLesson(LessonSeed seed) {
+        long start = System.nanoTime();
+        Lesson lesson = seed.lesson();
+
+        boolean lessonCreated = !lessonRepository.existsById(lesson.getId());
+        if (lessonCreated) {
+            // Sofort schreiben, die Übungen verweisen per JDBC darauf
+            lessonRepository.saveAndFlush(lesson);
+        }
+
+        List<ExistingExercise> existingRows = lessonCreated ? List.of() : findExisting(lesson.getId());
+        int nextPosition = backfillPositions(existingRows);
+        Set<String> known = new HashSet<>();
+        existingRows.forEach(row -> known.add(row.title()));
+        List<Exercise> missing = new ArrayList<>();
+        List<Exercise> existing = new ArrayList<>();
+        for (Exercise exercise : seed.exercises()) {
+            if (known.add(exercise.getTitle())) {
+                if (exercise.getPosition() == null) {
+                    exercise.setPosition(nextPosition + missing.size());
+                }
+                missing.add(exercise);
+            } else if (!lessonCreated) {
+                existing.add(exercise);
+            }
+        }
+        if (!missing.isEmpty()) {
+            insertExercises(lesson.getId(), missing);
+        }
+        if (!existing.isEmpty()) {
+            updateTestInputs(lesson.getId(), existing);
+        }
+
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        log.debug("Lesson {} seeded: {} existing, {} inserted in {} ms",
+                lesson.getId(), existingRows.size(), missing.size(), millis);
+        return new SeedReport(lesson.getId(), lessonCreated, existingRows.size(), missing.size(), millis);
+    }
+
+    private List<ExistingExercise> findExisting(Long lessonId) {
+        return jdbcTemplate.query(SELECT_EXISTING, (rs, rowNum) -> new ExistingExercise(
+                rs.getLong(1), rs.getString(2), rs.getObject(3, Integer.class)), lessonId);
+    }
+
+    /**
+     * Übungen aus der Zeit vor {@code position_in_lesson} haben keine Position und würden hinter allen
+     * anderen einsortiert. Sie bekommen in ID-Reihenfolge die Plätze hinter der größten vorhandenen Position,
+     * das entspricht der bisherigen Anzeige. Liefert die nächste freie Position für neue Übungen.
+     */
+    private int backfillPositions(List<ExistingExercise> rows) {
+        int next = rows.stream()
+                .map(ExistingExercise::position)
+                .filter(Objects::nonNull)
+                .mapToInt(position -> position + 1)
+                .max()
+                .orElse(0);
+        List<Object[]> updates = new ArrayList<>();
+        for (ExistingExercise row : rows) {
+            if (row.position() == null) {
+                updates.add(new Object[]{next++, row.id()});
+            }
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_POSITION, updates);
+            log.info("Backfilled {} exercise positions", updates.size());
+        }
+        return next;
+    }
+
+    private void insertExercises(Long lessonId, List<Exercise> exercises) {
+        jdbcTemplate.batchUpdate(INSERT_EXERCISE, exercises, exercises.size(), (PreparedStatement ps, Exercise exercise) -> {
+            ps.setString(1, exercise.getTitle());
+            ps.setString(2, exercise.getDescription());
+            setClob(ps, 3, exercise.getStarterCode());
+            setClob(ps, 4, exercise.getSolution());
+            setClob(ps, 5, exercise.getTestInputs());
+            ps.setString(6, exercise.getDifficulty());
+            ps.setInt(7, exercise.getPosition());
+            ps.setLong(8, lessonId);
+        });
+    }
+
+    private void updateTestInputs(Long lessonId, List<Exercise> exercises) {
+        jdbcTemplate.batchUpdate(UPDATE_TEST_INPUTS, exercises, exercises.size(), (PreparedStatement ps, Exercise exercise) -> {
+            setClob(ps, 1, exercise.getTestInputs());
+            ps.setLong(2, lessonId);
+            ps.setString(3, exercise.getTitle());
+        });
+    }
+
+    /**
+     * @Lob-Spalten sind unter PostgreSQL oid-Spalten (Large Objects) und nehmen kein setString an;
+     * der Treiber legt das Large Object beim Binden eines {@link java.sql.Clob} an, H2 liest ihn als Text.
+     */
+    private static void setClob(PreparedStatement ps, int index, String value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.CLOB);
+        } else {
+            ps.setClob(index, new SerialClob(value.toCharArray()));
         }
     }
+
+    private record ExistingExercise(Long id, String title, Integer position) {
+    }
 }
@@ -0,0 +1,16 @@
+package com.example.prog1learnapp.config.seed;
+
+import com.example.prog1learnapp.model.Exercise;
+import com.example.prog1learnapp.model.Lesson;
+
+import java.util.List;
+
+/**
+ * Eine Lektion mit ihren Übungen in Seed-Reihenfolge.
+ */
+public record LessonSeed(Lesson lesson, List<Exercise> exercises) {
+
+    public LessonSeed {
+        exercises = List.copyOf(exercises);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.prog1learnapp.config.seed;
+
+/**
+ * Ergebnis des Seedings einer Lektion für den Start-Bericht.
+ */
+public record SeedReport(Long lessonId, boolean lessonCreated, int existingExercises, int insertedExercises,
+                         long millis) {
+}
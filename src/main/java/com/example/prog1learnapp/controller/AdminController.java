@@ -0,0 +1,109 @@
+package com.example.prog1learnapp.controller;
+
+import com.example.prog1learnapp.service.CatalogCache;
+import com.example.prog1learnapp.service.CatalogSnapshot;
+import com.example.prog1learnapp.service.RenderMetrics;
+import com.example.prog1learnapp.service.StaticFragmentCache;
+import com.example.prog1learnapp.service.submission.ReferenceOutputCache;
+import com.example.prog1learnapp.service.submission.SubmissionResultCache;
+import com.example.prog1learnapp.service.submission.SubmissionScheduler;
+import com.example.prog1learnapp.service.submission.SubmissionWarmUp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.security.Principal;
+import java.util.Map;
+
+/**
+ * Administrative Endpunkte, nur für Benutzer mit der Rolle ADMIN erreichbar.
+ */
+@Controller
+@RequestMapping("/admin")
+public class AdminController {
+
+    private static final Logger log = LoggerFactory.getLogger(AdminController.class);
+
+    private final CatalogCache catalogCache;
+    private final SubmissionWarmUp submissionWarmUp;
+    private final SubmissionScheduler submissionScheduler;
+    private final SubmissionResultCache submissionResultCache;
+    private final ReferenceOutputCache referenceOutputCache;
+    private final RenderMetrics renderMetrics;
+    private final StaticFragmentCache staticFragmentCache;
+
+    public AdminController(CatalogCache catalogCache,
+                           SubmissionWarmUp submissionWarmUp,
+                           SubmissionScheduler submissionScheduler,
+                           SubmissionResultCache submissionResultCache,
+                           ReferenceOutputCache referenceOutputCache,
+                           RenderMetrics renderMetrics,
+                           StaticFragmentCache staticFragmentCache) {
+        this.catalogCache = catalogCache;
+        this.submissionWarmUp = submissionWarmUp;
+        this.submissionScheduler = submissionScheduler;
+        this.submissionResultCache = submissionResultCache;
+        this.referenceOutputCache = referenceOutputCache;
+        this.renderMetrics = renderMetrics;
+        this.staticFragmentCache = staticFragmentCache;
+    }
+
+    @PostMapping("/catalog/refresh")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> refreshCatalog(Principal principal) {
+        CatalogSnapshot snapshot = catalogCache.reload();
+        log.info("Catalog refreshed by '{}' to version {}", principal.getName(), snapshot.getVersion());
+        submissionWarmUp.refreshReferenceOutputs(snapshot.getExercises());
+        return ResponseEntity.ok(Map.of(
+                "status", "success",
+                "version", snapshot.getVersion(),
+                "lessonCount", snapshot.getLessons().size(),
+                "exerciseCount", snapshot.getExerciseCount()
+        ));
+    }
+
+    @GetMapping("/catalog/stats")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> catalogStats() {
+        return ResponseEntity.ok(Map.of(
+                "version", catalogCache.getVersion(),
+                "hits", catalogCache.getHitCount(),
+                "misses", catalogCache.getMissCount(),
+                "reloads", catalogCache.getReloadCount()
+        ));
+    }
+
+    @GetMapping("/submission/stats")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> submissionStats() {
+        return ResponseEntity.ok(Map.of(
+                "queued", submissionScheduler.getQueuedCount(),
+                "running", submissionScheduler.getRunningCount(),
+                "resultCache", Map.of(
+                        "entries", submissionResultCache.size(),
+                        "estimatedBytes", submissionResultCache.getEstimatedBytes(),
+                        "hits", submissionResultCache.getHitCount(),
+                        "misses", submissionResultCache.getMissCount(),
+                        "evictions", submissionResultCache.getEvictionCount(),
+                        "hitRate", submissionResultCache.getHitRate()),
+                "referenceCache", Map.of(
+                        "entries", referenceOutputCache.size(),
+                        "hits", referenceOutputCache.getHitCount(),
+                        "misses", referenceOutputCache.getMissCount())
+        ));
+    }
+
+    @GetMapping("/render/stats")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> renderStats() {
+        return ResponseEntity.ok(Map.of(
+                "views", renderMetrics.snapshot(),
+                "fragmentRenders", staticFragmentCache.getRenderCount()
+        ));
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.prog1learnapp.controller;
+
+import com.example.prog1learnapp.service.CatalogCache;
+import com.example.prog1learnapp.service.ContentFragment;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
+
+/**
+ * Liefert Lektionsinhalte und Aufgabenstellungen als vorkomprimierte HTML-Fragmente mit starkem ETag.
+ * Die Seiten laden sie per {@code fetch}; bei unverändertem Inhalt antwortet der Server mit 304.
+ * Die Fragmente entstehen mit dem Katalog-Snapshot, eine Anfrage wählt nur noch die passenden Bytes aus.
+ */
+@Controller
+public class ContentFragmentController {
+
+    private static final MediaType TEXT_HTML_UTF8 = MediaType.parseMediaType("text/html;charset=UTF-8");
+
+    private final CatalogCache catalogCache;
+
+    public ContentFragmentController(CatalogCache catalogCache) {
+        this.catalogCache = catalogCache;
+    }
+
+    @GetMapping("/lesson/{id}/content")
+    @ResponseBody
+    public ResponseEntity<byte[]> lessonContent(@PathVariable Long id,
+                                                @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                                WebRequest request) {
+        return serve(catalogCache.findLessonContent(id), acceptEncoding, request);
+    }
+
+    @GetMapping("/exercise/{id}/description")
+    @ResponseBody
+    public ResponseEntity<byte[]> exerciseDescription(@PathVariable Long id,
+                                                      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                                      WebRequest request) {
+        return serve(catalogCache.findExerciseDescription(id), acceptEncoding, request);
+    }
+
+    private ResponseEntity<byte[]> serve(Optional<ContentFragment> fragment, String acceptEncoding, WebRequest request) {
+        if (fragment.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        Optional<ContentFragment.Representation> selected = fragment.get().select(acceptEncoding);
+        if (selected.isEmpty()) {
+            // Accept-Encoding schließt identity und alle angebotenen Kodierungen aus
+            return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).varyBy(HttpHeaders.ACCEPT_ENCODING).build();
+        }
+        ContentFragment.Representation representation = selected.get();
+        // Nur hinter dem Login erreichbar: privat cachen, aber bei jedem Aufruf per ETag prüfen
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+
+        if (request.checkNotModified(representation.etag())) {
+            return ResponseEntity.status(304)
+                    .eTag(representation.etag())
+                    .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(TEXT_HTML_UTF8)
+                .eTag(representation.etag())
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (!ContentFragment.IDENTITY.equals(representation.encoding())) {
+            response.header(HttpHeaders.CONTENT_ENCODING, representation.encoding());
+        }
+        return response.body(representation.body());
+    }
+}
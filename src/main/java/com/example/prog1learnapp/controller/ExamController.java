@@ -2,8 +2,8 @@ package com.example.prog1learnapp.controller;
 
 import com.example.prog1learnapp.model.ExamSessionState;
 import com.example.prog1learnapp.model.Exercise;
+import com.example.prog1learnapp.service.ExamAttemptService;
 import com.example.prog1learnapp.service.ExamSelectionException;
-import com.example.prog1learnapp.service.ExamSelectionService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
@@ -18,6 +18,7 @@ import java.security.Principal;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import jakarta.servlet.http.HttpSession;
@@ -25,13 +26,16 @@ import jakarta.servlet.http.HttpSession;
 @Controller
 public class ExamController {
 
-    public static final String EXAM_SESSION_KEY = "EXAM_SESSION_STATE";
+    /**
+     * Session-Attribut mit der ID des laufenden Versuchs; der Versuch selbst liegt in der Datenbank.
+     */
+    public static final String EXAM_SESSION_KEY = "EXAM_ATTEMPT_ID";
     private static final Logger log = LoggerFactory.getLogger(ExamController.class);
 
-    private final ExamSelectionService examSelectionService;
+    private final ExamAttemptService examAttemptService;
 
-    public ExamController(ExamSelectionService examSelectionService) {
-        this.examSelectionService = examSelectionService;
+    public ExamController(ExamAttemptService examAttemptService) {
+        this.examAttemptService = examAttemptService;
     }
 
     @GetMapping("/exam/start")
@@ -40,8 +44,11 @@ public class ExamController {
             return "redirect:/login";
         }
 
-        ExamSessionState examState = examSelectionService.startNewExam();
-        session.setAttribute(EXAM_SESSION_KEY, examState);
+        List<Long> previousExerciseIds = findActiveAttempt(session, principal)
+                .map(ExamSessionState::getSelectedExerciseIds)
+                .orElse(List.of());
+        ExamSessionState examState = examAttemptService.startAttempt(principal.getName(), previousExerciseIds);
+        session.setAttribute(EXAM_SESSION_KEY, examState.getAttemptId());
         log.info("Started exam attempt {} with exercise IDs {}", examState.getAttemptId(), examState.getSelectedExerciseIds());
         return "redirect:/exam";
     }
@@ -52,13 +59,14 @@ public class ExamController {
             return "redirect:/login";
         }
 
-        Object stateObj = session.getAttribute(EXAM_SESSION_KEY);
-        if (!(stateObj instanceof ExamSessionState examState)) {
+        Optional<ExamSessionState> stateOpt = findActiveAttempt(session, principal);
+        if (stateOpt.isEmpty()) {
             return "redirect:/exam/start";
         }
 
+        ExamSessionState examState = stateOpt.get();
         try {
-            List<Exercise> examExercises = examSelectionService.resolveSelectedExercises(examState);
+            List<Exercise> examExercises = examAttemptService.resolveSelectedExercises(examState);
             Set<Long> examCompletedIds = new HashSet<>(examState.getCompletedExerciseIds());
             int examCompletedCount = examCompletedIds.size();
             int examTotalCount = examExercises.size();
@@ -94,15 +102,15 @@ public class ExamController {
             return ResponseEntity.status(401).body(Map.of("status", "error", "message", "Nicht autorisiert"));
         }
 
-        Object stateObj = session.getAttribute(EXAM_SESSION_KEY);
-        if (!(stateObj instanceof ExamSessionState examState)) {
+        Optional<ExamSessionState> stateOpt = findActiveAttempt(session, principal);
+        if (stateOpt.isEmpty()) {
             return ResponseEntity.badRequest()
                     .body(Map.of("status", "error", "message", "Keine aktive Exam-Session gefunden"));
         }
 
+        ExamSessionState examState = stateOpt.get();
         try {
-            examSelectionService.markCompleted(examState, exerciseId);
-            session.setAttribute(EXAM_SESSION_KEY, examState);
+            examAttemptService.markCompleted(examState, exerciseId);
             int completedCount = examState.getCompletedExerciseIds().size();
             int totalCount = examState.getSelectedExerciseIds().size();
             boolean canRevealSolutions = totalCount > 0 && completedCount >= totalCount;
@@ -117,4 +125,12 @@ public class ExamController {
             return ResponseEntity.badRequest().body(Map.of("status", "error", "message", ex.getMessage()));
         }
     }
+
+    /**
+     * Lädt den Versuch, dessen ID in der Session steht, sofern er dem Benutzer gehört.
+     */
+    private Optional<ExamSessionState> findActiveAttempt(HttpSession session, Principal principal) {
+        Object attemptId = session.getAttribute(EXAM_SESSION_KEY);
+        return examAttemptService.findAttempt(attemptId instanceof String id ? id : null, principal.getName());
+    }
 }
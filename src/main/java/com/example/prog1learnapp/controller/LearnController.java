@@ -1,21 +1,26 @@
 package com.example.prog1learnapp.controller;
 
+import com.example.prog1learnapp.config.AuthenticatedUser;
 import com.example.prog1learnapp.model.ExamSessionState;
-import com.example.prog1learnapp.model.User;
 import com.example.prog1learnapp.model.Lesson;
 import com.example.prog1learnapp.model.Exercise;
 import com.example.prog1learnapp.repository.UserRepository;
-import com.example.prog1learnapp.repository.LessonRepository;
 import com.example.prog1learnapp.repository.ExerciseRepository;
+import com.example.prog1learnapp.repository.ExerciseSummary;
+import com.example.prog1learnapp.service.CatalogCache;
+import com.example.prog1learnapp.service.ExamAttemptService;
+import com.example.prog1learnapp.service.DashboardProgress;
+import com.example.prog1learnapp.service.LessonPage;
+import com.example.prog1learnapp.service.StaticFragmentCache;
 import jakarta.servlet.http.HttpSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
-import java.security.Principal;
 import java.util.*;
 
 @Controller
@@ -24,46 +29,39 @@ public class LearnController {
     private static final Logger log = LoggerFactory.getLogger(LearnController.class);
 
     private final UserRepository userRepository;
-    private final LessonRepository lessonRepository;
     private final ExerciseRepository exerciseRepository;
+    private final CatalogCache catalogCache;
+    private final ExamAttemptService examAttemptService;
+    private final StaticFragmentCache staticFragmentCache;
 
     public LearnController(UserRepository userRepository,
-                           LessonRepository lessonRepository,
-                           ExerciseRepository exerciseRepository) {
+                           ExerciseRepository exerciseRepository,
+                           CatalogCache catalogCache,
+                           ExamAttemptService examAttemptService,
+                           StaticFragmentCache staticFragmentCache) {
         this.userRepository = userRepository;
-        this.lessonRepository = lessonRepository;
         this.exerciseRepository = exerciseRepository;
+        this.catalogCache = catalogCache;
+        this.examAttemptService = examAttemptService;
+        this.staticFragmentCache = staticFragmentCache;
     }
 
     @GetMapping("/dashboard")
-    public String dashboard(Model model, Principal principal, HttpSession session) {
-        User user = findUserByPrincipal(principal);
+    public String dashboard(Model model, AuthenticatedUser user, HttpSession session) {
         if (user == null) {
-            log.warn("User not found for principal: {}", principal.getName());
+            log.warn("No authenticated user for dashboard request");
             return "redirect:/login";
         }
 
-        List<Lesson> lessons = lessonRepository.findAll();
-        List<Exercise> allExercises = exerciseRepository.findAll();
-
-        Set<Long> completedIds = new HashSet<>(user.getCompletedExercises());
-
-        // Calculate progress per lesson
-        Map<Long, Integer> lessonProgress = new HashMap<>();
-        for (Lesson lesson : lessons) {
-            int total = (int) allExercises.stream()
-                    .filter(e -> e.getLesson().getId().equals(lesson.getId()))
-                    .count();
-            int completed = (int) allExercises.stream()
-                    .filter(e -> e.getLesson().getId().equals(lesson.getId()))
-                    .filter(e -> completedIds.contains(e.getId()))
-                    .count();
-            lessonProgress.put(lesson.getId(), total > 0 ? (completed * 100) / total : 0);
-        }
+        List<Lesson> lessons = catalogCache.findAllLessons();
+        DashboardProgress progress = DashboardProgress.fromLessonProgress(
+                exerciseRepository.findLessonProgressByUserId(user.getId()));
+
+        Map<Long, Integer> lessonProgress = progress.getLessonPercentages(lessons);
 
-        int totalExercises = allExercises.size();
-        int completedExercises = completedIds.size();
-        int overallProgress = totalExercises > 0 ? (completedExercises * 100) / totalExercises : 0;
+        int totalExercises = progress.getTotalCount();
+        int completedExercises = progress.getCompletedCount();
+        int overallProgress = progress.getOverallPercentage();
 
         model.addAttribute("user", user);
         model.addAttribute("lessons", lessons);
@@ -72,14 +70,18 @@ public class LearnController {
         model.addAttribute("completedCount", completedExercises);
         model.addAttribute("totalCount", totalExercises);
 
-        Object examStateObj = session.getAttribute(ExamController.EXAM_SESSION_KEY);
+        Object examAttemptId = session.getAttribute(ExamController.EXAM_SESSION_KEY);
+        Optional<ExamSessionState> examStateOpt = examAttemptId instanceof String attemptId
+                ? examAttemptService.findAttempt(attemptId, user.getUsername())
+                : Optional.empty();
         boolean hasActiveExamAttempt = false;
         int examCompletedCount = 0;
         int examTotalCount = 0;
 
-        if (examStateObj instanceof ExamSessionState examState &&
-                examState.getSelectedExerciseIds() != null &&
-                !examState.getSelectedExerciseIds().isEmpty()) {
+        if (examStateOpt.isPresent() &&
+                examStateOpt.get().getSelectedExerciseIds() != null &&
+                !examStateOpt.get().getSelectedExerciseIds().isEmpty()) {
+            ExamSessionState examState = examStateOpt.get();
             hasActiveExamAttempt = true;
             examCompletedCount = examState.getCompletedExerciseIds() != null
                     ? examState.getCompletedExerciseIds().size()
@@ -96,97 +98,82 @@ public class LearnController {
     }
 
     @GetMapping("/lesson/{id}")
-    public String lesson(@PathVariable Long id, Model model, Principal principal) {
-        User user = findUserByPrincipal(principal);
+    public String lesson(@PathVariable Long id, Model model, AuthenticatedUser user) {
         if (user == null) {
             return "redirect:/login";
         }
 
-        Optional<Lesson> lessonOpt = lessonRepository.findById(id);
-        if (lessonOpt.isEmpty()) {
+        // Höchstens zwei Abfragen: Lektionskopf mit Übungsliste (nur bei Cache-Miss) und die Abschlüsse
+        Optional<LessonPage> pageOpt = catalogCache.findLessonPage(id);
+        if (pageOpt.isEmpty()) {
             log.warn("Lesson with id {} not found", id);
             return "error/404";
         }
 
-        Lesson lesson = lessonOpt.get();
-        List<Exercise> exercises = exerciseRepository.findByLessonId(id);
-        Set<Long> completedIds = new HashSet<>(user.getCompletedExercises());
+        LessonPage page = pageOpt.get();
+        List<ExerciseSummary> exercises = page.exercises();
+        Set<Long> completedIds = userRepository.findCompletedExerciseIdsByLesson(user.getId(), id);
 
-        model.addAttribute("lesson", lesson);
+        model.addAttribute("lesson", page.lesson());
+        model.addAttribute("lessonHeader", staticFragmentCache.lessonHeader(page.lesson()));
         model.addAttribute("exercises", exercises);
+        model.addAttribute("exerciseCards", staticFragmentCache.exerciseCards(exercises));
         model.addAttribute("completedIds", completedIds);
+        model.addAttribute("firstUnfinishedExercise", page.firstUnfinishedExerciseId(completedIds));
 
         log.debug("Lesson {} loaded with {} exercises", id, exercises.size());
         return "lesson";
     }
 
     @GetMapping("/exercise/{id}")
-    public String exercise(@PathVariable Long id, Model model, Principal principal) {
-        User user = findUserByPrincipal(principal);
+    public String exercise(@PathVariable Long id, Model model, AuthenticatedUser user) {
         if (user == null) {
             return "redirect:/login";
         }
 
-        Optional<Exercise> exerciseOpt = exerciseRepository.findById(id);
+        Optional<Exercise> exerciseOpt = catalogCache.findExercise(id);
         if (exerciseOpt.isEmpty()) {
             log.warn("Exercise with id {} not found", id);
             return "error/404";
         }
 
         Exercise exercise = exerciseOpt.get();
-        boolean isCompleted = user.getCompletedExercises().contains(id);
+        boolean isCompleted = userRepository.existsCompletion(user.getId(), id);
 
         model.addAttribute("exercise", exercise);
+        model.addAttribute("exerciseFragments", staticFragmentCache.exercise(exercise));
         model.addAttribute("completed", isCompleted);
-        model.addAttribute("nextExercise", getNextExerciseId(exercise));
+        model.addAttribute("nextExercise", catalogCache.findNextExerciseId(exercise));
+        model.addAttribute("previousExercise", catalogCache.findPreviousExerciseId(exercise));
 
         return "exercise";
     }
 
     @PostMapping("/exercise/{id}/complete")
     @ResponseBody
-    public ResponseEntity<Map<String, String>> completeExercise(@PathVariable Long id, Principal principal) {
-        User user = findUserByPrincipal(principal);
+    public ResponseEntity<Map<String, String>> completeExercise(@PathVariable Long id, AuthenticatedUser user) {
         if (user == null) {
             log.warn("Unauthorized attempt to complete exercise {}", id);
             return ResponseEntity.status(401).body(Map.of("status", "error", "message", "Nicht autorisiert"));
         }
 
-        Optional<Exercise> exerciseOpt = exerciseRepository.findById(id);
+        Optional<Exercise> exerciseOpt = catalogCache.findExercise(id);
         if (exerciseOpt.isEmpty()) {
             log.warn("Exercise {} not found for completion", id);
             return ResponseEntity.status(404).body(Map.of("status", "error", "message", "Aufgabe nicht gefunden"));
         }
 
-        if (!user.getCompletedExercises().contains(id)) {
-            user.getCompletedExercises().add(id);
-            userRepository.save(user);
+        int inserted;
+        try {
+            inserted = userRepository.insertCompletion(user.getId(), id);
+        } catch (DataIntegrityViolationException ex) {
+            // Eine parallele Anfrage hat dieselbe Übung bereits gespeichert
+            inserted = 0;
+        }
+        if (inserted > 0) {
             log.info("User '{}' completed exercise {}", user.getUsername(), id);
         }
 
         return ResponseEntity.ok(Map.of("status", "success"));
     }
-
-    /**
-     * Findet einen Benutzer anhand des Principal-Objekts.
-     */
-    private User findUserByPrincipal(Principal principal) {
-        if (principal == null) {
-            return null;
-        }
-        return userRepository.findByUsername(principal.getName()).orElse(null);
-    }
-
-    /**
-     * Ermittelt die ID der nächsten Übung in derselben Lektion.
-     */
-    private Long getNextExerciseId(Exercise current) {
-        List<Exercise> exercises = exerciseRepository.findByLessonId(current.getLesson().getId());
-        for (int i = 0; i < exercises.size(); i++) {
-            if (exercises.get(i).getId().equals(current.getId()) && i + 1 < exercises.size()) {
-                return exercises.get(i + 1).getId();
-            }
-        }
-        return null;
-    }
-}
+}
\ No newline at end of file
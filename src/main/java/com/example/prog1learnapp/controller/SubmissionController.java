@@ -0,0 +1,151 @@
+package com.example.prog1learnapp.controller;
+
+import com.example.prog1learnapp.config.AuthenticatedUser;
+import com.example.prog1learnapp.model.Exercise;
+import com.example.prog1learnapp.repository.UserRepository;
+import com.example.prog1learnapp.service.CatalogCache;
+import com.example.prog1learnapp.service.submission.GradedExercise;
+import com.example.prog1learnapp.service.submission.SubmissionJob;
+import com.example.prog1learnapp.service.submission.SubmissionRejectedException;
+import com.example.prog1learnapp.service.submission.SubmissionResult;
+import com.example.prog1learnapp.service.submission.SubmissionScheduler;
+import com.example.prog1learnapp.service.submission.SubmissionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Asynchrone Abgaben: {@code POST /exercise/{id}/submit} reiht den Code ein und antwortet sofort mit
+ * 202, das Ergebnis wird über {@code GET /submission/{id}} abgefragt. Bei voller Warteschlange gibt es
+ * 429 mit {@code Retry-After}, ohne verfügbare Sandbox 503.
+ */
+@Controller
+public class SubmissionController {
+
+    private static final Logger log = LoggerFactory.getLogger(SubmissionController.class);
+
+    private final CatalogCache catalogCache;
+    private final UserRepository userRepository;
+    private final SubmissionService submissionService;
+    private final SubmissionScheduler submissionScheduler;
+
+    public SubmissionController(CatalogCache catalogCache,
+                                UserRepository userRepository,
+                                SubmissionService submissionService,
+                                SubmissionScheduler submissionScheduler) {
+        this.catalogCache = catalogCache;
+        this.userRepository = userRepository;
+        this.submissionService = submissionService;
+        this.submissionScheduler = submissionScheduler;
+    }
+
+    @PostMapping("/exercise/{id}/submit")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> submit(@PathVariable Long id,
+                                                      @RequestBody SubmissionRequest request,
+                                                      AuthenticatedUser user) {
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("status", "error", "message", "Nicht autorisiert"));
+        }
+        if (!submissionService.isAvailable()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("status", "error", "message", "Automatische Bewertung ist derzeit nicht verfügbar"));
+        }
+        Optional<Exercise> exerciseOpt = catalogCache.findExercise(id);
+        if (exerciseOpt.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("status", "error", "message", "Aufgabe nicht gefunden"));
+        }
+        try {
+            submissionService.checkSource(request.source());
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(Map.of("status", "error", "message", ex.getMessage()));
+        }
+
+        // Im Anfrage-Thread lesen: bei einem Cache-Miss ist die Lösung lazy, der Worker bekommt nur die Werte
+        GradedExercise exercise = GradedExercise.of(exerciseOpt.get());
+        Long userId = user.getId();
+        String source = request.source();
+        SubmissionJob job;
+        try {
+            job = submissionScheduler.submit(user.getUsername(), id, () -> {
+                SubmissionResult result = submissionService.grade(exercise, source);
+                if (result.isAccepted()) {
+                    recordCompletion(userId, id);
+                }
+                return result;
+            });
+        } catch (SubmissionRejectedException ex) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                    .body(Map.of("status", "error", "message", ex.getMessage(),
+                            "retryAfterSeconds", ex.getRetryAfterSeconds()));
+        }
+
+        log.debug("Queued submission {} of '{}' for exercise {}", job.getId(), user.getUsername(), id);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(Map.of("status", "success", "submissionId", job.getId(),
+                        "state", job.getState().name(), "pollUrl", "/submission/" + job.getId()));
+    }
+
+    @GetMapping("/submission/{submissionId}")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> poll(@PathVariable String submissionId, AuthenticatedUser user) {
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("status", "error", "message", "Nicht autorisiert"));
+        }
+        Optional<SubmissionJob> jobOpt = submissionScheduler.find(submissionId, user.getUsername());
+        if (jobOpt.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("status", "error", "message", "Abgabe nicht gefunden"));
+        }
+
+        SubmissionJob job = jobOpt.get();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", "success");
+        body.put("submissionId", job.getId());
+        body.put("exerciseId", job.getExerciseId());
+        body.put("state", job.getState().name());
+        SubmissionResult result = job.getResult();
+        if (result != null) {
+            body.put("verdict", result.getVerdict().name());
+            body.put("verdictText", result.getVerdict().getDisplayName());
+            body.put("accepted", result.isAccepted());
+            body.put("message", result.getMessage());
+            body.put("output", result.getOutput());
+            body.put("firstDifferentLine", result.getFirstDifferentLine());
+            body.put("cached", result.isCached());
+        }
+        return ResponseEntity.ok(body);
+    }
+
+    private void recordCompletion(Long userId, Long exerciseId) {
+        try {
+            userRepository.insertCompletion(userId, exerciseId);
+        } catch (DataIntegrityViolationException ex) {
+            // Bereits parallel gespeichert
+        }
+    }
+
+    /**
+     * Nur der Quelltext; bewertet wird ausschließlich mit Eingaben des Servers, damit die Eingabe nicht
+     * so gewählt werden kann, dass Abgabe und Musterlösung trivial übereinstimmen.
+     */
+    public record SubmissionRequest(String source) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.prog1learnapp.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Fingerabdruck des zuletzt vollständig eingespielten Lehrinhalts.
+ */
+@Entity
+@Table(name = "content_version")
+public class ContentVersion {
+
+    public static final String CATALOG = "catalog";
+
+    @Id
+    @Column(length = 32)
+    private String name;
+
+    @Column(length = 64, nullable = false)
+    private String fingerprint;
+
+    @Column(name = "seeded_at", nullable = false)
+    private LocalDateTime seededAt;
+
+    public ContentVersion() {
+    }
+
+    public ContentVersion(String name, String fingerprint) {
+        this.name = name;
+        this.fingerprint = fingerprint;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        this.seededAt = LocalDateTime.now();
+    }
+
+    // Getter/Setter
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getFingerprint() { return fingerprint; }
+    public void setFingerprint(String fingerprint) { this.fingerprint = fingerprint; }
+
+    public LocalDateTime getSeededAt() { return seededAt; }
+}
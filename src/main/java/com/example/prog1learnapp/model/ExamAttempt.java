@@ -0,0 +1,78 @@
+package com.example.prog1learnapp.model;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Persistierter Exam-Versuch. Die HTTP-Session hält nur noch die ID.
+ * Die ID wird beim Anlegen vergeben; {@link Persistable} sorgt dafür, dass {@code save()} einen neuen
+ * Versuch direkt einfügt, statt ihn vorher per {@code merge} nachzuschlagen.
+ */
+@Entity
+@Table(name = "exam_attempts")
+public class ExamAttempt implements Persistable<String> {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(nullable = false)
+    private String username;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "exam_attempt_exercises", joinColumns = @JoinColumn(name = "attempt_id"))
+    @OrderColumn(name = "position_in_attempt")
+    @Column(name = "exercise_id", nullable = false)
+    private List<Long> selectedExerciseIds = new ArrayList<>();
+
+    // Wird ausschließlich per JDBC-Batch vom ExamCompletionBuffer geschrieben, nie über JPA geändert.
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "exam_attempt_completions", joinColumns = @JoinColumn(name = "attempt_id"))
+    @Column(name = "exercise_id", nullable = false)
+    private Set<Long> completedExerciseIds = new HashSet<>();
+
+    @Transient
+    private boolean isNew = true;
+
+    public ExamAttempt() {}
+
+    public ExamAttempt(String id, String username, Instant createdAt, List<Long> selectedExerciseIds) {
+        this.id = id;
+        this.username = username;
+        this.createdAt = createdAt;
+        this.selectedExerciseIds = new ArrayList<>(selectedExerciseIds);
+    }
+
+    @Override
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getUsername() { return username; }
+    public void setUsername(String username) { this.username = username; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+
+    public List<Long> getSelectedExerciseIds() { return selectedExerciseIds; }
+    public void setSelectedExerciseIds(List<Long> selectedExerciseIds) {
+        this.selectedExerciseIds = selectedExerciseIds;
+    }
+
+    public Set<Long> getCompletedExerciseIds() { return completedExerciseIds; }
+
+    @Override
+    public boolean isNew() { return isNew; }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() { this.isNew = false; }
+}
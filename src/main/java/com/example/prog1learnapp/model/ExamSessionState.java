@@ -1,56 +1,105 @@
 package com.example.prog1learnapp.model;
 
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 import java.io.Serial;
-import java.io.Serializable;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
-public class ExamSessionState implements Serializable {
+/**
+ * Zustand eines Exam-Versuchs. Intern kompakt gehalten: Aufgaben-IDs als {@code long[]} in
+ * Auswahlreihenfolge, Abschlüsse als Bitmaske über diese Reihenfolge und die Versuchs-ID als UUID.
+ * Die Serialisierung schreibt genau diese Felder (siehe {@link #writeExternal(ObjectOutput)}).
+ */
+public class ExamSessionState implements Externalizable {
 
     @Serial
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
 
-    private String attemptId = UUID.randomUUID().toString();
-    private List<Long> selectedExerciseIds = new ArrayList<>();
-    private Set<Long> completedExerciseIds = new HashSet<>();
+    private static final byte FORMAT_VERSION = 1;
+
+    /**
+     * Obergrenze für die Auswahl eines Versuchs; schützt beim Einlesen vor Allokationen aus
+     * beschädigten oder manipulierten Sitzungsdaten.
+     */
+    public static final int MAX_SELECTED_EXERCISES = 1_000;
+
+    private UUID attemptId = UUID.randomUUID();
+    private long[] selectedExerciseIds = new long[0];
+    private long[] completedMask = new long[0];
     private Instant createdAt = Instant.now();
 
     public ExamSessionState() {
     }
 
     public ExamSessionState(List<Long> selectedExerciseIds) {
-        this.attemptId = UUID.randomUUID().toString();
-        this.selectedExerciseIds = new ArrayList<>(selectedExerciseIds);
-        this.completedExerciseIds = new HashSet<>();
-        this.createdAt = Instant.now();
+        setSelectedExerciseIds(selectedExerciseIds);
     }
 
     public String getAttemptId() {
-        return attemptId;
+        return attemptId.toString();
     }
 
     public void setAttemptId(String attemptId) {
-        this.attemptId = attemptId;
+        this.attemptId = UUID.fromString(attemptId);
     }
 
+    /**
+     * Ausgewählte Aufgaben in Auswahlreihenfolge (nicht veränderbar).
+     */
     public List<Long> getSelectedExerciseIds() {
-        return selectedExerciseIds;
+        List<Long> ids = new ArrayList<>(selectedExerciseIds.length);
+        for (long id : selectedExerciseIds) {
+            ids.add(id);
+        }
+        return Collections.unmodifiableList(ids);
     }
 
+    /**
+     * Setzt die Auswahl neu; bisherige Abschlüsse werden dabei verworfen.
+     */
     public void setSelectedExerciseIds(List<Long> selectedExerciseIds) {
-        this.selectedExerciseIds = selectedExerciseIds;
+        if (selectedExerciseIds.size() > MAX_SELECTED_EXERCISES) {
+            throw new IllegalArgumentException("Zu viele ausgewaehlte Aufgaben: " + selectedExerciseIds.size()
+                    + " (maximal " + MAX_SELECTED_EXERCISES + ")");
+        }
+        long[] ids = new long[selectedExerciseIds.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = selectedExerciseIds.get(i);
+        }
+        this.selectedExerciseIds = ids;
+        this.completedMask = new long[maskLength(ids.length)];
     }
 
+    /**
+     * Erledigte Aufgaben in Auswahlreihenfolge (nicht veränderbar).
+     */
     public Set<Long> getCompletedExerciseIds() {
-        return completedExerciseIds;
+        Set<Long> completed = new LinkedHashSet<>();
+        for (int i = 0; i < selectedExerciseIds.length; i++) {
+            if (isCompletedAt(i)) {
+                completed.add(selectedExerciseIds[i]);
+            }
+        }
+        return Collections.unmodifiableSet(completed);
     }
 
+    /**
+     * Übernimmt die Abschlüsse; IDs, die nicht Teil der Auswahl sind, werden ignoriert.
+     */
     public void setCompletedExerciseIds(Set<Long> completedExerciseIds) {
-        this.completedExerciseIds = completedExerciseIds;
+        completedMask = new long[maskLength(selectedExerciseIds.length)];
+        for (Long exerciseId : completedExerciseIds) {
+            markCompleted(exerciseId);
+        }
     }
 
     public Instant getCreatedAt() {
@@ -62,10 +111,71 @@ public class ExamSessionState implements Serializable {
     }
 
     public boolean isExerciseSelected(Long exerciseId) {
-        return selectedExerciseIds.contains(exerciseId);
+        return indexOf(exerciseId) >= 0;
     }
 
     public void markCompleted(Long exerciseId) {
-        completedExerciseIds.add(exerciseId);
+        int index = indexOf(exerciseId);
+        if (index >= 0) {
+            completedMask[index >>> 6] |= 1L << index;
+        }
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeByte(FORMAT_VERSION);
+        out.writeLong(attemptId.getMostSignificantBits());
+        out.writeLong(attemptId.getLeastSignificantBits());
+        out.writeLong(createdAt.getEpochSecond());
+        out.writeInt(createdAt.getNano());
+        out.writeInt(selectedExerciseIds.length);
+        for (long id : selectedExerciseIds) {
+            out.writeLong(id);
+        }
+        for (long word : completedMask) {
+            out.writeLong(word);
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+        byte version = in.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new InvalidObjectException("Unbekanntes ExamSessionState-Format: " + version);
+        }
+        attemptId = new UUID(in.readLong(), in.readLong());
+        createdAt = Instant.ofEpochSecond(in.readLong(), in.readInt());
+        int size = in.readInt();
+        if (size < 0 || size > MAX_SELECTED_EXERCISES) {
+            throw new InvalidObjectException("Ungueltige Anzahl ausgewaehlter Aufgaben: " + size);
+        }
+        selectedExerciseIds = new long[size];
+        for (int i = 0; i < size; i++) {
+            selectedExerciseIds[i] = in.readLong();
+        }
+        completedMask = new long[maskLength(size)];
+        for (int i = 0; i < completedMask.length; i++) {
+            completedMask[i] = in.readLong();
+        }
+    }
+
+    private int indexOf(Long exerciseId) {
+        if (exerciseId == null) {
+            return -1;
+        }
+        for (int i = 0; i < selectedExerciseIds.length; i++) {
+            if (selectedExerciseIds[i] == exerciseId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isCompletedAt(int index) {
+        return (completedMask[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private static int maskLength(int selectedCount) {
+        return (selectedCount + 63) >>> 6;
     }
 }
@@ -1,9 +1,12 @@
 package com.example.prog1learnapp.model;
 
+import com.example.prog1learnapp.service.CatalogChangeListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.LazyGroup;
 
 
 @Entity
+@EntityListeners(CatalogChangeListener.class)
 public class Exercise {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -14,15 +17,32 @@ public class Exercise {
     @Column(length = 2000)
     private String description;
 
+    // Code-Spalten werden erst beim Zugriff gemeinsam nachgeladen (Bytecode-Enhancement, siehe pom.xml)
     @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("code")
     private String starterCode;
 
     @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("code")
     private String solution;
 
+    // Server-seitige Eingaben für die automatische Bewertung, Fälle durch eine Zeile "---" getrennt
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("code")
+    @Column(name = "test_inputs")
+    private String testInputs;
+
     private String difficulty;
 
-    @ManyToOne
+    // Reihenfolge innerhalb der Lektion, unabhängig von der Sortierung der Datenbank
+    @Column(name = "position_in_lesson")
+    private Integer position;
+
+    // Aufrufer brauchen nur die Lektions-ID, die der Proxy ohne Abfrage liefert
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "lesson_id")
     private Lesson lesson;
 
@@ -42,9 +62,15 @@ public class Exercise {
     public String getSolution() { return solution; }
     public void setSolution(String solution) { this.solution = solution; }
 
+    public String getTestInputs() { return testInputs; }
+    public void setTestInputs(String testInputs) { this.testInputs = testInputs; }
+
     public String getDifficulty() { return difficulty; }
     public void setDifficulty(String difficulty) { this.difficulty = difficulty; }
 
+    public Integer getPosition() { return position; }
+    public void setPosition(Integer position) { this.position = position; }
+
 
     public Lesson getLesson() { return lesson; }
     public void setLesson(Lesson lesson) { this.lesson = lesson; }
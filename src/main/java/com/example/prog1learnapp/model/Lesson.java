@@ -1,10 +1,12 @@
 package com.example.prog1learnapp.model;
 
+import com.example.prog1learnapp.service.CatalogChangeListener;
 import jakarta.persistence.*;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(CatalogChangeListener.class)
 public class Lesson {
     @Id
     private Long id;
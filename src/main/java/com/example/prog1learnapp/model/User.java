@@ -1,8 +1,8 @@
 package com.example.prog1learnapp.model;
 
 import jakarta.persistence.*;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashSet;
+import java.util.Set;
 
 @Entity
 @Table(name = "users")
@@ -18,9 +18,14 @@ public class User {
 
     private String displayName;
 
-    @ElementCollection
-    @CollectionTable(name = "completed_exercises")
-    private List<Long> completedExercises = new ArrayList<>();
+    // Set-Semantik: Primärschlüssel (user_id, completed_exercises), Änderungen betreffen nur einzelne Zeilen.
+    // Ältere Datenbanken erhalten den Schlüssel über CompletionTableMigration, nicht über ddl-auto.
+    // Der Spaltenname der Übungs-ID bleibt für bestehende Daten unverändert.
+    // Bewusst lazy: Seiten lesen nur gezielte Ausschnitte über das UserRepository.
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "completed_exercises", joinColumns = @JoinColumn(name = "user_id"))
+    @Column(name = "completed_exercises", nullable = false)
+    private Set<Long> completedExercises = new HashSet<>();
 
     // Getter/Setter
     public Long getId() { return id; }
@@ -35,8 +40,8 @@ public class User {
     public String getDisplayName() { return displayName; }
     public void setDisplayName(String displayName) { this.displayName = displayName; }
 
-    public List<Long> getCompletedExercises() { return completedExercises; }
-    public void setCompletedExercises(List<Long> completedExercises) {
+    public Set<Long> getCompletedExercises() { return completedExercises; }
+    public void setCompletedExercises(Set<Long> completedExercises) {
         this.completedExercises = completedExercises;
     }
-}
\ No newline at end of file
+}
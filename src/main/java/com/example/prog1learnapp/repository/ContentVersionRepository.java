@@ -0,0 +1,33 @@
+package com.example.prog1learnapp.repository;
+
+import com.example.prog1learnapp.model.ContentVersion;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface ContentVersionRepository extends JpaRepository<ContentVersion, String> {
+
+    /**
+     * Legt die Zeile mit leerem Fingerabdruck an, falls sie fehlt, damit es eine Zeile zum Sperren gibt.
+     * Legen zwei Instanzen sie gleichzeitig an, scheitert eine am Primärschlüssel.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO content_version (name, fingerprint, seeded_at) " +
+            "SELECT :name, '', CURRENT_TIMESTAMP WHERE NOT EXISTS " +
+            "(SELECT 1 FROM content_version WHERE name = :name)", nativeQuery = true)
+    int createIfAbsent(@Param("name") String name);
+
+    /**
+     * Liest die Zeile mit {@code SELECT ... FOR UPDATE}; die Sperre gilt bis zum Ende der Transaktion.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT v FROM ContentVersion v WHERE v.name = :name")
+    Optional<ContentVersion> findForUpdate(@Param("name") String name);
+}
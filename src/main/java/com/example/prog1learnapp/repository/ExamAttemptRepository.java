@@ -0,0 +1,10 @@
+package com.example.prog1learnapp.repository;
+
+import com.example.prog1learnapp.model.ExamAttempt;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface ExamAttemptRepository extends JpaRepository<ExamAttempt, String> {
+    Optional<ExamAttempt> findByIdAndUsername(String id, String username);
+}
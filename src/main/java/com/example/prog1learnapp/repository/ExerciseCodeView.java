@@ -0,0 +1,12 @@
+package com.example.prog1learnapp.repository;
+
+/**
+ * Starter-Code, Lösung und Testeingaben einer Übung. Die Felder sind lazy; beim Katalog-Reload werden sie
+ * für alle Übungen in einer Abfrage geholt statt einzeln je Entity.
+ */
+public interface ExerciseCodeView {
+    Long getId();
+    String getStarterCode();
+    String getSolution();
+    String getTestInputs();
+}
@@ -2,12 +2,42 @@ package com.example.prog1learnapp.repository;
 
 import com.example.prog1learnapp.model.Exercise;
 import org.springframework.data.jpa.repository.JpaRepository;
-import java.util.Collection;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
-import java.util.Optional;
 
 public interface ExerciseRepository extends JpaRepository<Exercise, Long> {
-    List<Exercise> findByLessonId(Long lessonId);
-    List<Exercise> findByLessonIdIn(Collection<Long> lessonIds);
-    Optional<Exercise> findByTitleAndLessonId(String title, Long lessonId);
+
+    /**
+     * Titel der vorhandenen Übungen einer Lektion; Grundlage für den Seed-Abgleich.
+     */
+    @Query("SELECT e.title FROM Exercise e WHERE e.lesson.id = :lessonId")
+    List<String> findTitlesByLessonId(@Param("lessonId") Long lessonId);
+
+    /**
+     * Übungen einer Lektion in fester Reihenfolge: Position, danach ID für Altdaten ohne Position.
+     * Die Lektion wird nicht mitgeladen; sie bleibt ein Proxy.
+     */
+    @Query("SELECT e FROM Exercise e WHERE e.lesson.id = :lessonId " +
+            "ORDER BY e.position ASC NULLS LAST, e.id ASC")
+    List<Exercise> findByLessonIdOrdered(@Param("lessonId") Long lessonId);
+
+    /**
+     * Starter-Code und Lösung aller Übungen in einem Roundtrip.
+     */
+    @Query("SELECT e.id AS id, e.starterCode AS starterCode, e.solution AS solution, e.testInputs AS testInputs FROM Exercise e")
+    List<ExerciseCodeView> findAllCode();
+
+    /**
+     * Zählt pro Lektion alle Übungen und die davon vom Benutzer erledigten in einem Roundtrip.
+     */
+    @Query(value = "SELECT e.lesson_id AS \"lessonId\", " +
+            "COUNT(e.id) AS \"totalCount\", " +
+            "COUNT(c.completed_exercises) AS \"completedCount\" " +
+            "FROM exercise e " +
+            "LEFT JOIN completed_exercises c " +
+            "ON c.completed_exercises = e.id AND c.user_id = :userId " +
+            "GROUP BY e.lesson_id",
+            nativeQuery = true)
+    List<LessonProgressView> findLessonProgressByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,45 @@
+package com.example.prog1learnapp.repository;
+
+import com.example.prog1learnapp.model.Exercise;
+
+/**
+ * Schlanke Sicht auf eine Übung für Listen (Lektionsseite): ohne Starter-Code und Lösung.
+ * Wird per Konstruktor-Ausdruck direkt aus der Abfrage befüllt, ohne Entities zu laden.
+ */
+public class ExerciseSummary {
+
+    private final Long id;
+    private final Long lessonId;
+    private final String title;
+    private final String description;
+    private final String difficulty;
+    private final Integer position;
+
+    public ExerciseSummary(Long id, Long lessonId, String title, String description, String difficulty,
+                           Integer position) {
+        this.id = id;
+        this.lessonId = lessonId;
+        this.title = title;
+        this.description = description;
+        this.difficulty = difficulty;
+        this.position = position;
+    }
+
+    public static ExerciseSummary of(Exercise exercise) {
+        Long lessonId = exercise.getLesson() != null ? exercise.getLesson().getId() : null;
+        return new ExerciseSummary(exercise.getId(), lessonId, exercise.getTitle(), exercise.getDescription(),
+                exercise.getDifficulty(), exercise.getPosition());
+    }
+
+    public Long getId() { return id; }
+
+    public Long getLessonId() { return lessonId; }
+
+    public String getTitle() { return title; }
+
+    public String getDescription() { return description; }
+
+    public String getDifficulty() { return difficulty; }
+
+    public Integer getPosition() { return position; }
+}
@@ -0,0 +1,29 @@
+package com.example.prog1learnapp.repository;
+
+import com.example.prog1learnapp.model.Lesson;
+
+/**
+ * Kopf einer Lektion (ID, Titel, Kurzbeschreibung) ohne den Lektionsinhalt.
+ */
+public class LessonHeader {
+
+    private final Long id;
+    private final String title;
+    private final String shortDescription;
+
+    public LessonHeader(Long id, String title, String shortDescription) {
+        this.id = id;
+        this.title = title;
+        this.shortDescription = shortDescription;
+    }
+
+    public static LessonHeader of(Lesson lesson) {
+        return new LessonHeader(lesson.getId(), lesson.getTitle(), lesson.getShortDescription());
+    }
+
+    public Long getId() { return id; }
+
+    public String getTitle() { return title; }
+
+    public String getShortDescription() { return shortDescription; }
+}
@@ -0,0 +1,16 @@
+package com.example.prog1learnapp.repository;
+
+/**
+ * Eine Zeile der Lektionsseiten-Abfrage: Kopf der Lektion plus eine Übung in Listenform.
+ * Bei Lektionen ohne Übungen sind die Übungsfelder {@code null}.
+ */
+public interface LessonPageRow {
+    Long getLessonId();
+    String getLessonTitle();
+    String getLessonShortDescription();
+    Long getExerciseId();
+    String getTitle();
+    String getDescription();
+    String getDifficulty();
+    Integer getPosition();
+}
@@ -0,0 +1,11 @@
+package com.example.prog1learnapp.repository;
+
+/**
+ * Projektion des Lernfortschritts einer Lektion für einen Benutzer.
+ * Wird direkt aus einer gruppierten Abfrage befüllt, ohne Entities zu laden.
+ */
+public interface LessonProgressView {
+    Long getLessonId();
+    Long getTotalCount();
+    Long getCompletedCount();
+}
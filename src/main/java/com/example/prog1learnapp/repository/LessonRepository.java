@@ -2,6 +2,21 @@ package com.example.prog1learnapp.repository;
 
 import com.example.prog1learnapp.model.Lesson;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface LessonRepository extends JpaRepository<Lesson, Long> {
-}
\ No newline at end of file
+
+    /**
+     * Kopf einer Lektion und ihre Übungen in Listenform in einem Roundtrip, ohne Lektionsinhalt und Code.
+     * Reihenfolge wie {@link ExerciseRepository#findByLessonIdOrdered(Long)}.
+     */
+    @Query("SELECT l.id AS lessonId, l.title AS lessonTitle, l.shortDescription AS lessonShortDescription, " +
+            "e.id AS exerciseId, e.title AS title, e.description AS description, " +
+            "e.difficulty AS difficulty, e.position AS position " +
+            "FROM Lesson l LEFT JOIN l.exercises e WHERE l.id = :lessonId " +
+            "ORDER BY e.position ASC NULLS LAST, e.id ASC")
+    List<LessonPageRow> findPageRows(@Param("lessonId") Long lessonId);
+}
@@ -2,9 +2,38 @@ package com.example.prog1learnapp.repository;
 
 import com.example.prog1learnapp.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.Optional;
+import java.util.Set;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
     boolean existsByUsername(String username);
-}
\ No newline at end of file
+
+    @Query("SELECT CASE WHEN COUNT(c) > 0 THEN true ELSE false END " +
+            "FROM User u JOIN u.completedExercises c WHERE u.id = :userId AND c = :exerciseId")
+    boolean existsCompletion(@Param("userId") Long userId, @Param("exerciseId") Long exerciseId);
+
+    /**
+     * Erledigte Übungen des Benutzers, beschränkt auf eine Lektion.
+     */
+    @Query("SELECT c FROM User u JOIN u.completedExercises c, Exercise e " +
+            "WHERE u.id = :userId AND e.id = c AND e.lesson.id = :lessonId")
+    Set<Long> findCompletedExerciseIdsByLesson(@Param("userId") Long userId, @Param("lessonId") Long lessonId);
+
+    /**
+     * Speichert eine erledigte Übung als einzelne Zeile, ohne die übrigen Einträge des Benutzers anzufassen.
+     * Portabel für H2 und PostgreSQL; liefert 0, wenn die Übung bereits erledigt war.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO completed_exercises (user_id, completed_exercises) " +
+            "SELECT CAST(:userId AS BIGINT), CAST(:exerciseId AS BIGINT) " +
+            "WHERE NOT EXISTS (SELECT 1 FROM completed_exercises " +
+            "WHERE user_id = :userId AND completed_exercises = :exerciseId)",
+            nativeQuery = true)
+    int insertCompletion(@Param("userId") Long userId, @Param("exerciseId") Long exerciseId);
+}
@@ -0,0 +1,285 @@
+package com.example.prog1learnapp.service;
+
+import com.example.prog1learnapp.model.Exercise;
+import com.example.prog1learnapp.model.Lesson;
+import com.example.prog1learnapp.repository.ExerciseRepository;
+import com.example.prog1learnapp.repository.LessonHeader;
+import com.example.prog1learnapp.repository.LessonRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Read-Through-Cache für Lektionen und Übungen.
+ * Der Inhalt wird beim Start einmal geladen und über {@link #reload()} durch einen neuen Snapshot ersetzt.
+ * Änderungen über JPA ({@link CatalogChangeListener}) verwerfen den Snapshot nach Ende der Transaktion;
+ * innerhalb der ändernden Transaktion gehen alle Lesezugriffe an die Datenbank.
+ * Unbekannte IDs werden an die Datenbank weitergereicht.
+ */
+@Service
+public class CatalogCache implements ExerciseCatalog {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogCache.class);
+
+    /** Ersatz für den Snapshot in einer Transaktion mit eigenen Katalogänderungen: jeder Zugriff ist ein Miss. */
+    private static final CatalogSnapshot BYPASS = CatalogSnapshot.of(0, List.of(), List.of());
+
+    private final LessonRepository lessonRepository;
+    private final ExerciseRepository exerciseRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final AtomicLong reloads = new AtomicLong();
+    private final Object reloadLock = new Object();
+    /** Ressourcen-Schlüssel, der eine Transaktion mit Katalogänderungen markiert. */
+    private final Object transactionChanges = new Object();
+
+    private volatile CatalogSnapshot snapshot;
+
+    public CatalogCache(LessonRepository lessonRepository,
+                        ExerciseRepository exerciseRepository,
+                        PlatformTransactionManager transactionManager) {
+        this.lessonRepository = lessonRepository;
+        this.exerciseRepository = exerciseRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Lädt alle Lektionen und Übungen neu und tauscht den Snapshot atomar aus.
+     * Der Snapshot enthält bewusst auch Starter-Code, Lösung und Testeingaben aller Übungen ({@code findAllCode}):
+     * Übungsseite, {@link StaticFragmentCache} und das Vorberechnen der Referenzausgaben brauchen sie, und ein
+     * Nachladen je Übung wäre eine Abfrage pro Seitenaufruf. Listen und Lektionsseite verwenden die Code-Spalten nicht.
+     */
+    public CatalogSnapshot reload() {
+        synchronized (reloadLock) {
+            long version = reloads.incrementAndGet();
+            // Lektionen zuerst: die Lektions-Referenzen der Übungen lösen dann aus dem Persistenzkontext auf
+            CatalogSnapshot loaded = transactionTemplate.execute(status ->
+                    CatalogSnapshot.of(version, lessonRepository.findAll(), exerciseRepository.findAll(),
+                            exerciseRepository.findAllCode()));
+            snapshot = loaded;
+            // Der Snapshot enthält jetzt auch die noch offenen Änderungen der laufenden Transaktion
+            TransactionSynchronizationManager.unbindResourceIfPossible(transactionChanges);
+            log.info("Catalog snapshot version {} loaded with {} lessons and {} exercises",
+                    version, loaded.getLessons().size(), loaded.getExerciseCount());
+            return loaded;
+        }
+    }
+
+    /**
+     * Liefert den aktuellen Snapshot und lädt ihn beim ersten Zugriff.
+     */
+    @Override
+    public CatalogSnapshot snapshot() {
+        CatalogSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (reloadLock) {
+            current = snapshot;
+            return current != null ? current : reload();
+        }
+    }
+
+    /**
+     * Meldet eine Änderung an Lektionen oder Übungen. Ohne Transaktion wird der Snapshot sofort verworfen,
+     * sonst nach Commit oder Rollback; bis dahin liest die ändernde Transaktion an ihm vorbei.
+     */
+    void catalogChanged() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(transactionChanges)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(transactionChanges, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(transactionChanges);
+                // auch nach einem Rollback: ein Reload in der Transaktion kann deren Änderungen enthalten
+                invalidate();
+            }
+        });
+    }
+
+    /**
+     * Verwirft den Snapshot; der nächste Zugriff lädt ihn neu. Wartet auf einen laufenden Reload,
+     * damit dieser keinen veralteten Stand mehr einsetzt.
+     */
+    private void invalidate() {
+        synchronized (reloadLock) {
+            if (snapshot != null) {
+                snapshot = null;
+                log.debug("Catalog snapshot invalidated after a catalog change");
+            }
+        }
+    }
+
+    /**
+     * Snapshot für die Lesezugriffe; in einer Transaktion mit eigenen Katalogänderungen ein leerer Snapshot,
+     * sodass alle Zugriffe als Miss an die Datenbank gehen.
+     */
+    private CatalogSnapshot readableSnapshot() {
+        return TransactionSynchronizationManager.hasResource(transactionChanges) ? BYPASS : snapshot();
+    }
+
+    public List<Lesson> findAllLessons() {
+        if (TransactionSynchronizationManager.hasResource(transactionChanges)) {
+            misses.increment();
+            return lessonRepository.findAll(Sort.by("id"));
+        }
+        hits.increment();
+        return snapshot().getLessons();
+    }
+
+    public Optional<Lesson> findLesson(Long lessonId) {
+        Lesson lesson = readableSnapshot().getLesson(lessonId);
+        if (lesson != null) {
+            hits.increment();
+            return Optional.of(lesson);
+        }
+        misses.increment();
+        return lessonId != null ? lessonRepository.findById(lessonId) : Optional.empty();
+    }
+
+    @Override
+    public Optional<Exercise> findExercise(Long exerciseId) {
+        Exercise exercise = readableSnapshot().getExercise(exerciseId);
+        if (exercise != null) {
+            hits.increment();
+            return Optional.of(exercise);
+        }
+        misses.increment();
+        return exerciseId != null ? exerciseRepository.findById(exerciseId) : Optional.empty();
+    }
+
+    /**
+     * Vorkomprimierter Lektionsinhalt aus dem Snapshot; bei einem Miss aus der Datenbank gebaut und nicht behalten.
+     */
+    public Optional<ContentFragment> findLessonContent(Long lessonId) {
+        ContentFragment fragment = readableSnapshot().getLessonContent(lessonId);
+        if (fragment != null) {
+            hits.increment();
+            return Optional.of(fragment);
+        }
+        misses.increment();
+        return lessonId != null ? lessonRepository.findById(lessonId).map(lesson -> ContentFragment.of(lesson.getContent()))
+                : Optional.empty();
+    }
+
+    /**
+     * Vorkomprimierte Aufgabenstellung aus dem Snapshot; bei einem Miss aus der Datenbank gebaut und nicht behalten.
+     */
+    public Optional<ContentFragment> findExerciseDescription(Long exerciseId) {
+        ContentFragment fragment = readableSnapshot().getExerciseDescription(exerciseId);
+        if (fragment != null) {
+            hits.increment();
+            return Optional.of(fragment);
+        }
+        misses.increment();
+        return exerciseId != null
+                ? exerciseRepository.findById(exerciseId).map(exercise -> ContentFragment.of(exercise.getDescription()))
+                : Optional.empty();
+    }
+
+    public List<Exercise> findExercisesByLesson(Long lessonId) {
+        CatalogSnapshot current = readableSnapshot();
+        if (current.getLesson(lessonId) != null) {
+            hits.increment();
+            return current.getExercisesByLesson(lessonId);
+        }
+        misses.increment();
+        return lessonId != null ? exerciseRepository.findByLessonIdOrdered(lessonId) : List.of();
+    }
+
+    /**
+     * Kopf und Übungsliste einer Lektion für die Lektionsseite; bei einem Miss eine einzige Abfrage.
+     */
+    public Optional<LessonPage> findLessonPage(Long lessonId) {
+        CatalogSnapshot current = readableSnapshot();
+        Lesson lesson = current.getLesson(lessonId);
+        if (lesson != null) {
+            hits.increment();
+            return Optional.of(new LessonPage(LessonHeader.of(lesson), current.getExerciseSummariesByLesson(lessonId)));
+        }
+        misses.increment();
+        return lessonId != null ? Optional.ofNullable(LessonPage.fromRows(lessonRepository.findPageRows(lessonId)))
+                : Optional.empty();
+    }
+
+    /**
+     * Ermittelt die ID der nächsten Übung in derselben Lektion.
+     */
+    public Long findNextExerciseId(Exercise current) {
+        CatalogSnapshot currentSnapshot = readableSnapshot();
+        if (currentSnapshot.getExercise(current.getId()) != null) {
+            hits.increment();
+            return currentSnapshot.getNavigation().nextExerciseId(current.getId());
+        }
+        misses.increment();
+        return navigationFromDatabase(current).nextExerciseId(current.getId());
+    }
+
+    /**
+     * Ermittelt die ID der vorherigen Übung in derselben Lektion.
+     */
+    public Long findPreviousExerciseId(Exercise current) {
+        CatalogSnapshot currentSnapshot = readableSnapshot();
+        if (currentSnapshot.getExercise(current.getId()) != null) {
+            hits.increment();
+            return currentSnapshot.getNavigation().previousExerciseId(current.getId());
+        }
+        misses.increment();
+        return navigationFromDatabase(current).previousExerciseId(current.getId());
+    }
+
+    /**
+     * Ermittelt die erste noch offene Übung einer Lektion für die übergebenen erledigten IDs.
+     */
+    public Long findFirstUnfinishedExerciseId(Long lessonId, Set<Long> completedIds) {
+        CatalogSnapshot current = readableSnapshot();
+        if (current.getLesson(lessonId) != null) {
+            hits.increment();
+            return current.getNavigation().firstUnfinishedExerciseId(lessonId, completedIds);
+        }
+        misses.increment();
+        if (lessonId == null) {
+            return null;
+        }
+        return ExerciseNavigationIndex
+                .build(Map.of(lessonId, exerciseRepository.findByLessonIdOrdered(lessonId)))
+                .firstUnfinishedExerciseId(lessonId, completedIds);
+    }
+
+    private ExerciseNavigationIndex navigationFromDatabase(Exercise current) {
+        Long lessonId = current.getLesson().getId();
+        return ExerciseNavigationIndex.build(Map.of(lessonId, exerciseRepository.findByLessonIdOrdered(lessonId)));
+    }
+
+    public long getVersion() {
+        CatalogSnapshot current = snapshot;
+        return current != null ? current.getVersion() : 0;
+    }
+
+    public long getHitCount() { return hits.sum(); }
+
+    public long getMissCount() { return misses.sum(); }
+
+    public long getReloadCount() { return reloads.get(); }
+}
@@ -0,0 +1,28 @@
+package com.example.prog1learnapp.service;
+
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreRemove;
+import jakarta.persistence.PreUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Entity-Listener für {@code Lesson} und {@code Exercise}: meldet jede Änderung über JPA an den
+ * {@link CatalogCache}, damit kein veralteter Snapshot ausgeliefert wird.
+ * Wird von Hibernate über den Spring-Bean-Container erzeugt; der Cache wird erst beim Aufruf aufgelöst,
+ * weil er selbst von den Repositories und damit von der EntityManagerFactory abhängt.
+ */
+public class CatalogChangeListener {
+
+    private final ObjectProvider<CatalogCache> catalogCache;
+
+    public CatalogChangeListener(ObjectProvider<CatalogCache> catalogCache) {
+        this.catalogCache = catalogCache;
+    }
+
+    @PrePersist
+    @PreUpdate
+    @PreRemove
+    void catalogChanged(Object entity) {
+        catalogCache.ifAvailable(CatalogCache::catalogChanged);
+    }
+}
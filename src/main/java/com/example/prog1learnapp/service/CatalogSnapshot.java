@@ -0,0 +1,178 @@
+package com.example.prog1learnapp.service;
+
+import com.example.prog1learnapp.model.Exercise;
+import com.example.prog1learnapp.model.Lesson;
+import com.example.prog1learnapp.repository.ExerciseCodeView;
+import com.example.prog1learnapp.repository.ExerciseSummary;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unveränderlicher Stand aller Lektionen und Übungen.
+ * Enthält eigene Kopien der Entities, damit keine Lazy-Proxies oder verwaltete
+ * Instanzen aus einem Persistence Context nach außen gelangen, und die vorkomprimierten
+ * {@link ContentFragment}s aller Lektionsinhalte und Aufgabenstellungen.
+ */
+public final class CatalogSnapshot {
+
+    private final long version;
+    private final Instant loadedAt;
+    private final List<Lesson> lessons;
+    private final Map<Long, Lesson> lessonsById;
+    private final Map<Long, Exercise> exercisesById;
+    private final Map<Long, List<Exercise>> exercisesByLessonId;
+    private final Map<Long, List<ExerciseSummary>> summariesByLessonId;
+    private final ExerciseNavigationIndex navigation;
+    private final Map<Long, ContentFragment> lessonContents;
+    private final Map<Long, ContentFragment> exerciseDescriptions;
+
+    private CatalogSnapshot(long version,
+                            List<Lesson> lessons,
+                            Map<Long, Exercise> exercisesById,
+                            Map<Long, List<Exercise>> exercisesByLessonId,
+                            ExerciseNavigationIndex navigation) {
+        this.version = version;
+        this.loadedAt = Instant.now();
+        this.lessons = List.copyOf(lessons);
+        Map<Long, Lesson> byId = new HashMap<>();
+        for (Lesson lesson : lessons) {
+            byId.put(lesson.getId(), lesson);
+        }
+        this.lessonsById = Map.copyOf(byId);
+        this.exercisesById = Map.copyOf(exercisesById);
+        this.exercisesByLessonId = Map.copyOf(exercisesByLessonId);
+        Map<Long, List<ExerciseSummary>> summaries = new HashMap<>();
+        exercisesByLessonId.forEach((lessonId, lessonExercises) ->
+                summaries.put(lessonId, lessonExercises.stream().map(ExerciseSummary::of).toList()));
+        this.summariesByLessonId = Map.copyOf(summaries);
+        this.navigation = navigation;
+        Map<Long, ContentFragment> contents = new HashMap<>();
+        lessons.forEach(lesson -> contents.put(lesson.getId(), ContentFragment.of(lesson.getContent())));
+        this.lessonContents = Map.copyOf(contents);
+        Map<Long, ContentFragment> descriptions = new HashMap<>();
+        exercisesById.forEach((id, exercise) -> descriptions.put(id, ContentFragment.of(exercise.getDescription())));
+        this.exerciseDescriptions = Map.copyOf(descriptions);
+    }
+
+    /**
+     * Baut einen Snapshot aus geladenen Entities. Lektionen werden nach ID sortiert,
+     * Übungen innerhalb einer Lektion nach {@link ExerciseNavigationIndex#LESSON_ORDER}.
+     */
+    public static CatalogSnapshot of(long version, Collection<Lesson> lessons, Collection<Exercise> exercises) {
+        return of(version, lessons, exercises, null);
+    }
+
+    /**
+     * Wie {@link #of(long, Collection, Collection)}, übernimmt Starter-Code, Lösung und Testeingaben aber aus {@code codes}
+     * statt aus den Entities, deren Code-Spalten sonst einzeln nachgeladen würden.
+     */
+    public static CatalogSnapshot of(long version, Collection<Lesson> lessons, Collection<Exercise> exercises,
+                                     Collection<ExerciseCodeView> codes) {
+        Map<Long, ExerciseCodeView> codeById = new HashMap<>();
+        if (codes != null) {
+            codes.forEach(code -> codeById.put(code.getId(), code));
+        }
+
+        Map<Long, Lesson> lessonCopies = new LinkedHashMap<>();
+        lessons.stream()
+                .sorted(Comparator.comparing(Lesson::getId))
+                .forEach(lesson -> lessonCopies.put(lesson.getId(), copyOf(lesson)));
+
+        Map<Long, Exercise> exercisesById = new HashMap<>();
+        Map<Long, List<Exercise>> exercisesByLessonId = new HashMap<>();
+        for (Lesson lesson : lessonCopies.values()) {
+            exercisesByLessonId.put(lesson.getId(), new ArrayList<>());
+        }
+
+        exercises.stream()
+                .filter(exercise -> exercise.getLesson() != null)
+                .sorted(ExerciseNavigationIndex.LESSON_ORDER)
+                .forEach(exercise -> {
+                    Lesson lesson = lessonCopies.get(exercise.getLesson().getId());
+                    if (lesson == null) {
+                        return;
+                    }
+                    Exercise copy = copyOf(exercise, lesson, codeById.get(exercise.getId()));
+                    exercisesById.put(copy.getId(), copy);
+                    exercisesByLessonId.get(lesson.getId()).add(copy);
+                });
+
+        exercisesByLessonId.replaceAll((lessonId, lessonExercises) -> List.copyOf(lessonExercises));
+
+        return new CatalogSnapshot(version, new ArrayList<>(lessonCopies.values()),
+                exercisesById, exercisesByLessonId, ExerciseNavigationIndex.build(exercisesByLessonId));
+    }
+
+    public long getVersion() { return version; }
+
+    public Instant getLoadedAt() { return loadedAt; }
+
+    public List<Lesson> getLessons() { return lessons; }
+
+    public int getExerciseCount() { return exercisesById.size(); }
+
+    public Collection<Exercise> getExercises() { return exercisesById.values(); }
+
+    public Lesson getLesson(Long lessonId) {
+        return lessonId != null ? lessonsById.get(lessonId) : null;
+    }
+
+    public Exercise getExercise(Long exerciseId) {
+        return exerciseId != null ? exercisesById.get(exerciseId) : null;
+    }
+
+    /**
+     * Liefert die Übungen einer Lektion, leer für unbekannte Lektionen.
+     */
+    public List<Exercise> getExercisesByLesson(Long lessonId) {
+        if (lessonId == null) {
+            return List.of();
+        }
+        return exercisesByLessonId.getOrDefault(lessonId, List.of());
+    }
+
+    /**
+     * Listenansicht der Übungen einer Lektion, leer für unbekannte Lektionen.
+     */
+    public List<ExerciseSummary> getExerciseSummariesByLesson(Long lessonId) {
+        if (lessonId == null) {
+            return List.of();
+        }
+        return summariesByLessonId.getOrDefault(lessonId, List.of());
+    }
+
+    public ExerciseNavigationIndex getNavigation() { return navigation; }
+
+    public ContentFragment getLessonContent(Long lessonId) {
+        return lessonId != null ? lessonContents.get(lessonId) : null;
+    }
+
+    public ContentFragment getExerciseDescription(Long exerciseId) {
+        return exerciseId != null ? exerciseDescriptions.get(exerciseId) : null;
+    }
+
+    private static Lesson copyOf(Lesson lesson) {
+        return new Lesson(lesson.getId(), lesson.getTitle(), lesson.getShortDescription(), lesson.getContent());
+    }
+
+    private static Exercise copyOf(Exercise exercise, Lesson lesson, ExerciseCodeView code) {
+        Exercise copy = new Exercise();
+        copy.setId(exercise.getId());
+        copy.setTitle(exercise.getTitle());
+        copy.setDescription(exercise.getDescription());
+        copy.setStarterCode(code != null ? code.getStarterCode() : exercise.getStarterCode());
+        copy.setSolution(code != null ? code.getSolution() : exercise.getSolution());
+        copy.setTestInputs(code != null ? code.getTestInputs() : exercise.getTestInputs());
+        copy.setDifficulty(exercise.getDifficulty());
+        copy.setPosition(exercise.getPosition());
+        copy.setLesson(lesson);
+        return copy;
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.prog1learnapp.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Vorberechnetes HTML-Fragment (Lektionsinhalt oder Aufgabenstellung) in allen ausgelieferten Kodierungen.
+ * Das starke ETag ergibt sich aus dem Inhalt und ist je Kodierung verschieden, da sich die Bytes unterscheiden.
+ */
+public final class ContentFragment {
+
+    public static final String IDENTITY = "identity";
+    public static final String GZIP = "gzip";
+    public static final String DEFLATE = "deflate";
+
+    private final Representation identity;
+    private final Representation gzip;
+    private final Representation deflate;
+
+    private ContentFragment(String contentHash, byte[] identity, byte[] gzip, byte[] deflate) {
+        this.identity = new Representation(IDENTITY, identity, "\"" + contentHash + "\"");
+        this.gzip = new Representation(GZIP, gzip, "\"" + contentHash + "-" + GZIP + "\"");
+        this.deflate = new Representation(DEFLATE, deflate, "\"" + contentHash + "-" + DEFLATE + "\"");
+    }
+
+    public static ContentFragment of(String html) {
+        byte[] identity = (html == null ? "" : html).getBytes(StandardCharsets.UTF_8);
+        return new ContentFragment(hash(identity), identity, gzip(identity), deflate(identity));
+    }
+
+    /**
+     * Wählt anhand von {@code Accept-Encoding} die kleinste akzeptierte Darstellung; ohne Angabe unkomprimiert.
+     * Ein Eintrag für die Kodierung selbst hat Vorrang vor {@code *}; {@code identity} ist ohne Eintrag erlaubt,
+     * gzip und deflate nur, wenn sie oder {@code *} genannt sind. Leer, wenn der Client keine Darstellung
+     * akzeptiert (etwa {@code *;q=0} oder {@code identity;q=0} ohne weitere Kodierung).
+     */
+    public Optional<Representation> select(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return Optional.of(identity);
+        }
+        Representation best = null;
+        for (Representation candidate : List.of(identity, gzip, deflate)) {
+            if (accepts(acceptEncoding, candidate.encoding())
+                    && (best == null || candidate.body().length < best.body().length)) {
+                best = candidate;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    public int getSize() {
+        return identity.body().length;
+    }
+
+    private static boolean accepts(String acceptEncoding, String encoding) {
+        Boolean wildcard = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String name = tokens[0].trim().toLowerCase(Locale.ROOT);
+            if (name.equals(encoding)) {
+                return !hasZeroQuality(tokens);
+            }
+            if (name.equals("*")) {
+                wildcard = !hasZeroQuality(tokens);
+            }
+        }
+        if (wildcard != null) {
+            return wildcard;
+        }
+        return IDENTITY.equals(encoding);
+    }
+
+    private static boolean hasZeroQuality(String[] tokens) {
+        for (int i = 1; i < tokens.length; i++) {
+            String parameter = tokens[i].trim().replace(" ", "");
+            if (parameter.startsWith("q=") && isZero(parameter.substring(2))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isZero(String quality) {
+        try {
+            return Double.parseDouble(quality) == 0.0;
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+
+    private static String hash(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            // 128 Bit genügen für ein ETag
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 nicht verfügbar", ex);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length / 3 + 32);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            out.write(bytes);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Fragment konnte nicht komprimiert werden", ex);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] bytes) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length / 3 + 32);
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DeflaterOutputStream out = new DeflaterOutputStream(buffer, deflater)) {
+            out.write(bytes);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Fragment konnte nicht komprimiert werden", ex);
+        } finally {
+            deflater.end();
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Eine auslieferbare Darstellung des Fragments.
+     */
+    public record Representation(String encoding, byte[] body, String etag) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.prog1learnapp.service;
+
+import com.example.prog1learnapp.model.Lesson;
+import com.example.prog1learnapp.repository.LessonProgressView;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fortschrittswerte für das Dashboard, berechnet aus den gruppierten Zählungen pro Lektion.
+ */
+public final class DashboardProgress {
+
+    private final Map<Long, Integer> lessonPercentages;
+    private final int completedCount;
+    private final int totalCount;
+
+    private DashboardProgress(Map<Long, Integer> lessonPercentages, int completedCount, int totalCount) {
+        this.lessonPercentages = lessonPercentages;
+        this.completedCount = completedCount;
+        this.totalCount = totalCount;
+    }
+
+    public static DashboardProgress fromLessonProgress(Collection<? extends LessonProgressView> rows) {
+        Map<Long, Integer> percentages = new HashMap<>();
+        long completed = 0;
+        long total = 0;
+        for (LessonProgressView row : rows) {
+            long lessonTotal = row.getTotalCount() != null ? row.getTotalCount() : 0;
+            long lessonCompleted = row.getCompletedCount() != null ? row.getCompletedCount() : 0;
+            percentages.put(row.getLessonId(), percentage(lessonCompleted, lessonTotal));
+            completed += lessonCompleted;
+            total += lessonTotal;
+        }
+        return new DashboardProgress(percentages, (int) completed, (int) total);
+    }
+
+    /**
+     * Liefert den Fortschritt einer Lektion in Prozent, 0 für Lektionen ohne Übungen.
+     */
+    public int getLessonPercentage(Long lessonId) {
+        return lessonPercentages.getOrDefault(lessonId, 0);
+    }
+
+    /**
+     * Fortschritt in Prozent für jede der übergebenen Lektionen, nach Lektions-ID.
+     */
+    public Map<Long, Integer> getLessonPercentages(Collection<Lesson> lessons) {
+        Map<Long, Integer> percentages = new HashMap<>();
+        for (Lesson lesson : lessons) {
+            percentages.put(lesson.getId(), getLessonPercentage(lesson.getId()));
+        }
+        return percentages;
+    }
+
+    public int getCompletedCount() { return completedCount; }
+
+    public int getTotalCount() { return totalCount; }
+
+    public int getOverallPercentage() {
+        return percentage(completedCount, totalCount);
+    }
+
+    private static int percentage(long completed, long total) {
+        return total > 0 ? (int) ((completed * 100) / total) : 0;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.prog1learnapp.service;
+
+import com.example.prog1learnapp.model.ExamAttempt;
+import com.example.prog1learnapp.model.ExamSessionState;
+import com.example.prog1learnapp.model.Exercise;
+import com.example.prog1learnapp.repository.ExamAttemptRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Verwaltet Exam-Versuche in der Datenbank. Abschlüsse laufen über den {@link ExamCompletionBuffer},
+ * damit viele gleichzeitige Meldungen im Prüfungsfenster gesammelt geschrieben werden.
+ */
+@Service
+public class ExamAttemptService {
+
+    private final ExamAttemptRepository examAttemptRepository;
+    private final ExamSelectionService examSelectionService;
+    private final ExamCompletionBuffer completionBuffer;
+
+    public ExamAttemptService(ExamAttemptRepository examAttemptRepository,
+                              ExamSelectionService examSelectionService,
+                              ExamCompletionBuffer completionBuffer) {
+        this.examAttemptRepository = examAttemptRepository;
+        this.examSelectionService = examSelectionService;
+        this.completionBuffer = completionBuffer;
+    }
+
+    /**
+     * Zieht einen neuen Versuch und speichert ihn für den Benutzer.
+     */
+    @Transactional
+    public ExamSessionState startAttempt(String username, Collection<Long> previousExerciseIds) {
+        ExamSessionState state = examSelectionService.startNewExam(previousExerciseIds);
+        examAttemptRepository.save(new ExamAttempt(
+                state.getAttemptId(), username, state.getCreatedAt(), state.getSelectedExerciseIds()));
+        return state;
+    }
+
+    /**
+     * Lädt einen Versuch des Benutzers inklusive der noch gepufferten Abschlüsse.
+     */
+    @Transactional(readOnly = true)
+    public Optional<ExamSessionState> findAttempt(String attemptId, String username) {
+        if (attemptId == null || username == null) {
+            return Optional.empty();
+        }
+        return examAttemptRepository.findByIdAndUsername(attemptId, username).map(this::toState);
+    }
+
+    public List<Exercise> resolveSelectedExercises(ExamSessionState state) {
+        return examSelectionService.resolveSelectedExercises(state);
+    }
+
+    /**
+     * Prüft die Aufgabe gegen den Versuch und merkt den Abschluss zum gebündelten Schreiben vor.
+     */
+    public void markCompleted(ExamSessionState state, Long exerciseId) {
+        examSelectionService.markCompleted(state, exerciseId);
+        completionBuffer.record(state.getAttemptId(), exerciseId);
+    }
+
+    private ExamSessionState toState(ExamAttempt attempt) {
+        ExamSessionState state = new ExamSessionState(attempt.getSelectedExerciseIds());
+        state.setAttemptId(attempt.getId());
+        state.setCreatedAt(attempt.getCreatedAt());
+        Set<Long> completed = new HashSet<>(attempt.getCompletedExerciseIds());
+        completed.addAll(completionBuffer.pendingFor(attempt.getId()));
+        state.setCompletedExerciseIds(completed);
+        return state;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.prog1learnapp.service;
+
+import com.example.prog1learnapp.model.Difficulty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Deklarative Beschreibung, wie ein Exam zusammengestellt wird (Präfix {@code app.exam.blueprint}).
+ * Ohne Konfiguration gilt der bisherige Aufbau: je eine Aufgabe aus den Lektionen 3-5, 6-8 und 9-11.
+ * Wird beim Start validiert, eine fehlerhafte Konfiguration verhindert den Start statt des ersten Exams.
+ */
+@ConfigurationProperties(prefix = "app.exam.blueprint")
+@Validated
+public class ExamBlueprint {
+
+    /**
+     * Aufgaben des vorherigen Versuchs werden nach Möglichkeit nicht erneut gezogen.
+     */
+    private boolean noRepeat = true;
+
+    @NotEmpty
+    private List<@NotNull @Valid Band> bands = new ArrayList<>(List.of(
+            new Band("3-5", List.of(3L, 4L, 5L), 1),
+            new Band("6-8", List.of(6L, 7L, 8L), 1),
+            new Band("9-11", List.of(9L, 10L, 11L), 1)));
+
+    public boolean isNoRepeat() { return noRepeat; }
+    public void setNoRepeat(boolean noRepeat) { this.noRepeat = noRepeat; }
+
+    public List<Band> getBands() { return bands; }
+    public void setBands(List<Band> bands) { this.bands = bands; }
+
+    public int getExerciseCount() {
+        int total = 0;
+        for (Band band : bands) {
+            total += band.getCount();
+        }
+        return total;
+    }
+
+    /**
+     * Ein Lektionsbereich, aus dem {@code count} verschiedene Aufgaben gezogen werden.
+     */
+    public static class Band {
+
+        private String label;
+
+        @NotEmpty
+        private List<@NotNull @Positive Long> lessonIds = new ArrayList<>();
+
+        @Min(1)
+        private int count = 1;
+
+        /**
+         * Mindestanzahl Aufgaben je Schwierigkeitsgrad; der Rest wird aus allen Aufgaben des Bereichs gezogen.
+         */
+        private Map<@NotNull Difficulty, @NotNull @PositiveOrZero Integer> difficultyQuotas = new LinkedHashMap<>();
+
+        /**
+         * Relatives Gewicht je Lektion (Standard 1.0). Gewicht 0 schließt eine Lektion aus.
+         */
+        private Map<@NotNull Long, @NotNull @PositiveOrZero Double> lessonWeights = new LinkedHashMap<>();
+
+        public Band() {}
+
+        public Band(String label, List<Long> lessonIds, int count) {
+            this.label = label;
+            this.lessonIds = new ArrayList<>(lessonIds);
+            this.count = count;
+        }
+
+        public String getLabel() { return label; }
+        public void setLabel(String label) { this.label = label; }
+
+        public List<Long> getLessonIds() { return lessonIds; }
+        public void setLessonIds(List<Long> lessonIds) { this.lessonIds = lessonIds; }
+
+        public int getCount() { return count; }
+        public void setCount(int count) { this.count = count; }
+
+        public Map<Difficulty, Integer> getDifficultyQuotas() { return difficultyQuotas; }
+        public void setDifficultyQuotas(Map<Difficulty, Integer> difficultyQuotas) {
+            this.difficultyQuotas = difficultyQuotas;
+        }
+
+        public Map<Long, Double> getLessonWeights() { return lessonWeights; }
+        public void setLessonWeights(Map<Long, Double> lessonWeights) { this.lessonWeights = lessonWeights; }
+
+        @AssertTrue(message = "Die Summe der Schwierigkeitsquoten darf count nicht übersteigen")
+        public boolean isQuotasWithinCount() {
+            return difficultyQuotas.values().stream().mapToInt(quota -> quota != null ? quota : 0).sum() <= count;
+        }
+
+        @AssertTrue(message = "Gewichte sind nur für Lektionen des Bereichs erlaubt")
+        public boolean isWeightsWithinLessons() {
+            return lessonIds.containsAll(lessonWeights.keySet());
+        }
+
+        public double weightOf(Long lessonId) {
+            return lessonWeights.getOrDefault(lessonId, 1.0);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.example.prog1learnapp.service;
+
+import com.example.prog1learnapp.model.Difficulty;
+import com.example.prog1learnapp.model.Exercise;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+
+/**
+ * Vorindizierte Übungs-IDs je Bereich eines {@link ExamBlueprint}, abgeleitet aus einem {@link CatalogSnapshot}.
+ * Jeder Bereich hält ein {@code long[]} aller Kandidaten sowie eines je Schwierigkeitsgrad,
+ * bei Lektionsgewichten zusätzlich die kumulierten Gewichte für eine Ziehung per Binärsuche.
+ * Ein Versuch mit k Aufgaben kostet damit erwartet O(k) Zufallsziehungen ohne Datenbankzugriff.
+ */
+final class ExamCandidatePools {
+
+    /**
+     * Fehlversuche (Duplikat oder im Vorversuch gestellt), bevor linear nach freien Kandidaten gesucht wird.
+     */
+    private static final int MAX_REJECTIONS = 32;
+
+    private static final Difficulty[] DIFFICULTIES = Difficulty.values();
+
+    private final long catalogVersion;
+    private final BandPool[] bands;
+    private final int exerciseCount;
+
+    private ExamCandidatePools(long catalogVersion, BandPool[] bands) {
+        this.catalogVersion = catalogVersion;
+        this.bands = bands;
+        int total = 0;
+        for (BandPool band : bands) {
+            total += band.count;
+        }
+        this.exerciseCount = total;
+    }
+
+    static ExamCandidatePools build(CatalogSnapshot snapshot, ExamBlueprint blueprint) {
+        List<ExamBlueprint.Band> definitions = blueprint.getBands();
+        BandPool[] bands = new BandPool[definitions.size()];
+        for (int i = 0; i < definitions.size(); i++) {
+            bands[i] = BandPool.build(snapshot, definitions.get(i));
+        }
+        return new ExamCandidatePools(snapshot.getVersion(), bands);
+    }
+
+    long getCatalogVersion() { return catalogVersion; }
+
+    int getExerciseCount() { return exerciseCount; }
+
+    /**
+     * Zieht die Aufgaben eines Versuchs in Bereichsreihenfolge, innerhalb eines Bereichs
+     * zuerst die Quoten je Schwierigkeitsgrad. Keine Aufgabe wird doppelt gezogen; IDs aus
+     * {@code previousIds} werden nur verwendet, wenn ein Bereich sonst nicht gefüllt werden kann.
+     */
+    long[] draw(Set<Long> previousIds, RandomGenerator random) {
+        long[] selected = new long[exerciseCount];
+        Set<Long> chosen = new HashSet<>(exerciseCount * 2);
+        int offset = 0;
+        for (BandPool band : bands) {
+            for (int d = 0; d < DIFFICULTIES.length; d++) {
+                for (int i = 0; i < band.quotas[d]; i++) {
+                    selected[offset++] = sample(band.byDifficulty[d], chosen, previousIds, random, band.label);
+                }
+            }
+            for (int i = 0; i < band.unrestricted; i++) {
+                selected[offset++] = sample(band.all, chosen, previousIds, random, band.label);
+            }
+        }
+        return selected;
+    }
+
+    private static long sample(Pool pool, Set<Long> chosen, Set<Long> previousIds,
+                               RandomGenerator random, String label) {
+        if (pool.ids.length > 0) {
+            for (int attempt = 0; attempt < MAX_REJECTIONS; attempt++) {
+                long id = pool.ids[pool.randomIndex(random)];
+                if (!chosen.contains(id) && !previousIds.contains(id)) {
+                    chosen.add(id);
+                    return id;
+                }
+            }
+            // Kleiner oder fast ausgeschöpfter Pool: freie Kandidaten gezielt suchen
+            long id = pool.scan(chosen, previousIds, random);
+            if (id < 0 && !previousIds.isEmpty()) {
+                id = pool.scan(chosen, Set.of(), random);
+            }
+            if (id >= 0) {
+                chosen.add(id);
+                return id;
+            }
+        }
+        throw new ExamSelectionException(
+                "Keine Aufgaben verfuegbar im Bereich " + label + ". Exam kann nicht gestartet werden.");
+    }
+
+    private static final class BandPool {
+
+        private final String label;
+        private final int count;
+        private final int unrestricted;
+        private final int[] quotas;
+        private final Pool all;
+        private final Pool[] byDifficulty;
+
+        private BandPool(String label, int count, int[] quotas, Pool all, Pool[] byDifficulty) {
+            this.label = label;
+            this.count = count;
+            this.quotas = quotas;
+            this.all = all;
+            this.byDifficulty = byDifficulty;
+            this.unrestricted = count - Arrays.stream(quotas).sum();
+        }
+
+        static BandPool build(CatalogSnapshot snapshot, ExamBlueprint.Band band) {
+            int[] quotas = new int[DIFFICULTIES.length];
+            for (Map.Entry<Difficulty, Integer> quota : band.getDifficultyQuotas().entrySet()) {
+                quotas[quota.getKey().ordinal()] = Math.max(0, quota.getValue());
+            }
+            if (band.getCount() < 1 || Arrays.stream(quotas).sum() > band.getCount()) {
+                throw new IllegalStateException("Ungueltiger Exam-Bereich " + band.getLabel()
+                        + ": count muss >= 1 und >= Summe der Schwierigkeitsquoten sein.");
+            }
+
+            PoolBuilder all = new PoolBuilder();
+            PoolBuilder[] byDifficulty = new PoolBuilder[DIFFICULTIES.length];
+            for (int d = 0; d < byDifficulty.length; d++) {
+                byDifficulty[d] = new PoolBuilder();
+            }
+            for (Long lessonId : band.getLessonIds()) {
+                List<Exercise> exercises = snapshot.getExercisesByLesson(lessonId);
+                double lessonWeight = band.weightOf(lessonId);
+                if (exercises.isEmpty() || lessonWeight <= 0) {
+                    continue;
+                }
+                // Das Lektionsgewicht verteilt sich auf ihre Aufgaben
+                double weight = lessonWeight / exercises.size();
+                for (Exercise exercise : exercises) {
+                    all.add(exercise.getId(), weight);
+                    byDifficulty[Difficulty.fromString(exercise.getDifficulty()).ordinal()]
+                            .add(exercise.getId(), weight);
+                }
+            }
+
+            boolean weighted = !band.getLessonWeights().isEmpty();
+            Pool[] difficultyPools = new Pool[byDifficulty.length];
+            for (int d = 0; d < byDifficulty.length; d++) {
+                difficultyPools[d] = byDifficulty[d].build(weighted);
+            }
+            return new BandPool(band.getLabel(), band.getCount(), quotas, all.build(weighted), difficultyPools);
+        }
+    }
+
+    private static final class Pool {
+
+        private final long[] ids;
+        /**
+         * Kumulierte Gewichte (streng steigend) oder {@code null} bei Gleichverteilung.
+         */
+        private final double[] cumulativeWeights;
+
+        private Pool(long[] ids, double[] cumulativeWeights) {
+            this.ids = ids;
+            this.cumulativeWeights = cumulativeWeights;
+        }
+
+        int randomIndex(RandomGenerator random) {
+            if (cumulativeWeights == null) {
+                return random.nextInt(ids.length);
+            }
+            double target = random.nextDouble(cumulativeWeights[cumulativeWeights.length - 1]);
+            int index = Arrays.binarySearch(cumulativeWeights, target);
+            return index >= 0 ? index + 1 : -index - 1;
+        }
+
+        /**
+         * Gewichtete Auswahl unter allen noch erlaubten Kandidaten; -1, wenn keiner übrig ist.
+         */
+        long scan(Set<Long> chosen, Set<Long> excluded, RandomGenerator random) {
+            double[] weights = new double[ids.length];
+            double total = 0;
+            for (int i = 0; i < ids.length; i++) {
+                if (!chosen.contains(ids[i]) && !excluded.contains(ids[i])) {
+                    weights[i] = weightAt(i);
+                    total += weights[i];
+                }
+            }
+            if (total <= 0) {
+                return -1;
+            }
+            double target = random.nextDouble(total);
+            long last = -1;
+            for (int i = 0; i < ids.length; i++) {
+                if (weights[i] > 0) {
+                    last = ids[i];
+                    target -= weights[i];
+                    if (target < 0) {
+                        return ids[i];
+                    }
+                }
+            }
+            return last;
+        }
+
+        private double weightAt(int index) {
+            if (cumulativeWeights == null) {
+                return 1.0;
+            }
+            return index == 0 ? cumulativeWeights[0] : cumulativeWeights[index] - cumulativeWeights[index - 1];
+        }
+    }
+
+    private static final class PoolBuilder {
+
+        private final List<Long> ids = new ArrayList<>();
+        private final List<Double> weights = new ArrayList<>();
+
+        void add(long id, double weight) {
+            ids.add(id);
+            weights.add(weight);
+        }
+
+        Pool build(boolean weighted) {
+            long[] idArray = new long[ids.size()];
+            double[] cumulative = weighted ? new double[ids.size()] : null;
+            double sum = 0;
+            for (int i = 0; i < idArray.length; i++) {
+                idArray[i] = ids.get(i);
+                if (cumulative != null) {
+                    sum += weights.get(i);
+                    cumulative[i] = sum;
+                }
+            }
+            return new Pool(idArray, cumulative);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.prog1learnapp.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-Behind-Puffer für Exam-Abschlüsse. Mehrfache Meldungen derselben Aufgabe werden
+ * zusammengefasst und periodisch als ein JDBC-Batch in {@code exam_attempt_completions} geschrieben.
+ * Bis zum Commit liefert {@link #pendingFor(String)} die noch nicht geschriebenen IDs, damit
+ * Anfragen auf diesem Knoten ihre eigenen Abschlüsse sofort sehen.
+ * Der Puffer ist knotenlokal: Andere Knoten sehen einen Abschluss erst nach dem nächsten Flush, und
+ * bei einem Absturz ohne regulären Shutdown gehen noch gepufferte Abschlüsse verloren.
+ */
+@Component
+public class ExamCompletionBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(ExamCompletionBuffer.class);
+
+    // Idempotent und ohne Fremdschlüsselfehler: Zeilen für unbekannte Versuche werden übersprungen
+    private static final String INSERT_COMPLETION =
+            "INSERT INTO exam_attempt_completions (attempt_id, exercise_id) " +
+            "SELECT a.id, CAST(? AS BIGINT) FROM exam_attempts a " +
+            "WHERE a.id = ? AND NOT EXISTS (" +
+            "SELECT 1 FROM exam_attempt_completions c WHERE c.attempt_id = a.id AND c.exercise_id = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // Werte sind unveränderliche Sets, damit Leser ohne Sperre eine konsistente Sicht bekommen
+    private final ConcurrentHashMap<String, Set<Long>> pending = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<Long>> inFlight = new ConcurrentHashMap<>();
+
+    public ExamCompletionBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void record(String attemptId, Long exerciseId) {
+        pending.merge(attemptId, Set.of(exerciseId), ExamCompletionBuffer::union);
+    }
+
+    /**
+     * Abschlüsse eines Versuchs, die noch nicht in der Datenbank stehen.
+     */
+    public Set<Long> pendingFor(String attemptId) {
+        Set<Long> queued = pending.get(attemptId);
+        Set<Long> writing = inFlight.get(attemptId);
+        if (writing == null) {
+            return queued != null ? queued : Set.of();
+        }
+        return queued != null ? union(queued, writing) : writing;
+    }
+
+    public int getPendingCount() {
+        int count = 0;
+        for (Set<Long> ids : pending.values()) {
+            count += ids.size();
+        }
+        return count;
+    }
+
+    @Scheduled(fixedDelayString = "${app.exam.completion-flush-interval:PT0.5S}",
+            initialDelayString = "${app.exam.completion-flush-interval:PT0.5S}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<String, Set<Long>> drained = new HashMap<>();
+        for (String attemptId : pending.keySet()) {
+            // Erst nach inFlight verschieben, dann aus pending entfernen: Leser sehen die IDs durchgehend
+            Set<Long> ids = pending.get(attemptId);
+            if (ids == null) {
+                continue;
+            }
+            inFlight.merge(attemptId, ids, ExamCompletionBuffer::union);
+            pending.remove(attemptId, ids);
+            drained.merge(attemptId, ids, ExamCompletionBuffer::union);
+        }
+
+        List<Object[]> batch = new ArrayList<>();
+        drained.forEach((attemptId, ids) -> {
+            for (Long exerciseId : ids) {
+                batch.add(new Object[]{exerciseId, attemptId, exerciseId});
+            }
+        });
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_COMPLETION, batch));
+            log.debug("Flushed {} exam completions for {} attempts", batch.size(), drained.size());
+        } catch (DataAccessException ex) {
+            log.warn("Flushing {} exam completions failed, retrying later: {}", batch.size(), ex.getMessage());
+            drained.forEach((attemptId, ids) -> pending.merge(attemptId, ids, ExamCompletionBuffer::union));
+        } finally {
+            drained.keySet().forEach(inFlight::remove);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static Set<Long> union(Set<Long> left, Set<Long> right) {
+        Set<Long> merged = new HashSet<>(left);
+        merged.addAll(right);
+        return Set.copyOf(merged);
+    }
+}
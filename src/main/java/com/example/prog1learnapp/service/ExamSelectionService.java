@@ -2,33 +2,45 @@ package com.example.prog1learnapp.service;
 
 import com.example.prog1learnapp.model.ExamSessionState;
 import com.example.prog1learnapp.model.Exercise;
-import com.example.prog1learnapp.repository.ExerciseRepository;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
 
 @Service
 public class ExamSelectionService {
 
-    private static final List<Long> BAND_3_TO_5 = List.of(3L, 4L, 5L);
-    private static final List<Long> BAND_6_TO_8 = List.of(6L, 7L, 8L);
-    private static final List<Long> BAND_9_TO_11 = List.of(9L, 10L, 11L);
+    private final ExerciseCatalog catalog;
+    private final ExamBlueprint blueprint;
 
-    private final ExerciseRepository exerciseRepository;
+    private volatile ExamCandidatePools candidatePools;
 
-    public ExamSelectionService(ExerciseRepository exerciseRepository) {
-        this.exerciseRepository = exerciseRepository;
+    public ExamSelectionService(ExerciseCatalog catalog, ExamBlueprint blueprint) {
+        this.catalog = catalog;
+        this.blueprint = blueprint;
     }
 
     public ExamSessionState startNewExam() {
-        List<Long> selectedIds = new ArrayList<>(3);
-        selectedIds.add(selectRandomExerciseForBand(BAND_3_TO_5, "3-5").getId());
-        selectedIds.add(selectRandomExerciseForBand(BAND_6_TO_8, "6-8").getId());
-        selectedIds.add(selectRandomExerciseForBand(BAND_9_TO_11, "9-11").getId());
+        return startNewExam(List.of());
+    }
+
+    /**
+     * Stellt einen neuen Versuch nach dem {@link ExamBlueprint} zusammen. Bei {@code noRepeat}
+     * werden die Aufgaben des vorherigen Versuchs gemieden, solange der Bereich genug andere hat.
+     */
+    public ExamSessionState startNewExam(Collection<Long> previousExerciseIds) {
+        Set<Long> excluded = blueprint.isNoRepeat() && previousExerciseIds != null && !previousExerciseIds.isEmpty()
+                ? new HashSet<>(previousExerciseIds)
+                : Set.of();
+        long[] drawn = currentPools().draw(excluded, ThreadLocalRandom.current());
+        List<Long> selectedIds = new ArrayList<>(drawn.length);
+        for (long id : drawn) {
+            selectedIds.add(id);
+        }
         return new ExamSessionState(selectedIds);
     }
 
@@ -38,18 +50,11 @@ public class ExamSelectionService {
         }
 
         List<Long> selectedIds = state.getSelectedExerciseIds();
-        List<Exercise> fetched = exerciseRepository.findAllById(selectedIds);
-        Map<Long, Exercise> byId = new HashMap<>();
-        for (Exercise exercise : fetched) {
-            byId.put(exercise.getId(), exercise);
-        }
-
         List<Exercise> orderedExercises = new ArrayList<>(selectedIds.size());
         for (Long id : selectedIds) {
-            Exercise exercise = byId.get(id);
-            if (exercise == null) {
-                throw new ExamSelectionException("Ausgewaehlte Aufgabe mit ID " + id + " wurde nicht gefunden.");
-            }
+            Exercise exercise = catalog.findExercise(id)
+                    .orElseThrow(() -> new ExamSelectionException(
+                            "Ausgewaehlte Aufgabe mit ID " + id + " wurde nicht gefunden."));
             orderedExercises.add(exercise);
         }
         return orderedExercises;
@@ -65,13 +70,16 @@ public class ExamSelectionService {
         state.markCompleted(exerciseId);
     }
 
-    private Exercise selectRandomExerciseForBand(List<Long> lessonIds, String bandLabel) {
-        List<Exercise> candidates = exerciseRepository.findByLessonIdIn(lessonIds);
-        if (candidates.isEmpty()) {
-            throw new ExamSelectionException(
-                    "Keine Aufgaben verfuegbar im Bereich " + bandLabel + ". Exam kann nicht gestartet werden.");
+    /**
+     * Liefert die Kandidaten-Pools zum aktuellen Katalog-Snapshot und baut sie nach einem Reload neu auf.
+     */
+    private ExamCandidatePools currentPools() {
+        CatalogSnapshot snapshot = catalog.snapshot();
+        ExamCandidatePools pools = candidatePools;
+        if (pools == null || pools.getCatalogVersion() != snapshot.getVersion()) {
+            pools = ExamCandidatePools.build(snapshot, blueprint);
+            candidatePools = pools;
         }
-        int randomIndex = ThreadLocalRandom.current().nextInt(candidates.size());
-        return candidates.get(randomIndex);
+        return pools;
     }
 }
@@ -0,0 +1,19 @@
+package com.example.prog1learnapp.service;
+
+import com.example.prog1learnapp.model.Exercise;
+
+import java.util.Optional;
+
+/**
+ * Lesender Zugriff auf den Katalog, wie ihn die Exam-Zusammenstellung braucht. In der Anwendung
+ * implementiert von {@link CatalogCache}; Benchmarks liefern einen festen {@link CatalogSnapshot} ohne Datenbank.
+ */
+public interface ExerciseCatalog {
+
+    /**
+     * Aktueller Snapshot; seine Version zeigt einen Reload an.
+     */
+    CatalogSnapshot snapshot();
+
+    Optional<Exercise> findExercise(Long exerciseId);
+}
@@ -0,0 +1,83 @@
+package com.example.prog1learnapp.service;
+
+import com.example.prog1learnapp.model.Exercise;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Vorberechnete Navigation zwischen den Übungen einer Lektion.
+ * Nächste und vorherige Übung sind reine Map-Lookups; die Reihenfolge richtet sich nach
+ * {@link #LESSON_ORDER} und ist damit unabhängig von der Datenbank.
+ */
+public final class ExerciseNavigationIndex {
+
+    /**
+     * Reihenfolge innerhalb einer Lektion: Position aufsteigend, Übungen ohne Position danach nach ID.
+     */
+    public static final Comparator<Exercise> LESSON_ORDER = Comparator
+            .comparing(Exercise::getPosition, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Exercise::getId);
+
+    private final Map<Long, long[]> orderedIdsByLesson;
+    private final Map<Long, Long> nextIds;
+    private final Map<Long, Long> previousIds;
+
+    private ExerciseNavigationIndex(Map<Long, long[]> orderedIdsByLesson,
+                                    Map<Long, Long> nextIds,
+                                    Map<Long, Long> previousIds) {
+        this.orderedIdsByLesson = Map.copyOf(orderedIdsByLesson);
+        this.nextIds = Map.copyOf(nextIds);
+        this.previousIds = Map.copyOf(previousIds);
+    }
+
+    /**
+     * Baut den Index aus bereits nach {@link #LESSON_ORDER} sortierten Übungen pro Lektion.
+     */
+    public static ExerciseNavigationIndex build(Map<Long, List<Exercise>> orderedExercisesByLesson) {
+        Map<Long, long[]> orderedIds = new HashMap<>();
+        Map<Long, Long> nextIds = new HashMap<>();
+        Map<Long, Long> previousIds = new HashMap<>();
+
+        for (Map.Entry<Long, List<Exercise>> entry : orderedExercisesByLesson.entrySet()) {
+            List<Exercise> exercises = entry.getValue();
+            long[] ids = new long[exercises.size()];
+            for (int i = 0; i < exercises.size(); i++) {
+                ids[i] = exercises.get(i).getId();
+                if (i > 0) {
+                    nextIds.put(ids[i - 1], ids[i]);
+                    previousIds.put(ids[i], ids[i - 1]);
+                }
+            }
+            orderedIds.put(entry.getKey(), ids);
+        }
+        return new ExerciseNavigationIndex(orderedIds, nextIds, previousIds);
+    }
+
+    public Long nextExerciseId(Long exerciseId) {
+        return exerciseId != null ? nextIds.get(exerciseId) : null;
+    }
+
+    public Long previousExerciseId(Long exerciseId) {
+        return exerciseId != null ? previousIds.get(exerciseId) : null;
+    }
+
+    /**
+     * Liefert die erste noch nicht erledigte Übung einer Lektion oder {@code null}, wenn alle erledigt sind.
+     */
+    public Long firstUnfinishedExerciseId(Long lessonId, Set<Long> completedIds) {
+        long[] ids = lessonId != null ? orderedIdsByLesson.get(lessonId) : null;
+        if (ids == null) {
+            return null;
+        }
+        for (long id : ids) {
+            if (!completedIds.contains(id)) {
+                return id;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.prog1learnapp.service;
+
+import com.example.prog1learnapp.repository.ExerciseSummary;
+import com.example.prog1learnapp.repository.LessonHeader;
+import com.example.prog1learnapp.repository.LessonPageRow;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Nutzerunabhängiger Teil der Lektionsseite: Kopf und Übungen in Lektionsreihenfolge.
+ */
+public record LessonPage(LessonHeader lesson, List<ExerciseSummary> exercises) {
+
+    public LessonPage {
+        exercises = List.copyOf(exercises);
+    }
+
+    /**
+     * Baut die Seite aus den Zeilen von {@code LessonRepository.findPageRows}; {@code null} ohne Zeilen.
+     */
+    static LessonPage fromRows(List<LessonPageRow> rows) {
+        if (rows.isEmpty()) {
+            return null;
+        }
+        LessonPageRow first = rows.get(0);
+        List<ExerciseSummary> exercises = new ArrayList<>(rows.size());
+        for (LessonPageRow row : rows) {
+            if (row.getExerciseId() != null) {
+                exercises.add(new ExerciseSummary(row.getExerciseId(), row.getLessonId(), row.getTitle(),
+                        row.getDescription(), row.getDifficulty(), row.getPosition()));
+            }
+        }
+        return new LessonPage(
+                new LessonHeader(first.getLessonId(), first.getLessonTitle(), first.getLessonShortDescription()),
+                exercises);
+    }
+
+    /**
+     * Erste noch nicht erledigte Übung oder {@code null}, wenn alle erledigt sind.
+     */
+    public Long firstUnfinishedExerciseId(Set<Long> completedIds) {
+        for (ExerciseSummary exercise : exercises) {
+            if (!completedIds.contains(exercise.getId())) {
+                return exercise.getId();
+            }
+        }
+        return null;
+    }
+}
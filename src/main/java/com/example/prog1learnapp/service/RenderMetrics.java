@@ -0,0 +1,59 @@
+package com.example.prog1learnapp.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Renderzeit je View (Anzahl, Summe, Maximum) seit dem Start.
+ */
+@Component
+public class RenderMetrics {
+
+    private final Map<String, ViewStats> views = new ConcurrentHashMap<>();
+
+    public void record(String viewName, long nanos) {
+        views.computeIfAbsent(viewName, name -> new ViewStats()).record(nanos);
+    }
+
+    /**
+     * Kennzahlen je View, absteigend nach gesamter Renderzeit.
+     */
+    public Map<String, Map<String, Object>> snapshot() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        views.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, ViewStats> entry) -> entry.getValue().totalNanos.sum())
+                        .reversed())
+                .forEach(entry -> result.put(entry.getKey(), entry.getValue().toMap()));
+        return result;
+    }
+
+    private static final class ViewStats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        private Map<String, Object> toMap() {
+            long renders = count.sum();
+            long total = totalNanos.sum();
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("count", renders);
+            map.put("totalMillis", total / 1_000_000);
+            map.put("avgMicros", renders == 0 ? 0 : total / renders / 1_000);
+            map.put("maxMicros", maxNanos.get() / 1_000);
+            return map;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.prog1learnapp.service;
+
+import com.example.prog1learnapp.model.Exercise;
+import com.example.prog1learnapp.repository.ExerciseSummary;
+import com.example.prog1learnapp.repository.LessonHeader;
+import org.springframework.stereotype.Service;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rendert die statischen, nutzerunabhängigen Seitenteile (Kopf, Code-Blöcke, Aufgabenkarten) aus
+ * {@code templates/fragments} einmal je Katalogversion. Die Seiten binden das Ergebnis per {@code th:utext} ein.
+ * Die Fragmente dürfen keine Link-Ausdrücke ({@code @{...}}) enthalten, da sie ohne Web-Kontext gerendert werden.
+ */
+@Service
+public class StaticFragmentCache {
+
+    private static final Locale LOCALE = Locale.GERMAN;
+
+    private final ITemplateEngine templateEngine;
+    private final CatalogCache catalogCache;
+
+    private final LongAdder renders = new LongAdder();
+
+    private volatile Fragments fragments = new Fragments(-1);
+
+    public StaticFragmentCache(ITemplateEngine templateEngine, CatalogCache catalogCache) {
+        this.templateEngine = templateEngine;
+        this.catalogCache = catalogCache;
+    }
+
+    public String lessonHeader(LessonHeader lesson) {
+        return current().lessonHeaders.computeIfAbsent(lesson.getId(),
+                id -> render("fragments/lesson", "header", "lesson", lesson));
+    }
+
+    public ExerciseFragments exercise(Exercise exercise) {
+        return current().exercises.computeIfAbsent(exercise.getId(), id -> new ExerciseFragments(
+                render("fragments/exercise", "header", "exercise", exercise),
+                render("fragments/exercise", "code", "exercise", exercise)));
+    }
+
+    /**
+     * Aufgabenkarten der Lektionsseite, nach Aufgaben-ID.
+     */
+    public Map<Long, String> exerciseCards(List<ExerciseSummary> exercises) {
+        Map<Long, String> rendered = current().cards;
+        Map<Long, String> cards = new LinkedHashMap<>();
+        for (ExerciseSummary exercise : exercises) {
+            cards.put(exercise.getId(), rendered.computeIfAbsent(exercise.getId(),
+                    id -> render("fragments/exercise", "card", "exercise", exercise)));
+        }
+        return cards;
+    }
+
+    public long getRenderCount() {
+        return renders.sum();
+    }
+
+    private String render(String template, String fragment, String variable, Object value) {
+        renders.increment();
+        Context context = new Context(LOCALE);
+        context.setVariable(variable, value);
+        return templateEngine.process(template, Set.of(fragment), context);
+    }
+
+    private Fragments current() {
+        long version = catalogCache.snapshot().getVersion();
+        Fragments current = fragments;
+        if (current.catalogVersion != version) {
+            current = new Fragments(version);
+            fragments = current;
+        }
+        return current;
+    }
+
+    /**
+     * Vorgerenderte Teile einer Aufgabe.
+     */
+    public record ExerciseFragments(String header, String code) {
+    }
+
+    private static final class Fragments {
+
+        private final long catalogVersion;
+        private final Map<Long, String> lessonHeaders = new ConcurrentHashMap<>();
+        private final Map<Long, ExerciseFragments> exercises = new ConcurrentHashMap<>();
+        private final Map<Long, String> cards = new ConcurrentHashMap<>();
+
+        private Fragments(long catalogVersion) {
+            this.catalogVersion = catalogVersion;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.prog1learnapp.service.submission;
+
+/**
+ * Ergebnis einer Übersetzung: entweder ein Programm oder Verdict und Meldung.
+ */
+record CompilationOutcome(CompiledProgram program, SubmissionVerdict verdict, String message, long compileMillis) {
+
+    static CompilationOutcome success(CompiledProgram program, long compileMillis) {
+        return new CompilationOutcome(program, null, "", compileMillis);
+    }
+
+    static CompilationOutcome failure(SubmissionVerdict verdict, String message, long compileMillis) {
+        return new CompilationOutcome(null, verdict, message, compileMillis);
+    }
+
+    boolean isSuccess() {
+        return program != null;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.prog1learnapp.service.submission;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Übersetztes Programm: Bytecode aller Klassen der Quelldatei und die Klasse, nach der sie benannt ist.
+ */
+record CompiledProgram(String mainClassName, Map<String, byte[]> classes) {
+
+    CompiledProgram {
+        // Reihenfolge der Klassen bleibt erhalten, damit die Suche nach main deterministisch ist
+        classes = Collections.unmodifiableMap(new LinkedHashMap<>(classes));
+    }
+}
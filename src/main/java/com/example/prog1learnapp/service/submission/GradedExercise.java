@@ -0,0 +1,18 @@
+package com.example.prog1learnapp.service.submission;
+
+import com.example.prog1learnapp.model.Exercise;
+
+/**
+ * Die Werte einer Aufgabe, die die Bewertung braucht. Wird im Anfrage-Thread aus der Entity gelesen,
+ * damit Worker-Threads weder lazy Attribute nachladen noch die Entity teilen.
+ */
+public record GradedExercise(Long id, String solution, String testInputs) {
+
+    public static GradedExercise of(Exercise exercise) {
+        return new GradedExercise(exercise.getId(), exercise.getSolution(), exercise.getTestInputs());
+    }
+
+    public boolean hasSolution() {
+        return solution != null && !solution.isBlank();
+    }
+}
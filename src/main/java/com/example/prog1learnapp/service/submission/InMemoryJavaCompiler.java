@@ -0,0 +1,314 @@
+package com.example.prog1learnapp.service.submission;
+
+import com.sun.source.util.JavacTask;
+import com.sun.source.util.TaskEvent;
+import com.sun.source.util.TaskListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Übersetzt eine einzelne Quelldatei im Server vollständig im Speicher; in den Kindprozess gehen nur
+ * die fertigen Klassen. Ein Pool vorgewärmter {@link StandardJavaFileManager}-Instanzen wird
+ * wiederverwendet, weil deren Aufbau (Plattform-Index, Caches) den Großteil einer kalten Übersetzung
+ * ausmacht. Die Poolgröße begrenzt zugleich die Anzahl paralleler Übersetzungen.
+ * <p>
+ * Annotation-Prozessoren sind abgeschaltet und der Klassenpfad ist leer, beim Übersetzen läuft also
+ * kein Code der Abgabe. {@code compile-time-limit} wird zwischen den Compiler-Phasen geprüft.
+ */
+@Component
+public class InMemoryJavaCompiler {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryJavaCompiler.class);
+
+    private static final Pattern PACKAGE = Pattern.compile("^\\s*package\\s+([\\w.]+)\\s*;", Pattern.MULTILINE);
+    private static final Pattern PUBLIC_TYPE = Pattern.compile(
+            "\\bpublic\\s+(?:(?:final|abstract|sealed|strictfp)\\s+)*(?:class|interface|enum|record)\\s+(\\w+)");
+    private static final Pattern ANY_TYPE = Pattern.compile("\\b(?:class|interface|enum|record)\\s+(\\w+)");
+
+    private static final List<String> OPTIONS = List.of("-proc:none", "-implicit:none", "-g:source,lines", "-Xlint:none");
+
+    private static final String WARM_UP_SOURCE = """
+            import java.util.*;
+
+            public class WarmUp {
+                record Punkt(int x, int y) { }
+
+                public static void main(String[] args) {
+                    List<Punkt> punkte = new ArrayList<>();
+                    Scanner scanner = new Scanner(System.in);
+                    for (int i = 0; i < args.length; i++) {
+                        punkte.add(new Punkt(i, scanner.nextInt()));
+                    }
+                    System.out.printf("%d %s%n", punkte.size(), String.join(",", args));
+                }
+            }
+            """;
+
+    private final JavaCompiler compiler;
+    private final BlockingQueue<StandardJavaFileManager> fileManagers;
+    private final long timeLimitNanos;
+
+    public InMemoryJavaCompiler(SubmissionProperties properties) {
+        this.compiler = ToolProvider.getSystemJavaCompiler();
+        this.timeLimitNanos = properties.getCompileTimeLimit().toNanos();
+        int poolSize = Math.max(1, properties.getCompilerPoolSize());
+        this.fileManagers = new ArrayBlockingQueue<>(poolSize);
+        if (compiler == null) {
+            log.warn("No system Java compiler available (JRE instead of JDK?); submissions cannot be graded");
+            return;
+        }
+        for (int i = 0; i < poolSize; i++) {
+            StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, Locale.GERMAN, StandardCharsets.UTF_8);
+            try {
+                // Nur JDK-Klassen sichtbar, nicht der Klassenpfad der Anwendung
+                fileManager.setLocation(StandardLocation.CLASS_PATH, List.of());
+            } catch (IOException ex) {
+                throw new IllegalStateException("Compiler-Klassenpfad konnte nicht gesetzt werden", ex);
+            }
+            fileManagers.add(fileManager);
+        }
+    }
+
+    public boolean isAvailable() {
+        return compiler != null;
+    }
+
+    /**
+     * Übersetzt einmal mit jeder gepoolten Instanz, damit die erste echte Abgabe keine Kaltstartkosten trägt.
+     */
+    public void warmUp() {
+        if (!isAvailable()) {
+            return;
+        }
+        long start = System.nanoTime();
+        int size = fileManagers.size();
+        List<StandardJavaFileManager> taken = new ArrayList<>(size);
+        try {
+            for (int i = 0; i < size; i++) {
+                StandardJavaFileManager fileManager = fileManagers.take();
+                taken.add(fileManager);
+                compileWith(fileManager, WARM_UP_SOURCE);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            fileManagers.addAll(taken);
+        }
+        log.info("Warmed up {} compiler instances in {} ms", taken.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public CompilationOutcome compile(String source) {
+        if (!isAvailable()) {
+            return CompilationOutcome.failure(SubmissionVerdict.NOT_GRADABLE, "Kein Java-Compiler verfügbar.", 0);
+        }
+        StandardJavaFileManager fileManager;
+        try {
+            fileManager = fileManagers.take();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return CompilationOutcome.failure(SubmissionVerdict.NOT_GRADABLE, "Übersetzung abgebrochen.", 0);
+        }
+        try {
+            return compileWith(fileManager, source);
+        } finally {
+            fileManagers.add(fileManager);
+        }
+    }
+
+    private CompilationOutcome compileWith(StandardJavaFileManager fileManager, String source) {
+        long start = System.nanoTime();
+        String packageName = matchGroup(PACKAGE, source);
+        String typeName = matchGroup(PUBLIC_TYPE, source);
+        if (typeName == null) {
+            typeName = matchGroup(ANY_TYPE, source);
+        }
+        if (typeName == null) {
+            return CompilationOutcome.failure(SubmissionVerdict.COMPILE_ERROR,
+                    "Keine Klasse gefunden.", elapsedMillis(start));
+        }
+        String mainClassName = packageName != null ? packageName + "." + typeName : typeName;
+
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        MemoryFileManager memoryFileManager = new MemoryFileManager(fileManager);
+        JavacTask task = (JavacTask) compiler.getTask(null, memoryFileManager, diagnostics, OPTIONS, null,
+                List.of(new SourceFile(mainClassName, source)));
+        task.addTaskListener(new Deadline(start + timeLimitNanos));
+        Boolean success;
+        try {
+            success = task.call();
+        } catch (RuntimeException ex) {
+            if (Deadline.isCause(ex)) {
+                return CompilationOutcome.failure(SubmissionVerdict.TIME_LIMIT,
+                        "Übersetzung dauerte länger als " + timeLimitNanos / 1_000_000 + " ms.", elapsedMillis(start));
+            }
+            log.debug("Compilation failed unexpectedly", ex);
+            return CompilationOutcome.failure(SubmissionVerdict.COMPILE_ERROR,
+                    "Übersetzung fehlgeschlagen: " + ex.getMessage(), elapsedMillis(start));
+        }
+        if (!Boolean.TRUE.equals(success)) {
+            return CompilationOutcome.failure(SubmissionVerdict.COMPILE_ERROR,
+                    formatErrors(diagnostics), elapsedMillis(start));
+        }
+        return CompilationOutcome.success(new CompiledProgram(mainClassName, memoryFileManager.classes()),
+                elapsedMillis(start));
+    }
+
+    private static String formatErrors(DiagnosticCollector<JavaFileObject> diagnostics) {
+        StringBuilder message = new StringBuilder();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() != Diagnostic.Kind.ERROR) {
+                continue;
+            }
+            if (!message.isEmpty()) {
+                message.append('\n');
+            }
+            message.append("Zeile ").append(diagnostic.getLineNumber()).append(": ")
+                    .append(diagnostic.getMessage(Locale.GERMAN));
+        }
+        return message.toString();
+    }
+
+    private static String matchGroup(Pattern pattern, String source) {
+        Matcher matcher = pattern.matcher(source);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    /**
+     * Bricht die Übersetzung beim nächsten Phasenwechsel ab, sobald die Frist überschritten ist.
+     * javac meldet Phasen je Klasse, bei vielen Klassen greift die Prüfung also entsprechend oft.
+     */
+    private static final class Deadline implements TaskListener {
+
+        private final long deadlineNanos;
+
+        Deadline(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        public void started(TaskEvent event) {
+            check();
+        }
+
+        @Override
+        public void finished(TaskEvent event) {
+            check();
+        }
+
+        private void check() {
+            if (System.nanoTime() - deadlineNanos > 0) {
+                throw new Exceeded();
+            }
+        }
+
+        static boolean isCause(Throwable error) {
+            for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+                if (cause instanceof Exceeded) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static final class Exceeded extends RuntimeException {
+
+            Exceeded() {
+                super(null, null, false, false);
+            }
+        }
+    }
+
+    private static final class SourceFile extends SimpleJavaFileObject {
+
+        private final String source;
+
+        SourceFile(String className, String source) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+
+    private static final class ClassFile extends SimpleJavaFileObject {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        ClassFile(String className) {
+            super(URI.create("bytes:///" + className.replace('.', '/') + Kind.CLASS.extension), Kind.CLASS);
+        }
+
+        @Override
+        public OutputStream openOutputStream() {
+            return bytes;
+        }
+    }
+
+    /**
+     * Leitet Klassen-Ausgaben in den Speicher um und lässt den gepoolten Manager offen.
+     */
+    private static final class MemoryFileManager extends ForwardingJavaFileManager<JavaFileManager> {
+
+        private final Map<String, ClassFile> outputs = new LinkedHashMap<>();
+
+        MemoryFileManager(JavaFileManager delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public JavaFileObject getJavaFileForOutput(Location location, String className,
+                                                   JavaFileObject.Kind kind, FileObject sibling) {
+            ClassFile file = new ClassFile(className);
+            outputs.put(className, file);
+            return file;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        Map<String, byte[]> classes() {
+            Map<String, byte[]> classes = new LinkedHashMap<>();
+            outputs.forEach((name, file) -> classes.put(name, file.bytes.toByteArray()));
+            return classes;
+        }
+    }
+}
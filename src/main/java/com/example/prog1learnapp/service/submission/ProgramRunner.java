@@ -0,0 +1,448 @@
+package com.example.prog1learnapp.service.submission;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Übersetzt eine Abgabe einmal mit dem vorgewärmten {@link InMemoryJavaCompiler} und führt die Klassen
+ * für alle Testeingaben in einem eigenen, kurzlebigen JVM-Prozess aus ({@link SandboxLauncher}).
+ * Der Prozess bekommt ein leeres Arbeitsverzeichnis, eine leere Umgebung, ein Heap-Limit und eine Frist;
+ * danach wird er samt Nachfahren beendet und das Verzeichnis gelöscht. Eine Quelldatei wird nicht geschrieben.
+ * <p>
+ * An den Prozess gehen über stdin die Hauptklasse, der Bytecode und die Testeingaben, jeweils mit
+ * Länge vorangestellt; zurück kommt je Testeingabe ein Frame auf stdout. Bis Java 23 verweigert der
+ * Security Manager im Prozess der Abgabe Dateien, Netzwerk und Prozesse. Mit {@code isolation-command}
+ * (z.B. {@code prlimit} und {@code unshare}) wird der Prozess auf Betriebssystemebene abgeschottet; ohne
+ * Security Manager laufen Abgaben nur mit diesem Prefix.
+ */
+@Component
+public class ProgramRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ProgramRunner.class);
+
+    /**
+     * Letzte Java-Version, in der sich der Security Manager noch aktivieren lässt.
+     */
+    static final int LAST_FEATURE_WITH_SECURITY_MANAGER = 23;
+
+    private static final long STOP_GRACE_MILLIS = 1000;
+    private static final int MAX_STDERR_BYTES = 8 * 1024;
+
+    private final SubmissionProperties properties;
+    private final InMemoryJavaCompiler compiler;
+    private final Path javaExecutable;
+    private final Path launcherClassPath;
+    private final ExecutorService streams;
+    private final boolean securityManager;
+    private final boolean available;
+    private final AtomicLong startedProcesses = new AtomicLong();
+    private final AtomicLong killedProcesses = new AtomicLong();
+
+    public ProgramRunner(SubmissionProperties properties, InMemoryJavaCompiler compiler) {
+        this.properties = properties;
+        this.compiler = compiler;
+        this.javaExecutable = Path.of(System.getProperty("java.home"), "bin", "java");
+        this.launcherClassPath = extractLauncher();
+        AtomicLong threadCounter = new AtomicLong();
+        this.streams = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "submission-io-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.securityManager = properties.isSecurityManager()
+                && Runtime.version().feature() <= LAST_FEATURE_WITH_SECURITY_MANAGER;
+        boolean isolated = isIsolated(securityManager, properties.getIsolationCommand());
+        this.available = isolated
+                && launcherClassPath != null
+                && compiler.isAvailable()
+                && Files.isExecutable(javaExecutable);
+        if (!isolated) {
+            log.warn("Submissions cannot be graded: no Security Manager on Java {}; configure "
+                    + "app.submission.isolation-command to isolate submissions at the operating system level",
+                    Runtime.version().feature());
+        } else if (!available) {
+            log.warn("Submissions cannot be graded: a JDK with javac is required");
+        } else {
+            log.info("Submission sandbox: security manager {}, isolation command {}",
+                    securityManager ? "on" : "off", properties.getIsolationCommand());
+        }
+    }
+
+    /**
+     * Abgaben dürfen nur laufen, wenn der Security Manager sie einschränkt oder ein Prefix den Prozess
+     * auf Betriebssystemebene abschottet.
+     */
+    static boolean isIsolated(boolean securityManager, List<String> isolationCommand) {
+        return securityManager || !isolationCommand.isEmpty();
+    }
+
+    /**
+     * {@code true}, wenn Abgaben in der Sandbox laufen können: JDK mit Compiler, ein ausführbares
+     * {@code java} und Security Manager oder {@code isolation-command}.
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * Übersetzt den Quelltext einmal und führt ihn der Reihe nach mit jeder Eingabe aus, in der Regel in
+     * einem einzigen Prozess. Bricht nach dem ersten nicht normal beendeten Lauf ab.
+     */
+    public Execution execute(String source, List<String> inputs) {
+        if (!available) {
+            return Execution.notStarted(SubmissionVerdict.NOT_GRADABLE, "Die Sandbox für Abgaben ist nicht verfügbar.", 0);
+        }
+        CompilationOutcome compilation = compiler.compile(source);
+        if (!compilation.isSuccess()) {
+            return Execution.notStarted(compilation.verdict(), compilation.message(), compilation.compileMillis());
+        }
+        List<RunOutcome> runs = new ArrayList<>(inputs.size());
+        try {
+            while (runs.size() < inputs.size()) {
+                Child child = runChild(compilation.program(), inputs.subList(runs.size(), inputs.size()));
+                runs.addAll(child.runs());
+                // Neuer Prozess nur, wenn Threads der Abgabe den alten belegt haben
+                if (!child.restart() || child.runs().isEmpty()) {
+                    break;
+                }
+            }
+        } catch (IOException ex) {
+            log.warn("Could not start submission process", ex);
+            return Execution.notStarted(SubmissionVerdict.NOT_GRADABLE, "Abgabe konnte nicht gestartet werden.",
+                    compilation.compileMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return Execution.notStarted(SubmissionVerdict.NOT_GRADABLE, "Abgebrochen.", compilation.compileMillis());
+        }
+        return new Execution(null, "", List.copyOf(runs), compilation.compileMillis());
+    }
+
+    /**
+     * Gestartete Kindprozesse.
+     */
+    public long getStartedProcessCount() {
+        return startedProcesses.get();
+    }
+
+    /**
+     * Prozesse, die die Frist überschritten haben und beendet wurden.
+     */
+    public long getKilledProcessCount() {
+        return killedProcesses.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        streams.shutdownNow();
+        deleteQuietly(launcherClassPath);
+    }
+
+    private Child runChild(CompiledProgram program, List<String> inputs) throws IOException, InterruptedException {
+        Path workDir = Files.createTempDirectory("submission-");
+        try {
+            ProcessBuilder builder = new ProcessBuilder(command(workDir)).directory(workDir.toFile());
+            // Keine Zugangsdaten o.ä. aus der Umgebung des Servers an die Abgabe weitergeben
+            builder.environment().clear();
+
+            long start = System.nanoTime();
+            Process process = builder.start();
+            startedProcesses.incrementAndGet();
+            List<Frame> frames = Collections.synchronizedList(new ArrayList<>());
+            Future<?> reader = streams.submit(() -> readFrames(process.getInputStream(), inputs.size(), frames));
+            Future<byte[]> stderr = streams.submit(() -> drain(process.getErrorStream()));
+            streams.execute(() -> writeInput(process, program, inputs));
+
+            // Der Starter überwacht jeden Fall selbst; die Frist greift nur, wenn er hängt
+            long deadlineMillis = properties.getStartTimeLimit().toMillis()
+                    + inputs.size() * properties.getTimeLimit().toMillis();
+            boolean finished = process.waitFor(deadlineMillis, TimeUnit.MILLISECONDS);
+            if (!finished) {
+                kill(process);
+            }
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            await(reader);
+
+            List<RunOutcome> runs = new ArrayList<>();
+            long framedMillis = 0;
+            synchronized (frames) {
+                for (Frame frame : frames) {
+                    runs.add(toOutcome(frame));
+                    framedMillis += frame.runMillis();
+                }
+            }
+            boolean lastCompleted = runs.isEmpty() || runs.get(runs.size() - 1).isCompleted();
+            if (runs.size() == inputs.size() || !lastCompleted) {
+                return new Child(runs, false);
+            }
+            if (finished && process.exitValue() == SandboxLauncher.EXIT_RESTART) {
+                return new Child(runs, true);
+            }
+
+            // Prozess endete, ohne den laufenden Fall zu melden
+            long runMillis = Math.max(0, elapsedMillis - framedMillis);
+            if (!finished) {
+                runs.add(new RunOutcome(SubmissionVerdict.TIME_LIMIT, limitMessage(SubmissionVerdict.TIME_LIMIT), "", runMillis));
+            } else if (process.exitValue() == SandboxLauncher.EXIT_OUT_OF_MEMORY) {
+                runs.add(new RunOutcome(SubmissionVerdict.MEMORY_LIMIT, limitMessage(SubmissionVerdict.MEMORY_LIMIT), "", runMillis));
+            } else if (process.exitValue() == SandboxLauncher.EXIT_SANDBOX_UNAVAILABLE) {
+                log.warn("Submission sandbox unavailable: {}", text(await(stderr)).strip());
+                runs.add(new RunOutcome(SubmissionVerdict.NOT_GRADABLE, "Die Sandbox für Abgaben ist nicht verfügbar.", "", 0));
+            } else {
+                log.debug("Submission process exited with {}: {}", process.exitValue(), text(await(stderr)).strip());
+                runs.add(new RunOutcome(SubmissionVerdict.RUNTIME_ERROR,
+                        "Programm hat die JVM vorzeitig beendet (Exit-Code " + process.exitValue() + ").", "", runMillis));
+            }
+            return new Child(runs, false);
+        } finally {
+            deleteQuietly(workDir);
+        }
+    }
+
+    private List<String> command(Path workDir) {
+        List<String> command = new ArrayList<>(properties.getIsolationCommand());
+        command.add(javaExecutable.toString());
+        if (securityManager) {
+            command.add("-Djava.security.manager=allow");
+        }
+        command.addAll(List.of(
+                "-Xmx" + properties.getMemoryLimitBytes(),
+                "-XX:+ExitOnOutOfMemoryError",
+                "-XX:+UseSerialGC",
+                "-XX:ActiveProcessorCount=1",
+                "-XX:TieredStopAtLevel=1",
+                "-XX:-UsePerfData",
+                "-Xshare:auto",
+                "-Djava.io.tmpdir=" + workDir,
+                "-Dfile.encoding=UTF-8",
+                "-Dsun.stdout.encoding=UTF-8",
+                "-Dsun.stderr.encoding=UTF-8",
+                "-Duser.language=de",
+                "-Duser.country=DE",
+                "-cp", launcherClassPath.toString(),
+                SandboxLauncher.class.getName(),
+                String.valueOf(properties.getTimeLimit().toMillis()),
+                String.valueOf(properties.getCpuTimeLimit().toMillis()),
+                String.valueOf(properties.getMaxOutputBytes())));
+        return command;
+    }
+
+    private static void writeInput(Process process, CompiledProgram program, List<String> inputs) {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(process.getOutputStream()))) {
+            out.writeUTF(program.mainClassName());
+            out.writeInt(program.classes().size());
+            for (Map.Entry<String, byte[]> entry : program.classes().entrySet()) {
+                out.writeUTF(entry.getKey());
+                writeBytes(out, entry.getValue());
+            }
+            out.writeInt(inputs.size());
+            for (String input : inputs) {
+                writeBytes(out, (input != null ? input : "").getBytes(StandardCharsets.UTF_8));
+            }
+        } catch (IOException ex) {
+            // Prozess ist schon beendet; das Ergebnis ergibt sich aus seinem Exit-Code
+        }
+    }
+
+    /**
+     * Liest Frames, bis alle Fälle gemeldet sind oder der Strom endet. Längen werden gegen
+     * {@code max-output-bytes} geprüft, ein beschädigter Strom beendet das Lesen.
+     */
+    private void readFrames(InputStream stream, int expected, List<Frame> frames) {
+        int limit = properties.getMaxOutputBytes();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(stream))) {
+            while (frames.size() < expected) {
+                int status = in.readInt();
+                long runMillis = in.readLong();
+                boolean truncated = in.readBoolean();
+                String output = text(readBytes(in, limit));
+                String errorOutput = text(readBytes(in, limit));
+                String message = text(readBytes(in, limit));
+                frames.add(new Frame(status, runMillis, truncated, output, errorOutput, message));
+            }
+        } catch (EOFException ex) {
+            // Prozess endete vor dem nächsten Frame
+        } catch (IOException ex) {
+            log.debug("Could not read submission frames", ex);
+        }
+    }
+
+    private RunOutcome toOutcome(Frame frame) {
+        SubmissionVerdict verdict = switch (frame.status()) {
+            case SandboxLauncher.STATUS_COMPLETED -> null;
+            case SandboxLauncher.STATUS_FORBIDDEN -> SubmissionVerdict.FORBIDDEN;
+            case SandboxLauncher.STATUS_TIME_LIMIT -> SubmissionVerdict.TIME_LIMIT;
+            case SandboxLauncher.STATUS_NO_MAIN -> SubmissionVerdict.NOT_GRADABLE;
+            case SandboxLauncher.STATUS_LINKAGE_ERROR -> SubmissionVerdict.COMPILE_ERROR;
+            default -> SubmissionVerdict.RUNTIME_ERROR;
+        };
+        List<String> message = new ArrayList<>();
+        if (verdict == SubmissionVerdict.TIME_LIMIT) {
+            message.add(limitMessage(verdict));
+        } else if (!frame.message().isEmpty()) {
+            message.add(frame.message());
+        }
+        if (!frame.errorOutput().isBlank()) {
+            message.add("Fehlerausgabe:\n" + frame.errorOutput().stripTrailing());
+        }
+        if (frame.truncated()) {
+            message.add("Ausgabe nach " + properties.getMaxOutputBytes() + " Bytes abgeschnitten.");
+        }
+        return new RunOutcome(verdict, String.join("\n", message), frame.output(), frame.runMillis());
+    }
+
+    /**
+     * Liest stderr des Prozesses (JVM-Meldungen) bis zum Ende, behält aber nur den Anfang.
+     */
+    private static byte[] drain(InputStream in) throws IOException {
+        ByteArrayOutputStream kept = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        try (in) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                kept.write(buffer, 0, Math.max(0, Math.min(read, MAX_STDERR_BYTES - kept.size())));
+            }
+        }
+        return kept.toByteArray();
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in, int limit) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > limit) {
+            throw new IOException("Ungültige Länge im Frame: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static String text(byte[] bytes) {
+        return bytes != null ? new String(bytes, StandardCharsets.UTF_8) : "";
+    }
+
+    private void kill(Process process) throws InterruptedException {
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+        process.waitFor(STOP_GRACE_MILLIS, TimeUnit.MILLISECONDS);
+        killedProcesses.incrementAndGet();
+        log.debug("Killed submission process {} after deadline", process.pid());
+    }
+
+    private static <T> T await(Future<T> future) throws InterruptedException {
+        try {
+            return future.get(STOP_GRACE_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException ex) {
+            future.cancel(true);
+            return null;
+        }
+    }
+
+    private String limitMessage(SubmissionVerdict verdict) {
+        return verdict == SubmissionVerdict.MEMORY_LIMIT
+                ? "Mehr als " + properties.getMemoryLimitBytes() / (1024 * 1024) + " MB Speicher belegt."
+                : "Laufzeit über " + properties.getTimeLimit().toMillis() + " ms bzw. CPU-Zeit über "
+                + properties.getCpuTimeLimit().toMillis() + " ms.";
+    }
+
+    /**
+     * Legt die Klassen von {@link SandboxLauncher} in ein eigenes Verzeichnis, damit der Kindprozess
+     * nur sie und nicht den Klassenpfad der Anwendung (Konfiguration, Zugangsdaten) sieht.
+     */
+    private static Path extractLauncher() {
+        try {
+            Path directory = Files.createTempDirectory("submission-launcher-");
+            for (Class<?> type : SandboxLauncher.class.getNestMembers()) {
+                String resource = type.getName().replace('.', '/') + ".class";
+                try (InputStream in = SandboxLauncher.class.getClassLoader().getResourceAsStream(resource)) {
+                    if (in == null) {
+                        throw new IOException("Klasse nicht gefunden: " + resource);
+                    }
+                    Path target = directory.resolve(resource);
+                    Files.createDirectories(target.getParent());
+                    Files.copy(in, target);
+                }
+            }
+            return directory;
+        } catch (IOException ex) {
+            log.warn("Could not prepare submission launcher", ex);
+            return null;
+        }
+    }
+
+    private static void deleteQuietly(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try {
+            FileSystemUtils.deleteRecursively(directory);
+        } catch (IOException ex) {
+            log.warn("Could not delete {}", directory, ex);
+        }
+    }
+
+    /**
+     * Übersetzung und Läufe einer Abgabe. Ist {@code verdict} gesetzt, wurde das Programm nicht gestartet
+     * (z.B. Übersetzungsfehler) und {@code message} nennt den Grund; sonst enthält {@code runs} einen Lauf
+     * je Eingabe bis einschließlich zum ersten nicht normal beendeten.
+     */
+    public record Execution(SubmissionVerdict verdict, String message, List<RunOutcome> runs, long compileMillis) {
+
+        static Execution notStarted(SubmissionVerdict verdict, String message, long compileMillis) {
+            return new Execution(verdict, message, List.of(), compileMillis);
+        }
+
+        public boolean isStarted() {
+            return verdict == null;
+        }
+
+        public long runMillis() {
+            return runs.stream().mapToLong(RunOutcome::runMillis).sum();
+        }
+    }
+
+    /**
+     * Ausgang eines Laufs mit einer Eingabe; {@code verdict} ist {@code null}, wenn das Programm normal endete.
+     */
+    public record RunOutcome(SubmissionVerdict verdict, String message, String output, long runMillis) {
+
+        public boolean isCompleted() {
+            return verdict == null;
+        }
+    }
+
+    private record Frame(int status, long runMillis, boolean truncated, String output, String errorOutput, String message) {
+    }
+
+    private record Child(List<RunOutcome> runs, boolean restart) {
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.prog1learnapp.service.submission;
+
+import com.example.prog1learnapp.model.Exercise;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Erwartete Ausgaben der Musterlösungen für die festen Testeingaben einer Aufgabe ({@link TestInputs}).
+ * Schlüssel ist Aufgaben-ID, SHA-256 des {@code solution}-Texts und SHA-256 der Testeingaben; eine geänderte
+ * Musterlösung oder Eingabe ergibt damit automatisch einen neuen Eintrag.
+ * Die Musterlösungen laufen nur im Hintergrund: {@link #precompute(Collection)} füllt den Cache nach Start und
+ * Katalog-Reload, ein Fehlzugriff stößt die Berechnung an und liefert bis dahin ein vorübergehendes Ergebnis.
+ */
+@Component
+public class ReferenceOutputCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ReferenceOutputCache.class);
+
+    private final ProgramRunner runner;
+    private final SubmissionProperties properties;
+    private final ExecutorService executor;
+
+    private final ConcurrentHashMap<Key, CompletableFuture<ReferenceOutput>> outputs = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ReferenceOutputCache(ProgramRunner runner, SubmissionProperties properties) {
+        this.runner = runner;
+        this.properties = properties;
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "reference-output-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Erwartete Ausgaben, sofern schon berechnet. Startet nie die Musterlösung im aufrufenden Thread; fehlt der
+     * Eintrag, wird er im Hintergrund berechnet und bis dahin ein vorübergehendes Ergebnis geliefert.
+     */
+    public ReferenceOutput expectedOutput(Exercise exercise) {
+        return expectedOutput(GradedExercise.of(exercise));
+    }
+
+    public ReferenceOutput expectedOutput(GradedExercise exercise) {
+        if (!exercise.hasSolution()) {
+            return ReferenceOutput.notGradable("Keine Musterlösung hinterlegt.");
+        }
+        CompletableFuture<ReferenceOutput> entry = outputs.get(keyOf(exercise));
+        if (entry != null && entry.isDone()) {
+            hits.increment();
+            return entry.join();
+        }
+        misses.increment();
+        if (entry == null && outputs.size() < properties.getReferenceCacheMaxEntries()) {
+            schedule(exercise);
+        }
+        return ReferenceOutput.transientFailure("Die erwartete Ausgabe wird noch berechnet, bitte gleich erneut abgeben.");
+    }
+
+    /**
+     * Berechnet die Ausgaben aller Musterlösungen auf allen Kernen vor, wartet darauf und verwirft
+     * Einträge von Aufgaben, Lösungsständen oder Eingaben, die nicht mehr übergeben wurden.
+     */
+    public void precompute(Collection<Exercise> exercises) {
+        long start = System.nanoTime();
+        List<GradedExercise> pending = exercises.stream()
+                .map(GradedExercise::of)
+                .filter(GradedExercise::hasSolution)
+                .toList();
+        Set<Key> current = new HashSet<>();
+        pending.forEach(exercise -> current.add(keyOf(exercise)));
+        outputs.keySet().removeIf(key -> !current.contains(key));
+
+        List<CompletableFuture<ReferenceOutput>> futures = new ArrayList<>(pending.size());
+        for (GradedExercise exercise : pending) {
+            futures.add(schedule(exercise));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        long notGradable = futures.stream().filter(future -> !future.join().isGradable()).count();
+        log.info("Precomputed reference outputs for {} exercises in {} ms ({} not gradable)",
+                pending.size(), (System.nanoTime() - start) / 1_000_000, notGradable);
+    }
+
+    public int size() { return outputs.size(); }
+
+    public long getHitCount() { return hits.sum(); }
+
+    public long getMissCount() { return misses.sum(); }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Berechnet den Eintrag im Hintergrund, falls er nicht schon vorhanden ist oder läuft. Vorübergehende
+     * Fehler werden nicht behalten, der nächste Zugriff versucht es erneut.
+     */
+    private CompletableFuture<ReferenceOutput> schedule(GradedExercise exercise) {
+        Key key = keyOf(exercise);
+        CompletableFuture<ReferenceOutput> created = new CompletableFuture<>();
+        CompletableFuture<ReferenceOutput> existing = outputs.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+        List<String> inputs = TestInputs.parse(exercise.testInputs());
+        executor.execute(() -> {
+            try {
+                ReferenceOutput output = execute(exercise.id(), exercise.solution(), inputs);
+                if (!output.cacheable()) {
+                    outputs.remove(key, created);
+                }
+                created.complete(output);
+            } catch (RuntimeException ex) {
+                outputs.remove(key, created);
+                created.complete(ReferenceOutput.transientFailure(ex.getMessage()));
+            }
+        });
+        return created;
+    }
+
+    /**
+     * Führt die Musterlösung für jede Testeingabe aus, in einem Prozess mit einer Übersetzung; die erste
+     * Eingabe läuft am Ende ein zweites Mal, damit zufallsabhängige Ausgaben auffallen statt Abgaben falsch
+     * zu bewerten.
+     */
+    private ReferenceOutput execute(Long exerciseId, String solution, List<String> inputs) {
+        List<String> cases = new ArrayList<>(inputs);
+        cases.add(inputs.get(0));
+        ProgramRunner.Execution execution = runner.execute(solution, cases);
+        if (!execution.isStarted()) {
+            return failure(exerciseId, execution.verdict(), execution.message());
+        }
+        for (ProgramRunner.RunOutcome run : execution.runs()) {
+            if (!run.isCompleted()) {
+                return failure(exerciseId, run.verdict(), run.message());
+            }
+        }
+        List<String> expected = execution.runs().stream().map(ProgramRunner.RunOutcome::output).toList();
+        if (!expected.get(inputs.size()).equals(expected.get(0))) {
+            log.warn("Reference solution of exercise {} is not deterministic", exerciseId);
+            return ReferenceOutput.notGradable("Die Musterlösung liefert keine eindeutige Ausgabe.");
+        }
+        return ReferenceOutput.of(expected.subList(0, inputs.size()));
+    }
+
+    private static ReferenceOutput failure(Long exerciseId, SubmissionVerdict verdict, String message) {
+        if (verdict == SubmissionVerdict.COMPILE_ERROR) {
+            log.warn("Reference solution of exercise {} does not compile: {}", exerciseId, message);
+            return ReferenceOutput.notGradable("Die Musterlösung lässt sich nicht übersetzen.");
+        }
+        log.warn("Reference solution of exercise {} did not finish: {} {}", exerciseId, verdict, message);
+        // Zeitüberschreitungen können an Last liegen und werden nicht zwischengespeichert
+        boolean transientFailure = verdict == SubmissionVerdict.TIME_LIMIT
+                || verdict == SubmissionVerdict.MEMORY_LIMIT;
+        return transientFailure
+                ? ReferenceOutput.transientFailure(message)
+                : ReferenceOutput.notGradable("Die Musterlösung endet nicht fehlerfrei: " + message);
+    }
+
+    private static Key keyOf(GradedExercise exercise) {
+        return new Key(exercise.id(), sha256(exercise.solution()), sha256(String.valueOf(exercise.testInputs())));
+    }
+
+    static String sha256(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 nicht verfügbar", ex);
+        }
+    }
+
+    private record Key(Long exerciseId, String solutionHash, String inputsHash) {
+    }
+
+    /**
+     * Erwartete Ausgabe je Testeingabe oder, wenn {@code outputs} {@code null} ist, der Grund, warum nicht
+     * bewertet werden kann.
+     */
+    public record ReferenceOutput(List<String> outputs, String message, boolean cacheable) {
+
+        static ReferenceOutput of(List<String> outputs) {
+            return new ReferenceOutput(List.copyOf(outputs), "", true);
+        }
+
+        static ReferenceOutput notGradable(String message) {
+            return new ReferenceOutput(null, message, true);
+        }
+
+        static ReferenceOutput transientFailure(String message) {
+            return new ReferenceOutput(null, message, false);
+        }
+
+        public boolean isGradable() {
+            return outputs != null;
+        }
+    }
+}
@@ -0,0 +1,413 @@
+package com.example.prog1learnapp.service.submission;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.security.CodeSource;
+import java.security.Permission;
+import java.security.Permissions;
+import java.security.Policy;
+import java.security.ProtectionDomain;
+import java.security.cert.Certificate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Einstiegspunkt des Kindprozesses, in dem {@link ProgramRunner} die im Server übersetzten Klassen einer
+ * Abgabe für alle Testeingaben ausführt. Läuft ohne Anwendungsklassen auf dem Klassenpfad und nutzt
+ * deshalb nur das JDK.
+ * <p>
+ * Eingabe auf stdin: Name der Hauptklasse, Klassen (Name und Bytecode) und Testeingaben, siehe
+ * {@link ProgramRunner}. Jede Testeingabe läuft mit einem neuen Klassenlader, statische Felder beginnen
+ * also jedes Mal neu; {@code System.in}, {@code System.out} und {@code System.err} werden je Fall ersetzt.
+ * Ein Wächter-Thread prüft Laufzeit und CPU-Zeit je Fall.
+ * <p>
+ * Nach jedem Fall steht ein Frame auf stdout: Status ({@code STATUS_*}), Laufzeit, Kürzungs-Flag, Ausgabe,
+ * Fehlerausgabe und Meldung. Nach dem ersten nicht normal beendeten Fall endet der Prozess. Laufen nach
+ * {@code main} noch Threads der Abgabe, endet er mit {@link #EXIT_RESTART}, und die übrigen Fälle
+ * laufen in einem neuen Prozess.
+ * <p>
+ * Mit {@code -Djava.security.manager=allow} (bis Java 23) erhalten die Klassen der Abgabe eine
+ * Schutzdomäne ohne Rechte; Dateien, Netzwerk, Prozesse, {@code System.exit}, Reflection auf private
+ * Member und das Ändern von {@code System.out} sind dann auch über {@code MethodHandles} verweigert.
+ * Ohne Security Manager schottet allein {@code isolation-command} den Prozess ab.
+ */
+final class SandboxLauncher {
+
+    static final int STATUS_COMPLETED = 0;
+    static final int STATUS_RUNTIME_ERROR = 1;
+    static final int STATUS_FORBIDDEN = 2;
+    static final int STATUS_TIME_LIMIT = 3;
+    static final int STATUS_NO_MAIN = 4;
+    static final int STATUS_LINKAGE_ERROR = 5;
+
+    static final int EXIT_DONE = 0;
+    /**
+     * Exit-Code der JVM bei {@code -XX:+ExitOnOutOfMemoryError}.
+     */
+    static final int EXIT_OUT_OF_MEMORY = 3;
+    static final int EXIT_RESTART = 20;
+    static final int EXIT_SANDBOX_UNAVAILABLE = 21;
+
+    private static final long WATCH_INTERVAL_MILLIS = 5;
+
+    private static final Object LOCK = new Object();
+    private static volatile Case current;
+
+    private SandboxLauncher() {
+    }
+
+    /**
+     * Argumente: Laufzeitlimit und CPU-Zeitlimit je Fall in Millisekunden, Obergrenze je Ausgabestrom in Bytes.
+     */
+    public static void main(String[] args) throws IOException {
+        long timeLimitMillis = Long.parseLong(args[0]);
+        long cpuTimeLimitMillis = Long.parseLong(args[1]);
+        int maxOutputBytes = Integer.parseInt(args[2]);
+
+        // Alles lesen, bevor Code der Abgabe läuft
+        DataInputStream in = new DataInputStream(new BufferedInputStream(System.in));
+        String mainClassName = in.readUTF();
+        Map<String, byte[]> classes = new LinkedHashMap<>();
+        int classCount = in.readInt();
+        for (int i = 0; i < classCount; i++) {
+            classes.put(in.readUTF(), readBytes(in));
+        }
+        List<byte[]> inputs = new ArrayList<>();
+        int caseCount = in.readInt();
+        for (int i = 0; i < caseCount; i++) {
+            inputs.add(readBytes(in));
+        }
+        DataOutputStream frames = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out)));
+
+        if ("allow".equals(System.getProperty("java.security.manager")) && !installSecurityManager()) {
+            System.err.println("Security Manager lässt sich in Java " + Runtime.version().feature() + " nicht aktivieren.");
+            Runtime.getRuntime().halt(EXIT_SANDBOX_UNAVAILABLE);
+        }
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        startWatchdog(frames, timeLimitMillis, cpuTimeLimitMillis);
+
+        for (int i = 0; i < inputs.size(); i++) {
+            Method main;
+            try {
+                main = findMain(new SubmissionLoader(classes), mainClassName);
+            } catch (ClassNotFoundException | LinkageError ex) {
+                stop(frames, new Case(inputs.get(i), maxOutputBytes), STATUS_LINKAGE_ERROR,
+                        "Übersetzung fehlgeschlagen: " + ex.getMessage());
+                return;
+            }
+            if (main == null) {
+                stop(frames, new Case(inputs.get(i), maxOutputBytes), STATUS_NO_MAIN,
+                        "Keine Methode 'public static void main(String[] args)' gefunden.");
+                return;
+            }
+
+            Set<Long> threadsBefore = threadIds(threads);
+            Case run = new Case(inputs.get(i), maxOutputBytes);
+            run.begin();
+            int status = STATUS_COMPLETED;
+            String message = "";
+            try {
+                main.invoke(null, (Object) new String[0]);
+            } catch (InvocationTargetException ex) {
+                String forbidden = forbiddenMessage(ex.getCause());
+                status = forbidden != null ? STATUS_FORBIDDEN : STATUS_RUNTIME_ERROR;
+                message = forbidden != null ? "Nicht erlaubt: " + forbidden : describe(ex.getCause());
+            } catch (IllegalAccessException ex) {
+                status = STATUS_NO_MAIN;
+                message = "Methode 'main' ist nicht öffentlich.";
+            }
+            if (status != STATUS_COMPLETED) {
+                stop(frames, run, status, message);
+                return;
+            }
+            boolean threadsLeft = !threadsBefore.containsAll(threadIds(threads));
+            finish(frames, run, status, message);
+            if (threadsLeft && i < inputs.size() - 1) {
+                // Threads der Abgabe laufen weiter; die übrigen Fälle brauchen einen unbelasteten Prozess
+                Runtime.getRuntime().halt(EXIT_RESTART);
+            }
+        }
+        // halt statt Rückkehr, damit noch laufende Threads der Abgabe den Prozess nicht am Leben halten
+        Runtime.getRuntime().halt(EXIT_DONE);
+    }
+
+    /**
+     * Sucht {@code main} zuerst in der Klasse, nach der die Datei benannt ist, dann in den übrigen
+     * Top-Level-Klassen (z.B. {@code public class GeomFigur} neben {@code class Main}).
+     */
+    private static Method findMain(SubmissionLoader loader, String mainClassName) throws ClassNotFoundException {
+        List<String> candidates = new ArrayList<>();
+        candidates.add(mainClassName);
+        for (String className : loader.classNames()) {
+            if (!className.contains("$") && !className.equals(mainClassName)) {
+                candidates.add(className);
+            }
+        }
+        for (String className : candidates) {
+            Class<?> type = Class.forName(className, false, loader);
+            for (Method method : type.getDeclaredMethods()) {
+                if (method.getName().equals("main") && Modifier.isStatic(method.getModifiers())
+                        && method.getParameterCount() == 1 && method.getParameterTypes()[0] == String[].class) {
+                    method.setAccessible(true);
+                    return method;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Alle Schutzdomänen außer der der Abgabe erhalten alle Rechte; die Abgabe hat eine statische,
+     * leere Domäne, in der die Policy nicht befragt wird. JDK-Code, der für die Abgabe privilegiert
+     * arbeitet ({@code doPrivileged}), funktioniert dadurch weiter.
+     */
+    @SuppressWarnings("removal")
+    private static boolean installSecurityManager() {
+        try {
+            Policy.setPolicy(new Policy() {
+                @Override
+                public boolean implies(ProtectionDomain domain, Permission permission) {
+                    return true;
+                }
+            });
+            System.setSecurityManager(new SecurityManager());
+            return true;
+        } catch (UnsupportedOperationException | SecurityException ex) {
+            return false;
+        }
+    }
+
+    private static void startWatchdog(DataOutputStream frames, long timeLimitMillis, long cpuTimeLimitMillis) {
+        com.sun.management.OperatingSystemMXBean os =
+                (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+        Thread watchdog = new Thread(() -> {
+            while (true) {
+                try {
+                    Thread.sleep(WATCH_INTERVAL_MILLIS);
+                } catch (InterruptedException ex) {
+                    return;
+                }
+                Case run = current;
+                if (run == null) {
+                    continue;
+                }
+                long wallMillis = (System.nanoTime() - run.startNanos) / 1_000_000;
+                long cpuMillis = (os.getProcessCpuTime() - run.cpuStartNanos) / 1_000_000;
+                if (wallMillis > timeLimitMillis || cpuMillis > cpuTimeLimitMillis) {
+                    stop(frames, run, STATUS_TIME_LIMIT, "");
+                }
+            }
+        }, "submission-watchdog");
+        watchdog.setDaemon(true);
+        watchdog.setPriority(Thread.MAX_PRIORITY);
+        watchdog.start();
+    }
+
+    /**
+     * Schreibt den Frame eines nicht normal beendeten Falls und beendet den Prozess.
+     */
+    private static void stop(DataOutputStream frames, Case run, int status, String message) {
+        synchronized (LOCK) {
+            if (run.finished) {
+                return;
+            }
+            finish(frames, run, status, message);
+            Runtime.getRuntime().halt(EXIT_DONE);
+        }
+    }
+
+    private static void finish(DataOutputStream frames, Case run, int status, String message) {
+        synchronized (LOCK) {
+            if (run.finished) {
+                return;
+            }
+            run.finished = true;
+            current = null;
+            long runMillis = run.startNanos != 0 ? (System.nanoTime() - run.startNanos) / 1_000_000 : 0;
+            try {
+                frames.writeInt(status);
+                frames.writeLong(runMillis);
+                frames.writeBoolean(run.out.truncated() || run.err.truncated());
+                writeBytes(frames, run.out.bytes());
+                writeBytes(frames, run.err.bytes());
+                writeBytes(frames, truncate(message.getBytes(StandardCharsets.UTF_8), run.out.limit));
+                frames.flush();
+            } catch (IOException ex) {
+                // Elternprozess liest nicht mehr (Frist abgelaufen)
+                Runtime.getRuntime().halt(EXIT_DONE);
+            }
+        }
+    }
+
+    private static Set<Long> threadIds(ThreadMXBean threads) {
+        Set<Long> ids = new HashSet<>();
+        for (long id : threads.getAllThreadIds()) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private static String forbiddenMessage(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SecurityException) {
+                return String.valueOf(cause.getMessage());
+            }
+        }
+        return null;
+    }
+
+    private static String describe(Throwable error) {
+        StringBuilder message = new StringBuilder(error.getClass().getName());
+        if (error.getMessage() != null) {
+            message.append(": ").append(error.getMessage());
+        }
+        for (StackTraceElement frame : error.getStackTrace()) {
+            // Nur Zeilen aus der Abgabe, nicht aus JDK oder Starter
+            if (SubmissionLoader.NAME.equals(frame.getClassLoaderName())) {
+                message.append("\n\tat ").append(frame);
+            }
+        }
+        return message.toString();
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] truncate(byte[] bytes, int limit) {
+        if (bytes.length <= limit) {
+            return bytes;
+        }
+        byte[] truncated = new byte[limit];
+        System.arraycopy(bytes, 0, truncated, 0, limit);
+        return truncated;
+    }
+
+    /**
+     * Ein Fall: Eingabe, umgeleitete Ausgaben und Startzeitpunkte für den Wächter.
+     */
+    private static final class Case {
+
+        private final byte[] input;
+        private final Capture out;
+        private final Capture err;
+        private volatile long startNanos;
+        private volatile long cpuStartNanos;
+        private boolean finished;
+
+        Case(byte[] input, int maxOutputBytes) {
+            this.input = input;
+            this.out = new Capture(maxOutputBytes);
+            this.err = new Capture(maxOutputBytes);
+        }
+
+        void begin() {
+            System.setIn(new ByteArrayInputStream(input));
+            System.setOut(new PrintStream(out, false, StandardCharsets.UTF_8));
+            System.setErr(new PrintStream(err, false, StandardCharsets.UTF_8));
+            com.sun.management.OperatingSystemMXBean os =
+                    (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+            cpuStartNanos = os.getProcessCpuTime();
+            startNanos = System.nanoTime();
+            current = this;
+        }
+    }
+
+    /**
+     * Nimmt höchstens {@code limit} Bytes auf und verwirft den Rest. PrintStream schreibt jede Ausgabe
+     * sofort hierher durch, der Wächter sieht also ohne {@code flush} den aktuellen Stand.
+     */
+    private static final class Capture extends OutputStream {
+
+        private final int limit;
+        private final ByteArrayOutputStream kept = new ByteArrayOutputStream();
+        private boolean truncated;
+
+        Capture(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            if (kept.size() < limit) {
+                kept.write(b);
+            } else {
+                truncated = true;
+            }
+        }
+
+        @Override
+        public synchronized void write(byte[] bytes, int offset, int length) {
+            int keep = Math.min(length, limit - kept.size());
+            if (keep > 0) {
+                kept.write(bytes, offset, keep);
+            }
+            truncated |= keep < length;
+        }
+
+        synchronized byte[] bytes() {
+            return kept.toByteArray();
+        }
+
+        synchronized boolean truncated() {
+            return truncated;
+        }
+    }
+
+    /**
+     * Lädt die Klassen der Abgabe aus dem Speicher in eine Schutzdomäne ohne Rechte. Elternlader ist
+     * der Plattform-Lader, der Starter selbst bleibt unsichtbar.
+     */
+    private static final class SubmissionLoader extends ClassLoader {
+
+        static final String NAME = "submission";
+
+        private final Map<String, byte[]> classes;
+        private final ProtectionDomain domain;
+
+        SubmissionLoader(Map<String, byte[]> classes) {
+            super(NAME, ClassLoader.getPlatformClassLoader());
+            this.classes = classes;
+            this.domain = new ProtectionDomain(new CodeSource(null, (Certificate[]) null), new Permissions());
+        }
+
+        List<String> classNames() {
+            return List.copyOf(classes.keySet());
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] bytes = classes.get(name);
+            if (bytes == null) {
+                throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, bytes, 0, bytes.length, domain);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.prog1learnapp.service.submission;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+/**
+ * Eine Abgabe in der {@link SubmissionScheduler}-Warteschlange. Zustand und Ergebnis werden vom
+ * Worker gesetzt und von Poll-Anfragen gelesen.
+ */
+public class SubmissionJob {
+
+    public enum State { QUEUED, RUNNING, DONE }
+
+    private final String id = UUID.randomUUID().toString();
+    private final String username;
+    private final Long exerciseId;
+    private final Callable<SubmissionResult> work;
+    private final Instant submittedAt = Instant.now();
+
+    private volatile State state = State.QUEUED;
+    private volatile SubmissionResult result;
+    private volatile Instant finishedAt;
+
+    SubmissionJob(String username, Long exerciseId, Callable<SubmissionResult> work) {
+        this.username = username;
+        this.exerciseId = exerciseId;
+        this.work = work;
+    }
+
+    public String getId() { return id; }
+
+    public String getUsername() { return username; }
+
+    public Long getExerciseId() { return exerciseId; }
+
+    public Instant getSubmittedAt() { return submittedAt; }
+
+    public State getState() { return state; }
+
+    /**
+     * Ergebnis, sobald {@link #getState()} {@link State#DONE} ist, sonst {@code null}.
+     */
+    public SubmissionResult getResult() { return result; }
+
+    Instant getFinishedAt() { return finishedAt; }
+
+    Callable<SubmissionResult> getWork() { return work; }
+
+    void markRunning() {
+        state = State.RUNNING;
+    }
+
+    void complete(SubmissionResult result) {
+        this.result = result;
+        this.finishedAt = Instant.now();
+        this.state = State.DONE;
+    }
+}
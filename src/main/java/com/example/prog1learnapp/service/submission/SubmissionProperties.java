@@ -0,0 +1,149 @@
+package com.example.prog1learnapp.service.submission;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Grenzen für das Übersetzen und Ausführen von Abgaben (Präfix {@code app.submission}).
+ */
+@ConfigurationProperties(prefix = "app.submission")
+public class SubmissionProperties {
+
+    /**
+     * Frist für die Übersetzung im Server; wird zwischen den Compiler-Phasen geprüft.
+     */
+    private Duration compileTimeLimit = Duration.ofSeconds(10);
+
+    /**
+     * Parallele Übersetzungen, zugleich Anzahl vorgewärmter Compiler-Instanzen.
+     */
+    private int compilerPoolSize = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Frist für Start des Kindprozesses und Laden der Klassen; zusammen mit {@code timeLimit} je
+     * Testeingabe die Zeit, nach der der Prozess von außen beendet wird.
+     */
+    private Duration startTimeLimit = Duration.ofSeconds(5);
+
+    /**
+     * Maximale Laufzeit eines Programms je Testeingabe (Wanduhr).
+     */
+    private Duration timeLimit = Duration.ofSeconds(2);
+
+    /**
+     * Maximale CPU-Zeit des Kindprozesses je Testeingabe ab dem Aufruf von {@code main}.
+     */
+    private Duration cpuTimeLimit = Duration.ofSeconds(1);
+
+    /**
+     * Maximaler Heap des Kindprozesses ({@code -Xmx}).
+     */
+    private long memoryLimitBytes = 64L * 1024 * 1024;
+
+    /**
+     * Obergrenze je Ausgabestrom (stdout, stderr); weitere Ausgabe wird verworfen.
+     */
+    private int maxOutputBytes = 64 * 1024;
+
+    private int maxSourceLength = 20_000;
+
+    /**
+     * Security Manager im Kindprozess aktivieren, solange die Java-Version ihn unterstützt (bis 23).
+     */
+    private boolean securityManager = true;
+
+    /**
+     * Prefix vor dem {@code java}-Aufruf des Kindprozesses zur Abschottung auf Betriebssystemebene, z.B.
+     * {@code [prlimit, --fsize=0, --nofile=64, --core=0, --, unshare, --user, --map-root-user, --net, --]}.
+     * Ohne Security Manager (ab Java 24) Voraussetzung dafür, dass Abgaben überhaupt laufen.
+     */
+    private List<String> isolationCommand = List.of();
+
+    /**
+     * Compiler nach dem Start vorwärmen und die Ausgaben der Musterlösungen im Hintergrund vorberechnen.
+     */
+    private boolean warmUp = true;
+
+    /**
+     * Obergrenze für zwischengespeicherte Ausgaben von Musterlösungen (je Aufgabe, Lösungsstand und Testeingaben).
+     */
+    private int referenceCacheMaxEntries = 10_000;
+
+    /**
+     * Obergrenze (geschätzte Bytes) für zwischengespeicherte Bewertungen identischer Abgaben.
+     */
+    private long resultCacheMaxBytes = 16L * 1024 * 1024;
+
+    /**
+     * Worker-Threads, die Abgaben aus der Warteschlange abarbeiten.
+     */
+    private int workerCount = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Maximal wartende Abgaben insgesamt; darüber wird mit HTTP 429 abgelehnt.
+     */
+    private int queueCapacity = 200;
+
+    /**
+     * Maximal gleichzeitig wartende oder laufende Abgaben pro Benutzer.
+     */
+    private int perUserLimit = 2;
+
+    /**
+     * Wie lange ein fertiges Ergebnis abrufbar bleibt.
+     */
+    private Duration resultRetention = Duration.ofMinutes(10);
+
+    public Duration getCompileTimeLimit() { return compileTimeLimit; }
+    public void setCompileTimeLimit(Duration compileTimeLimit) { this.compileTimeLimit = compileTimeLimit; }
+
+    public int getCompilerPoolSize() { return compilerPoolSize; }
+    public void setCompilerPoolSize(int compilerPoolSize) { this.compilerPoolSize = compilerPoolSize; }
+
+    public Duration getStartTimeLimit() { return startTimeLimit; }
+    public void setStartTimeLimit(Duration startTimeLimit) { this.startTimeLimit = startTimeLimit; }
+
+    public Duration getTimeLimit() { return timeLimit; }
+    public void setTimeLimit(Duration timeLimit) { this.timeLimit = timeLimit; }
+
+    public Duration getCpuTimeLimit() { return cpuTimeLimit; }
+    public void setCpuTimeLimit(Duration cpuTimeLimit) { this.cpuTimeLimit = cpuTimeLimit; }
+
+    public long getMemoryLimitBytes() { return memoryLimitBytes; }
+    public void setMemoryLimitBytes(long memoryLimitBytes) { this.memoryLimitBytes = memoryLimitBytes; }
+
+    public int getMaxOutputBytes() { return maxOutputBytes; }
+    public void setMaxOutputBytes(int maxOutputBytes) { this.maxOutputBytes = maxOutputBytes; }
+
+    public int getMaxSourceLength() { return maxSourceLength; }
+    public void setMaxSourceLength(int maxSourceLength) { this.maxSourceLength = maxSourceLength; }
+
+    public boolean isSecurityManager() { return securityManager; }
+    public void setSecurityManager(boolean securityManager) { this.securityManager = securityManager; }
+
+    public List<String> getIsolationCommand() { return isolationCommand; }
+    public void setIsolationCommand(List<String> isolationCommand) { this.isolationCommand = isolationCommand; }
+
+    public boolean isWarmUp() { return warmUp; }
+    public void setWarmUp(boolean warmUp) { this.warmUp = warmUp; }
+
+    public int getReferenceCacheMaxEntries() { return referenceCacheMaxEntries; }
+    public void setReferenceCacheMaxEntries(int referenceCacheMaxEntries) { this.referenceCacheMaxEntries = referenceCacheMaxEntries; }
+
+    public long getResultCacheMaxBytes() { return resultCacheMaxBytes; }
+    public void setResultCacheMaxBytes(long resultCacheMaxBytes) { this.resultCacheMaxBytes = resultCacheMaxBytes; }
+
+    public int getWorkerCount() { return workerCount; }
+    public void setWorkerCount(int workerCount) { this.workerCount = workerCount; }
+
+    public int getQueueCapacity() { return queueCapacity; }
+    public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+
+    public int getPerUserLimit() { return perUserLimit; }
+    public void setPerUserLimit(int perUserLimit) { this.perUserLimit = perUserLimit; }
+
+    public Duration getResultRetention() { return resultRetention; }
+    public void setResultRetention(Duration resultRetention) { this.resultRetention = resultRetention; }
+}
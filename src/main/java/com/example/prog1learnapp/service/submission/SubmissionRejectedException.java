@@ -0,0 +1,19 @@
+package com.example.prog1learnapp.service.submission;
+
+/**
+ * Die Warteschlange nimmt die Abgabe gerade nicht an; {@link #getRetryAfterSeconds()} ist ein Richtwert
+ * für einen erneuten Versuch.
+ */
+public class SubmissionRejectedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public SubmissionRejectedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
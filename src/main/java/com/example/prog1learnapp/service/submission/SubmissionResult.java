@@ -0,0 +1,58 @@
+package com.example.prog1learnapp.service.submission;
+
+/**
+ * Unveränderliches Ergebnis einer Abgabe. {@code output} ist die (ggf. gekürzte) Konsolenausgabe
+ * des Studierendenprogramms, {@code message} Compiler- bzw. Fehlermeldungen.
+ */
+public final class SubmissionResult {
+
+    private final SubmissionVerdict verdict;
+    private final String message;
+    private final String output;
+    private final int firstDifferentLine;
+    private final long compileMillis;
+    private final long runMillis;
+    private final boolean cached;
+
+    SubmissionResult(SubmissionVerdict verdict, String message, String output,
+                     int firstDifferentLine, long compileMillis, long runMillis) {
+        this(verdict, message, output, firstDifferentLine, compileMillis, runMillis, false);
+    }
+
+    private SubmissionResult(SubmissionVerdict verdict, String message, String output,
+                             int firstDifferentLine, long compileMillis, long runMillis, boolean cached) {
+        this.verdict = verdict;
+        this.message = message;
+        this.output = output;
+        this.firstDifferentLine = firstDifferentLine;
+        this.compileMillis = compileMillis;
+        this.runMillis = runMillis;
+        this.cached = cached;
+    }
+
+    SubmissionResult asCached() {
+        return new SubmissionResult(verdict, message, output, firstDifferentLine, compileMillis, runMillis, true);
+    }
+
+    public SubmissionVerdict getVerdict() { return verdict; }
+
+    public boolean isAccepted() { return verdict == SubmissionVerdict.ACCEPTED; }
+
+    public String getMessage() { return message; }
+
+    public String getOutput() { return output; }
+
+    /**
+     * Erste abweichende Ausgabezeile (1-basiert) bei {@link SubmissionVerdict#WRONG_OUTPUT}, sonst 0.
+     */
+    public int getFirstDifferentLine() { return firstDifferentLine; }
+
+    public long getCompileMillis() { return compileMillis; }
+
+    public long getRunMillis() { return runMillis; }
+
+    /**
+     * {@code true}, wenn das Ergebnis einer identischen früheren Abgabe wiederverwendet wurde.
+     */
+    public boolean isCached() { return cached; }
+}
@@ -0,0 +1,154 @@
+package com.example.prog1learnapp.service.submission;
+
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LRU-Cache für Bewertungen identischer Abgaben. Schlüssel ist die Aufgaben-ID und ein SHA-256 über
+ * Musterlösung, Testeingaben und normalisierten Quelltext; eine geänderte Musterlösung trifft also keinen
+ * alten Eintrag. Begrenzt wird nach geschätzter Größe der Ergebnisse, da Ausgaben bis zu
+ * {@code maxOutputBytes} groß sein können.
+ */
+@Component
+public class SubmissionResultCache {
+
+    /**
+     * Nur deterministische Ergebnisse; Zeit- und Speicherlimits hängen auch von der Last ab.
+     */
+    private static final Set<SubmissionVerdict> CACHEABLE = Set.of(
+            SubmissionVerdict.ACCEPTED, SubmissionVerdict.WRONG_OUTPUT, SubmissionVerdict.COMPILE_ERROR,
+            SubmissionVerdict.FORBIDDEN, SubmissionVerdict.RUNTIME_ERROR);
+
+    private static final int ENTRY_OVERHEAD_BYTES = 160;
+
+    private final long maxBytes;
+    private final LinkedHashMap<Key, SubmissionResult> results = new LinkedHashMap<>(256, 0.75f, true);
+    private long currentBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public SubmissionResultCache(SubmissionProperties properties) {
+        this.maxBytes = properties.getResultCacheMaxBytes();
+    }
+
+    /**
+     * Schlüssel für eine Abgabe; Zeilenenden und Leerraum am Zeilenende spielen keine Rolle.
+     */
+    public static Key keyOf(Long exerciseId, String solution, String testInputs, String source) {
+        MessageDigest digest = sha256();
+        update(digest, solution);
+        update(digest, testInputs);
+        update(digest, normalizeSource(source));
+        return new Key(exerciseId, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    public SubmissionResult get(Key key) {
+        SubmissionResult result;
+        synchronized (results) {
+            result = results.get(key);
+        }
+        if (result == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return result.asCached();
+    }
+
+    public void put(Key key, SubmissionResult result) {
+        if (!CACHEABLE.contains(result.getVerdict())) {
+            return;
+        }
+        long size = sizeOf(result);
+        if (size > maxBytes) {
+            return;
+        }
+        synchronized (results) {
+            SubmissionResult previous = results.put(key, result);
+            if (previous != null) {
+                currentBytes -= sizeOf(previous);
+            }
+            currentBytes += size;
+            Iterator<Map.Entry<Key, SubmissionResult>> eldest = results.entrySet().iterator();
+            while (currentBytes > maxBytes && eldest.hasNext()) {
+                currentBytes -= sizeOf(eldest.next().getValue());
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    public int size() {
+        synchronized (results) {
+            return results.size();
+        }
+    }
+
+    public long getEstimatedBytes() {
+        synchronized (results) {
+            return currentBytes;
+        }
+    }
+
+    public long getHitCount() { return hits.sum(); }
+
+    public long getMissCount() { return misses.sum(); }
+
+    public long getEvictionCount() { return evictions.sum(); }
+
+    /**
+     * Anteil der Treffer an allen Abfragen (0 ohne Abfragen).
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    static String normalizeSource(String source) {
+        StringBuilder normalized = new StringBuilder(source.length());
+        for (String line : source.replace("\r\n", "\n").replace('\r', '\n').split("\n")) {
+            normalized.append(line.stripTrailing()).append('\n');
+        }
+        int end = normalized.length();
+        while (end > 0 && normalized.charAt(end - 1) == '\n') {
+            end--;
+        }
+        normalized.setLength(end);
+        return normalized.toString();
+    }
+
+    private static long sizeOf(SubmissionResult result) {
+        return ENTRY_OVERHEAD_BYTES + 2L * (result.getOutput().length() + result.getMessage().length());
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        byte[] bytes = (value != null ? value : "").getBytes(StandardCharsets.UTF_8);
+        // Länge voranstellen, damit die Grenze zwischen den Teilen eindeutig ist
+        digest.update(new byte[] {(byte) (bytes.length >>> 24), (byte) (bytes.length >>> 16),
+                (byte) (bytes.length >>> 8), (byte) bytes.length});
+        digest.update(bytes);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 nicht verfügbar", ex);
+        }
+    }
+
+    public record Key(Long exerciseId, String hash) {
+    }
+}
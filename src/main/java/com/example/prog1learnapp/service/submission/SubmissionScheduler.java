@@ -0,0 +1,201 @@
+package com.example.prog1learnapp.service.submission;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Führt Abgaben auf einer festen Anzahl Worker-Threads aus, nie auf dem Request-Thread.
+ * <p>
+ * Jeder Benutzer hat eine eigene FIFO-Warteschlange; Worker bedienen die Benutzer reihum, sodass
+ * viele Abgaben eines Benutzers die anderer nicht verdrängen. Die Annahme ist begrenzt: insgesamt
+ * höchstens {@code queueCapacity} wartende und pro Benutzer höchstens {@code perUserLimit}
+ * wartende oder laufende Abgaben, sonst {@link SubmissionRejectedException} mit Wartezeit-Hinweis.
+ * Die CPU-Zeit je Abgabe begrenzt {@link ProgramRunner}.
+ */
+@Component
+public class SubmissionScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(SubmissionScheduler.class);
+
+    /**
+     * Gewicht eines neuen Messwerts im gleitenden Mittel der Bearbeitungsdauer.
+     */
+    private static final double DURATION_SMOOTHING = 0.2;
+
+    private final SubmissionProperties properties;
+    private final Map<String, SubmissionJob> jobs = new ConcurrentHashMap<>();
+
+    // Geschützt durch lock
+    private final Object lock = new Object();
+    private final Map<String, ArrayDeque<SubmissionJob>> queuesByUser = new HashMap<>();
+    private final ArrayDeque<String> usersInTurn = new ArrayDeque<>();
+    private final Map<String, Integer> activeByUser = new HashMap<>();
+    private int queuedCount;
+    private int runningCount;
+    private double averageJobMillis = 500;
+    private boolean shutdown;
+
+    private final List<Thread> workers = new ArrayList<>();
+
+    public SubmissionScheduler(SubmissionProperties properties) {
+        this.properties = properties;
+        int workerCount = Math.max(1, properties.getWorkerCount());
+        for (int i = 1; i <= workerCount; i++) {
+            Thread worker = new Thread(this::workLoop, "submission-worker-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    /**
+     * Reiht eine Abgabe ein.
+     *
+     * @throws SubmissionRejectedException wenn die Warteschlange oder das Benutzerlimit voll ist
+     */
+    public SubmissionJob submit(String username, Long exerciseId, Callable<SubmissionResult> work) {
+        SubmissionJob job = new SubmissionJob(username, exerciseId, work);
+        synchronized (lock) {
+            if (shutdown) {
+                throw new SubmissionRejectedException("Abgaben werden gerade nicht angenommen.", retryAfterSeconds());
+            }
+            int active = activeByUser.getOrDefault(username, 0);
+            if (active >= properties.getPerUserLimit()) {
+                throw new SubmissionRejectedException("Es laufen bereits " + active
+                        + " Abgaben. Bitte warte auf deren Ergebnis.", retryAfterSeconds());
+            }
+            if (queuedCount >= properties.getQueueCapacity()) {
+                log.warn("Submission queue full ({} waiting), rejecting submission of '{}'", queuedCount, username);
+                throw new SubmissionRejectedException("Gerade sind sehr viele Abgaben in Arbeit.", retryAfterSeconds());
+            }
+            ArrayDeque<SubmissionJob> queue = queuesByUser.computeIfAbsent(username, key -> new ArrayDeque<>());
+            if (queue.isEmpty()) {
+                usersInTurn.addLast(username);
+            }
+            queue.addLast(job);
+            activeByUser.put(username, active + 1);
+            queuedCount++;
+            jobs.put(job.getId(), job);
+            lock.notify();
+        }
+        return job;
+    }
+
+    /**
+     * Abgabe nur für ihren eigenen Benutzer.
+     */
+    public Optional<SubmissionJob> find(String jobId, String username) {
+        SubmissionJob job = jobs.get(jobId);
+        return job != null && job.getUsername().equals(username) ? Optional.of(job) : Optional.empty();
+    }
+
+    public int getQueuedCount() {
+        synchronized (lock) {
+            return queuedCount;
+        }
+    }
+
+    public int getRunningCount() {
+        synchronized (lock) {
+            return runningCount;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "PT1M", initialDelayString = "PT1M")
+    public void evictFinishedJobs() {
+        Instant cutoff = Instant.now().minus(properties.getResultRetention());
+        jobs.values().removeIf(job -> job.getFinishedAt() != null && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        synchronized (lock) {
+            shutdown = true;
+            lock.notifyAll();
+        }
+        workers.forEach(Thread::interrupt);
+    }
+
+    private void workLoop() {
+        while (true) {
+            SubmissionJob job;
+            try {
+                job = takeNext();
+            } catch (InterruptedException ex) {
+                return;
+            }
+            if (job == null) {
+                return;
+            }
+            long start = System.nanoTime();
+            SubmissionResult result;
+            try {
+                result = job.getWork().call();
+            } catch (IllegalArgumentException ex) {
+                result = new SubmissionResult(SubmissionVerdict.NOT_GRADABLE, ex.getMessage(), "", 0, 0, 0);
+            } catch (Exception ex) {
+                log.error("Submission {} of '{}' failed", job.getId(), job.getUsername(), ex);
+                result = new SubmissionResult(SubmissionVerdict.NOT_GRADABLE,
+                        "Die Abgabe konnte nicht bewertet werden.", "", 0, 0, 0);
+            }
+            // Erst Zähler freigeben, damit ein Client, der DONE sieht, sofort erneut abgeben kann
+            finished(job, (System.nanoTime() - start) / 1_000_000);
+            job.complete(result);
+        }
+    }
+
+    /**
+     * Nächste Abgabe des Benutzers, der an der Reihe ist; der Benutzer rückt danach ans Ende.
+     */
+    private SubmissionJob takeNext() throws InterruptedException {
+        synchronized (lock) {
+            while (usersInTurn.isEmpty()) {
+                if (shutdown) {
+                    return null;
+                }
+                lock.wait();
+            }
+            String username = usersInTurn.pollFirst();
+            ArrayDeque<SubmissionJob> queue = queuesByUser.get(username);
+            SubmissionJob job = queue.pollFirst();
+            if (queue.isEmpty()) {
+                queuesByUser.remove(username);
+            } else {
+                usersInTurn.addLast(username);
+            }
+            queuedCount--;
+            runningCount++;
+            job.markRunning();
+            return job;
+        }
+    }
+
+    private void finished(SubmissionJob job, long millis) {
+        synchronized (lock) {
+            runningCount--;
+            activeByUser.computeIfPresent(job.getUsername(), (user, active) -> active > 1 ? active - 1 : null);
+            averageJobMillis += DURATION_SMOOTHING * (millis - averageJobMillis);
+        }
+    }
+
+    /**
+     * Geschätzte Sekunden, bis die aktuelle Warteschlange abgearbeitet ist (mindestens 1).
+     */
+    private long retryAfterSeconds() {
+        double rounds = (double) (queuedCount + runningCount) / workers.size();
+        return Math.max(1, (long) Math.ceil(rounds * averageJobMillis / 1000));
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.prog1learnapp.service.submission;
+
+import com.example.prog1learnapp.model.Exercise;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Bewertet Abgaben: übersetzt den Code über {@link ProgramRunner} einmal und startet ihn in einem eigenen
+ * Prozess mit Zeit- und Speicherbudget für jede feste Testeingabe der Aufgabe ({@link TestInputs}), und vergleicht
+ * die Ausgaben mit denen des Referenz-{@code solution}. Die erwarteten Ausgaben kommen aus dem
+ * {@link ReferenceOutputCache}, sodass pro Abgabe nur der Studierendencode läuft; identische Abgaben
+ * beantwortet der {@link SubmissionResultCache} ohne neuen Prozess.
+ */
+@Service
+public class SubmissionService {
+
+    private final ProgramRunner runner;
+    private final ReferenceOutputCache referenceOutputs;
+    private final SubmissionResultCache resultCache;
+    private final SubmissionProperties properties;
+
+    public SubmissionService(ProgramRunner runner, ReferenceOutputCache referenceOutputs,
+                             SubmissionResultCache resultCache, SubmissionProperties properties) {
+        this.runner = runner;
+        this.referenceOutputs = referenceOutputs;
+        this.resultCache = resultCache;
+        this.properties = properties;
+    }
+
+    public SubmissionResult grade(Exercise exercise, String source) {
+        if (exercise == null) {
+            throw new IllegalArgumentException("Aufgabe muss gesetzt sein.");
+        }
+        return grade(GradedExercise.of(exercise), source);
+    }
+
+    /**
+     * Bewertet mit den vorab gelesenen Werten der Aufgabe; für Worker-Threads ohne Zugriff auf die Entity.
+     */
+    public SubmissionResult grade(GradedExercise exercise, String source) {
+        if (exercise == null) {
+            throw new IllegalArgumentException("Aufgabe muss gesetzt sein.");
+        }
+        checkSource(source);
+
+        SubmissionResultCache.Key key = SubmissionResultCache.keyOf(exercise.id(), exercise.solution(),
+                exercise.testInputs(), source);
+        SubmissionResult cached = resultCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        SubmissionResult result = evaluate(exercise, source);
+        resultCache.put(key, result);
+        return result;
+    }
+
+    /**
+     * Übersetzt einmal, lässt alle Testeingaben in einem Prozess laufen und bricht beim ersten Fehler oder
+     * der ersten Abweichung ab. Ohne erwartete Ausgaben wird der Studierendencode gar nicht erst gestartet.
+     */
+    private SubmissionResult evaluate(GradedExercise exercise, String source) {
+        ReferenceOutputCache.ReferenceOutput expected = referenceOutputs.expectedOutput(exercise);
+        if (!expected.isGradable()) {
+            return new SubmissionResult(SubmissionVerdict.NOT_GRADABLE, expected.message(), "", 0, 0, 0);
+        }
+        List<String> inputs = TestInputs.parse(exercise.testInputs());
+        ProgramRunner.Execution execution = runner.execute(source, inputs);
+        long compileMillis = execution.compileMillis();
+        long runMillis = execution.runMillis();
+        if (!execution.isStarted()) {
+            return new SubmissionResult(execution.verdict(), execution.message(), "", 0, compileMillis, 0);
+        }
+        List<ProgramRunner.RunOutcome> runs = execution.runs();
+        for (int i = 0; i < runs.size(); i++) {
+            ProgramRunner.RunOutcome run = runs.get(i);
+            if (!run.isCompleted()) {
+                return new SubmissionResult(run.verdict(), describeCase(inputs, i, run.message()), run.output(), 0,
+                        compileMillis, runMillis);
+            }
+            int firstDifferentLine = firstDifferentLine(normalize(expected.outputs().get(i)), normalize(run.output()));
+            if (firstDifferentLine != 0) {
+                return new SubmissionResult(SubmissionVerdict.WRONG_OUTPUT, describeCase(inputs, i, run.message()),
+                        run.output(), firstDifferentLine, compileMillis, runMillis);
+            }
+        }
+        ProgramRunner.RunOutcome last = runs.get(runs.size() - 1);
+        return new SubmissionResult(SubmissionVerdict.ACCEPTED, last.message(), last.output(), 0, compileMillis, runMillis);
+    }
+
+    /**
+     * Nennt bei mehreren Testeingaben die betroffene, damit die Ausgabe nachvollziehbar ist.
+     */
+    private static String describeCase(List<String> inputs, int index, String message) {
+        if (inputs.size() == 1) {
+            return message;
+        }
+        String header = "Testeingabe " + (index + 1) + " von " + inputs.size() + ":\n" + inputs.get(index).stripTrailing();
+        return message.isEmpty() ? header : header + "\n\n" + message;
+    }
+
+    public boolean isAvailable() {
+        return runner.isAvailable();
+    }
+
+    /**
+     * Prüft den Quelltext vorab, damit ungültige Abgaben gar nicht erst in die Warteschlange kommen.
+     */
+    public void checkSource(String source) {
+        if (source == null || source.isBlank()) {
+            throw new IllegalArgumentException("Quelltext darf nicht leer sein.");
+        }
+        if (source.length() > properties.getMaxSourceLength()) {
+            throw new IllegalArgumentException("Quelltext ist laenger als " + properties.getMaxSourceLength() + " Zeichen.");
+        }
+    }
+
+    /**
+     * Vereinheitlicht Zeilenenden und entfernt Leerraum am Zeilenende sowie Leerzeilen am Schluss.
+     */
+    static String[] normalize(String output) {
+        String[] lines = output.replace("\r\n", "\n").replace('\r', '\n').split("\n", -1);
+        int count = lines.length;
+        for (int i = 0; i < count; i++) {
+            lines[i] = lines[i].stripTrailing();
+        }
+        while (count > 0 && lines[count - 1].isEmpty()) {
+            count--;
+        }
+        String[] trimmed = new String[count];
+        System.arraycopy(lines, 0, trimmed, 0, count);
+        return trimmed;
+    }
+
+    /**
+     * Erste abweichende Zeile (1-basiert) oder 0 bei identischer Ausgabe.
+     */
+    static int firstDifferentLine(String[] expected, String[] actual) {
+        int common = Math.min(expected.length, actual.length);
+        for (int i = 0; i < common; i++) {
+            if (!expected[i].equals(actual[i])) {
+                return i + 1;
+            }
+        }
+        return expected.length == actual.length ? 0 : common + 1;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.prog1learnapp.service.submission;
+
+/**
+ * Ergebnis einer bewerteten Abgabe.
+ */
+public enum SubmissionVerdict {
+    ACCEPTED("Richtig"),
+    WRONG_OUTPUT("Falsche Ausgabe"),
+    COMPILE_ERROR("Kompilierfehler"),
+    RUNTIME_ERROR("Laufzeitfehler"),
+    TIME_LIMIT("Zeitlimit überschritten"),
+    MEMORY_LIMIT("Speicherlimit überschritten"),
+    FORBIDDEN("Nicht erlaubter Aufruf"),
+    NOT_GRADABLE("Nicht automatisch bewertbar");
+
+    private final String displayName;
+
+    SubmissionVerdict(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.prog1learnapp.service.submission;
+
+import com.example.prog1learnapp.model.Exercise;
+import com.example.prog1learnapp.service.CatalogCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Wärmt nach dem Start im Hintergrund die gepoolten Compiler-Instanzen vor und berechnet danach die Ausgaben
+ * der Musterlösungen vor. Nach einem Katalog-Reload werden nur die Ausgaben neu berechnet.
+ */
+@Component
+public class SubmissionWarmUp {
+
+    private static final Logger log = LoggerFactory.getLogger(SubmissionWarmUp.class);
+
+    private final ProgramRunner runner;
+    private final InMemoryJavaCompiler compiler;
+    private final ReferenceOutputCache referenceOutputs;
+    private final CatalogCache catalogCache;
+    private final SubmissionProperties properties;
+
+    public SubmissionWarmUp(ProgramRunner runner,
+                            InMemoryJavaCompiler compiler,
+                            ReferenceOutputCache referenceOutputs,
+                            CatalogCache catalogCache,
+                            SubmissionProperties properties) {
+        this.runner = runner;
+        this.compiler = compiler;
+        this.referenceOutputs = referenceOutputs;
+        this.catalogCache = catalogCache;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!properties.isWarmUp() || !runner.isAvailable()) {
+            return;
+        }
+        List<Exercise> exercises = List.copyOf(catalogCache.snapshot().getExercises());
+        startInBackground(() -> {
+            compiler.warmUp();
+            referenceOutputs.precompute(exercises);
+        });
+    }
+
+    /**
+     * Berechnet die Ausgaben für einen neuen Katalogstand vor, ohne den Aufrufer zu blockieren.
+     */
+    public void refreshReferenceOutputs(Collection<Exercise> exercises) {
+        if (!runner.isAvailable()) {
+            return;
+        }
+        List<Exercise> copy = List.copyOf(exercises);
+        startInBackground(() -> referenceOutputs.precompute(copy));
+    }
+
+    private void startInBackground(Runnable task) {
+        Thread thread = new Thread(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException ex) {
+                log.warn("Submission warm-up failed", ex);
+            }
+        }, "submission-warm-up");
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.prog1learnapp.service.submission;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Zerlegt die Testeingaben einer Aufgabe ({@code Exercise.testInputs}) in einzelne Fälle. Die Fälle stehen
+ * untereinander, getrennt durch eine Zeile {@value #SEPARATOR}; Leerzeilen innerhalb eines Falls bleiben
+ * erhalten. Ohne Testeingaben gibt es genau einen Fall mit leerer Eingabe.
+ */
+final class TestInputs {
+
+    static final String SEPARATOR = "---";
+
+    private TestInputs() {
+    }
+
+    static List<String> parse(String testInputs) {
+        if (testInputs == null || testInputs.isBlank()) {
+            return List.of("");
+        }
+        String text = testInputs.replace("\r\n", "\n").replace('\r', '\n');
+        if (text.endsWith("\n")) {
+            text = text.substring(0, text.length() - 1);
+        }
+        List<String> cases = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String line : text.split("\n", -1)) {
+            if (line.strip().equals(SEPARATOR)) {
+                cases.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(line).append('\n');
+            }
+        }
+        cases.add(current.toString());
+        return List.copyOf(cases);
+    }
+}
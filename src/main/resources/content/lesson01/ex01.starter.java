@@ -0,0 +1,5 @@
+public class HelloWorld {
+    public static void main(String[] args) {
+        // Dein Code hier
+    }
+}
\ No newline at end of file
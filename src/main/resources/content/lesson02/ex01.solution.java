@@ -0,0 +1,11 @@
+public class DatenTypen {
+    public static void main(String[] args) {
+        int alter = 21;
+        double preis = 19.99;
+        boolean istStudent = true;
+        
+        System.out.println("Alter: " + alter);
+        System.out.println("Preis: " + preis);
+        System.out.println("Ist Student: " + istStudent);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+public class DatenTypen {
+    public static void main(String[] args) {
+        // TODO 1: Deklariere eine int-Variable 'alter' mit Wert 21
+        
+        // TODO 2: Deklariere eine double-Variable 'preis' mit Wert 19.99
+        
+        // TODO 3: Deklariere eine boolean-Variable 'istStudent' mit Wert true
+        
+        // TODO 4: Gib alle Variablen mit System.out.println() aus
+    }
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+import java.util.ArrayList;
+import java.util.Scanner;
+
+public class ListenVergleich {
+    public static void main(String[] args) {
+        Scanner scanner = new Scanner(System.in);
+        ArrayList<Integer> listeA = new ArrayList<>();
+        ArrayList<Integer> listeB = new ArrayList<>();
+        
+        // Eingabe für Liste A
+        System.out.println("Geben Sie Werte für Liste A ein (Ende mit 'ende'):");
+        while (scanner.hasNextInt()) {
+            listeA.add(scanner.nextInt());
+        }
+        scanner.next(); // 'ende' konsumieren
+        
+        // Eingabe für Liste B
+        System.out.println("Geben Sie Werte für Liste B ein (Ende mit 'ende'):");
+        while (scanner.hasNextInt()) {
+            listeB.add(scanner.nextInt());
+        }
+        scanner.next(); // 'ende' konsumieren
+        
+        // Inhaltliche Gleichheit prüfen
+        boolean gleich = listeA.equals(listeB);
+        
+        System.out.println("Die Listen sind inhaltlich " + (gleich ? "gleich" : "ungleich"));
+        
+        // Erklärung:
+        // 'listeA == listeB' vergleicht die Referenzen (Speicheradressen),
+        // nicht den Inhalt. Zwei verschiedene Listenobjekte haben unterschiedliche Referenzen.
+        // Vorbedingung: Die Listen müssen in derselben Reihenfolge die gleichen Elemente enthalten.
+    }
+}
\ No newline at end of file
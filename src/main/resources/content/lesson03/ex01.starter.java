@@ -0,0 +1,21 @@
+import java.util.ArrayList;
+import java.util.Scanner;
+
+public class ListenVergleich {
+    public static void main(String[] args) {
+        Scanner scanner = new Scanner(System.in);
+        ArrayList<Integer> listeA = new ArrayList<>();
+        ArrayList<Integer> listeB = new ArrayList<>();
+        
+        System.out.println("Geben Sie Werte für Liste A ein (Ende mit 'ende'):");
+        // TODO 1: Werte für listeA einlesen
+        
+        System.out.println("Geben Sie Werte für Liste B ein (Ende mit 'ende'):");
+        // TODO 2: Werte für listeB einlesen
+        
+        // TODO 3: Prüfung auf inhaltliche Gleichheit
+        // Warum funktioniert listeA == listeB nicht?
+        
+        // TODO 4: Ausgabe des Ergebnisses
+    }
+}
\ No newline at end of file
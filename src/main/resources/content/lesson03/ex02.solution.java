@@ -0,0 +1,41 @@
+import java.util.ArrayList;
+import java.util.Scanner;
+
+public class MinMaxPosition {
+    public static void main(String[] args) {
+        Scanner scanner = new Scanner(System.in);
+        ArrayList<Integer> zahlen = new ArrayList<>();
+        
+        System.out.print("Wie viele Zahlen möchten Sie eingeben? ");
+        int anzahl = scanner.nextInt();
+        
+        // Eingabe
+        for (int i = 0; i < anzahl; i++) {
+            System.out.print("Zahl " + (i + 1) + ": ");
+            zahlen.add(scanner.nextInt());
+        }
+        
+        // Initialisierung mit erstem Element
+        int maxWert = zahlen.get(0);
+        int minWert = zahlen.get(0);
+        int maxPos = 0;
+        int minPos = 0;
+        
+        // Durchlaufen (starten bei 1, da 0 schon initialisiert)
+        for (int i = 1; i < zahlen.size(); i++) {
+            int aktuell = zahlen.get(i);
+            if (aktuell > maxWert) {
+                maxWert = aktuell;
+                maxPos = i;
+            }
+            if (aktuell < minWert) {
+                minWert = aktuell;
+                minPos = i;
+            }
+        }
+        
+        // Ausgabe (Positionen um 1 erhöht für Benutzerfreundlichkeit)
+        System.out.println("Maximum: " + maxWert + " an Position " + (maxPos + 1));
+        System.out.println("Minimum: " + minWert + " an Position " + (minPos + 1));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,18 @@
+import java.util.ArrayList;
+import java.util.Scanner;
+
+public class MinMaxPosition {
+    public static void main(String[] args) {
+        Scanner scanner = new Scanner(System.in);
+        ArrayList<Integer> zahlen = new ArrayList<>();
+        
+        System.out.print("Wie viele Zahlen möchten Sie eingeben? ");
+        int anzahl = scanner.nextInt();
+        
+        // TODO 1: Zahlen einlesen und in Liste speichern
+        
+        // TODO 2: Minimum und Maximum finden (inkl. Positionen)
+        
+        // TODO 3: Ergebnisse ausgeben
+    }
+}
\ No newline at end of file
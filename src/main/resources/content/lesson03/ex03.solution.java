@@ -0,0 +1,30 @@
+import java.util.ArrayList;
+import java.util.Collections;
+
+public class ListeDurchmischen {
+    public static void main(String[] args) {
+        ArrayList<Integer> zahlen = new ArrayList<>();
+        
+        // Liste füllen
+        for (int i = 1; i <= 50; i++) {
+            zahlen.add(i);
+        }
+        
+        System.out.println("Original: " + zahlen);
+        
+        // Durchmischen
+        Collections.shuffle(zahlen);
+        System.out.println("Durchmischt: " + zahlen);
+        
+        // Positionen der Elemente > 20
+        System.out.println("\nElemente > 20 an folgenden Positionen:");
+        for (int i = 0; i < zahlen.size(); i++) {
+            if (zahlen.get(i) > 20) {
+                System.out.println("Wert: " + zahlen.get(i) + " an Position: " + (i + 1));
+            }
+        }
+        
+        // Erklärung: Mit einer foreach-Schleife hat man keinen Zugriff auf den Index,
+        // man müsste zusätzlich einen Zähler mitführen. Daher ist eine normale for-Schleife besser.
+    }
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+import java.util.ArrayList;
+import java.util.Collections;
+
+public class ListeDurchmischen {
+    public static void main(String[] args) {
+        ArrayList<Integer> zahlen = new ArrayList<>();
+        
+        // TODO 1: Liste mit 1..50 füllen
+        
+        // TODO 2: Liste durchmischen (Collections.shuffle oder manuell mit Math.random())
+        
+        // TODO 3: Durchmischte Liste ausgeben
+        
+        // TODO 4: Positionen aller Elemente > 20 finden und ausgeben
+        // Warum ist foreach hier umständlich?
+    }
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+import java.util.ArrayList;
+import java.util.Scanner;
+
+public class SortierenDurchEinfuegen {
+    public static void main(String[] args) {
+        Scanner scanner = new Scanner(System.in);
+        ArrayList<Integer> liste1 = new ArrayList<>();
+        ArrayList<Integer> liste2 = new ArrayList<>();
+        
+        System.out.print("Wie viele Zahlen? ");
+        int anzahl = scanner.nextInt();
+        
+        // Eingabe
+        for (int i = 0; i < anzahl; i++) {
+            System.out.print("Zahl " + (i + 1) + ": ");
+            liste1.add(scanner.nextInt());
+        }
+        
+        System.out.println("Unsortiert: " + liste1);
+        
+        // Sortieren durch Einfügen
+        while (!liste1.isEmpty()) {
+            int aktuell = liste1.remove(0); // erstes Element entfernen
+            
+            // Einfügeposition in liste2 finden
+            int pos = 0;
+            while (pos < liste2.size() && liste2.get(pos) < aktuell) {
+                pos++;
+            }
+            liste2.add(pos, aktuell); // an korrekter Position einfügen
+        }
+        
+        System.out.println("Sortiert: " + liste2);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+import java.util.ArrayList;
+import java.util.Scanner;
+
+public class SortierenDurchEinfuegen {
+    public static void main(String[] args) {
+        Scanner scanner = new Scanner(System.in);
+        ArrayList<Integer> liste1 = new ArrayList<>();
+        ArrayList<Integer> liste2 = new ArrayList<>();
+        
+        System.out.print("Wie viele Zahlen? ");
+        int anzahl = scanner.nextInt();
+        
+        // TODO 1: Zahlen in liste1 einlesen
+        
+        // TODO 2: Sortieren durch Einfügen
+        // Solange liste1 nicht leer:
+        // - Erstes Element entfernen
+        // - In liste2 an korrekter Position einfügen
+        
+        // TODO 3: Sortierte Liste ausgeben
+    }
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+import java.util.ArrayList;
+import java.util.Scanner;
+
+public class DuplikateEntfernen {
+    public static void main(String[] args) {
+        Scanner scanner = new Scanner(System.in);
+        ArrayList<String> liste1 = new ArrayList<>();
+        ArrayList<String> liste2 = new ArrayList<>();
+        
+        System.out.println("Geben Sie Strings ein (leere Zeile zum Beenden):");
+        
+        // Eingabe
+        while (true) {
+            String input = scanner.nextLine();
+            if (input.isEmpty()) {
+                break;
+            }
+            liste1.add(input);
+        }
+        
+        System.out.println("Eingabe: " + liste1);
+        
+        // Duplikate entfernen
+        for (String s : liste1) {
+            if (!liste2.contains(s)) {
+                liste2.add(s);
+            }
+        }
+        
+        System.out.println("Ohne Duplikate: " + liste2);
+    }
+}
\ No newline at end of file
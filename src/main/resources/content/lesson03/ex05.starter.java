@@ -0,0 +1,18 @@
+import java.util.ArrayList;
+import java.util.Scanner;
+
+public class DuplikateEntfernen {
+    public static void main(String[] args) {
+        Scanner scanner = new Scanner(System.in);
+        ArrayList<String> liste1 = new ArrayList<>();
+        ArrayList<String> liste2 = new ArrayList<>();
+        
+        System.out.println("Geben Sie Strings ein (leere Zeile zum Beenden):");
+        
+        // TODO 1: Strings einlesen bis leerer String
+        
+        // TODO 2: Duplikate entfernen (nur erste Vorkommen in liste2 speichern)
+        
+        // TODO 3: Liste ohne Duplikate ausgeben
+    }
+}
\ No newline at end of file
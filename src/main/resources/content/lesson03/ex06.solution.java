@@ -0,0 +1,36 @@
+import java.util.Scanner;
+
+public class ArrayUmdrehen {
+    public static void main(String[] args) {
+        Scanner scanner = new Scanner(System.in);
+        
+        System.out.print("Anzahl n: ");
+        int n = scanner.nextInt();
+        
+        int[] feld = new int[n];
+        
+        // Eingabe
+        for (int i = 0; i < n; i++) {
+            System.out.print("Zahl " + (i + 1) + ": ");
+            feld[i] = scanner.nextInt();
+        }
+        
+        System.out.println("Original: ");
+        for (int wert : feld) {
+            System.out.print(wert + " ");
+        }
+        System.out.println();
+        
+        // Umdrehen (in-place)
+        for (int i = 0; i < n / 2; i++) {
+            int temp = feld[i];
+            feld[i] = feld[n - 1 - i];
+            feld[n - 1 - i] = temp;
+        }
+        
+        System.out.println("Umgedreht: ");
+        for (int wert : feld) {
+            System.out.print(wert + " ");
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+import java.util.Scanner;
+
+public class ArrayUmdrehen {
+    public static void main(String[] args) {
+        Scanner scanner = new Scanner(System.in);
+        
+        System.out.print("Anzahl n: ");
+        int n = scanner.nextInt();
+        
+        int[] feld = new int[n];
+        
+        // TODO 1: Werte in Array einlesen
+        
+        // TODO 2: Array umdrehen (ohne zweites Array!)
+        // Tipp: Vertauschen der Elemente von außen nach innen
+        
+        // TODO 3: Umgedrehtes Array ausgeben
+    }
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+import java.util.Scanner;
+
+public class StringZuLong {
+    public static void main(String[] args) {
+        Scanner scanner = new Scanner(System.in);
+        
+        System.out.print("Geben Sie eine ganze Zahl ein: ");
+        String eingabe = scanner.nextLine();
+        
+        try {
+            long zahl = Long.parseLong(eingabe);
+            System.out.println("Die Zahl als long: " + zahl);
+        } catch (NumberFormatException e) {
+            System.out.println("Ungültige Eingabe: '" + eingabe + "' ist keine ganze Zahl.");
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+import java.util.Scanner;
+
+public class StringZuLong {
+    public static void main(String[] args) {
+        Scanner scanner = new Scanner(System.in);
+        
+        System.out.print("Geben Sie eine ganze Zahl ein: ");
+        String eingabe = scanner.nextLine();
+        
+        // TODO 1: Prüfen, ob String eine gültige ganze Zahl ist
+        // Tipp: Character.isDigit(), oder try-catch mit Long.parseLong
+        
+        // TODO 2: Bei gültiger Zahl: Umwandlung und Ausgabe
+        // Bei ungültig: Fehlermeldung
+    }
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+public class RekursiveMethoden {
+    public static void main(String[] args) {
+        System.out.println("Fakultät von 5: " + berechneFakultaet(5));
+        System.out.println("GGT von 56 und 32: " + berechneGGT(56, 32));
+    }
+    
+    // Iterative Lösung für Fakultät
+    public static long berechneFakultaet(int zahl) {
+        if (zahl < 0) return -1; // Fehlerfall
+        long ergebnis = 1;
+        for (int i = 2; i <= zahl; i++) {
+            ergebnis *= i;
+        }
+        return ergebnis;
+    }
+    
+    // Alternative: Rekursive Lösung
+    /*
+    public static long berechneFakultaet(int zahl) {
+        if (zahl < 0) return -1;
+        if (zahl == 0) return 1;
+        return zahl * berechneFakultaet(zahl - 1);
+    }
+    */
+    
+    // Euklidischer Algorithmus für GGT
+    public static long berechneGGT(long zahl1, long zahl2) {
+        long a = Math.abs(zahl1);
+        long b = Math.abs(zahl2);
+        
+        while (b != 0) {
+            long temp = b;
+            b = a % b;
+            a = temp;
+        }
+        return a;
+    }
+}
\ No newline at end of file
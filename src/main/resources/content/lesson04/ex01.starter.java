@@ -0,0 +1,26 @@
+public class RekursiveMethoden {
+    public static void main(String[] args) {
+        // Test der Methoden
+        System.out.println("Fakultät von 5: " + berechneFakultaet(5));
+        System.out.println("GGT von 56 und 32: " + berechneGGT(56, 32));
+    }
+    
+    // TODO a): Methode berechneFakultaet
+    // Fakultät von n = n * (n-1) * (n-2) * ... * 1
+    // Fakultät von 0 = 1
+    public static long berechneFakultaet(int zahl) {
+        // Ihre Implementierung
+        return 0;
+    }
+    
+    // TODO b): Methode berechneGGT (größter gemeinsamer Teiler)
+    // Tipp: Euklidischer Algorithmus
+    // solange b != 0:
+    //     temp = b
+    //     b = a % b
+    //     a = temp
+    public static long berechneGGT(long zahl1, long zahl2) {
+        // Ihre Implementierung
+        return 0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+import java.util.ArrayList;
+
+public class SummeIntervall {
+    public static void main(String[] args) {
+        ArrayList<Double> liste = new ArrayList<>();
+        liste.add(3.0);
+        liste.add(4.0);
+        liste.add(1.0);
+        liste.add(8.0);
+        liste.add(4.0);
+        
+        double summe = summeWerteImIntervall(liste, 2.0, 4.0);
+        System.out.println("Summe im Intervall [2.0, 4.0]: " + summe);
+    }
+    
+    public static double summeWerteImIntervall(ArrayList<Double> liste, double min, double max) {
+        double summe = 0.0;
+        
+        for (double wert : liste) {
+            // Prüfen, ob Wert im geschlossenen Intervall liegt
+            if (wert >= min && wert <= max) {
+                summe += wert;
+            }
+        }
+        
+        return summe;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+import java.util.ArrayList;
+
+public class SummeIntervall {
+    public static void main(String[] args) {
+        ArrayList<Double> liste = new ArrayList<>();
+        liste.add(3.0);
+        liste.add(4.0);
+        liste.add(1.0);
+        liste.add(8.0);
+        liste.add(4.0);
+        
+        double summe = summeWerteImIntervall(liste, 2.0, 4.0);
+        System.out.println("Summe im Intervall [2.0, 4.0]: " + summe); // Sollte 11.0 sein
+    }
+    
+    // TODO: Implementieren Sie die Methode summeWerteImIntervall
+    public static double summeWerteImIntervall(ArrayList<Double> liste, double min, double max) {
+        double summe = 0.0;
+        // Ihre Implementierung
+        return summe;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class InsertionSort {
+    public static void main(String[] args) {
+        ArrayList<Integer> liste = new ArrayList<>(Arrays.asList(5, 2, 8, 1, 9, 3));
+        
+        System.out.println("Original: " + liste);
+        
+        ArrayList<Integer> sortiert = sortiere(liste);
+        System.out.println("Sortiert (neue Liste): " + sortiert);
+        System.out.println("Original unverändert: " + liste);
+        
+        sortiereInPlace(liste);
+        System.out.println("Original jetzt sortiert: " + liste);
+    }
+    
+    // Variante 1: Neue sortierte Liste zurückgeben
+    public static ArrayList<Integer> sortiere(ArrayList<Integer> liste) {
+        ArrayList<Integer> sortierteListe = new ArrayList<>();
+        
+        for (int i = 0; i < liste.size(); i++) {
+            int aktuell = liste.get(i);
+            int pos = 0;
+            
+            // Finde die richtige Position in der neuen Liste
+            while (pos < sortierteListe.size() && sortierteListe.get(pos) < aktuell) {
+                pos++;
+            }
+            sortierteListe.add(pos, aktuell);
+        }
+        
+        return sortierteListe;
+    }
+    
+    // Variante 2: In-place Sortierung
+    public static void sortiereInPlace(ArrayList<Integer> liste) {
+        for (int i = 1; i < liste.size(); i++) {
+            int aktuell = liste.get(i);
+            int j = i - 1;
+            
+            // Verschiebe Elemente nach rechts, um Platz zu schaffen
+            while (j >= 0 && liste.get(j) > aktuell) {
+                liste.set(j + 1, liste.get(j));
+                j--;
+            }
+            liste.set(j + 1, aktuell);
+        }
+        
+        // Erklärung: Bei der In-place-Sortierung wird die ursprüngliche Liste verändert.
+        // Die Methode muss nichts zurückgeben (void), da die Änderungen direkt
+        // am übergebenen Objekt vorgenommen werden.
+    }
+}
\ No newline at end of file
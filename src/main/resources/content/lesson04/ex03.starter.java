@@ -0,0 +1,32 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class InsertionSort {
+    public static void main(String[] args) {
+        ArrayList<Integer> liste = new ArrayList<>(Arrays.asList(5, 2, 8, 1, 9, 3));
+        
+        System.out.println("Original: " + liste);
+        
+        // Variante 1: Neue sortierte Liste
+        ArrayList<Integer> sortiert = sortiere(liste);
+        System.out.println("Sortiert (neue Liste): " + sortiert);
+        System.out.println("Original unverändert: " + liste);
+        
+        // Variante 2: In-place Sortierung
+        sortiereInPlace(liste);
+        System.out.println("Original jetzt sortiert: " + liste);
+    }
+    
+    // TODO 1: Methode, die eine neue sortierte Liste zurückgibt
+    public static ArrayList<Integer> sortiere(ArrayList<Integer> liste) {
+        ArrayList<Integer> sortierteListe = new ArrayList<>();
+        // Implementieren Sie Insertion Sort
+        return sortierteListe;
+    }
+    
+    // TODO 2: Methode, die die übergebene Liste direkt sortiert
+    public static void sortiereInPlace(ArrayList<Integer> liste) {
+        // Implementieren Sie Insertion Sort in-place
+        // Tipp: Elemente innerhalb derselben Liste verschieben
+    }
+}
\ No newline at end of file
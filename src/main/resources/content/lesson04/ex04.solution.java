@@ -0,0 +1,40 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class ListenMerge {
+    public static void main(String[] args) {
+        ArrayList<Integer> list1 = new ArrayList<>(Arrays.asList(1, 2, 3, 4, 5, 6));
+        ArrayList<Integer> list2 = new ArrayList<>(Arrays.asList(10, 9, 8, 7));
+        
+        ArrayList<Integer> gemergt = merge(list1, list2);
+        System.out.println("Gemergte Liste: " + gemergt);
+    }
+    
+    public static ArrayList<Integer> merge(ArrayList<Integer> list1, ArrayList<Integer> list2) {
+        ArrayList<Integer> ergebnis = new ArrayList<>();
+        
+        int i = 0, j = 0;
+        
+        // Solange beide Listen Elemente haben
+        while (i < list1.size() && j < list2.size()) {
+            ergebnis.add(list1.get(i));
+            ergebnis.add(list2.get(j));
+            i++;
+            j++;
+        }
+        
+        // Restliche Elemente von list1
+        while (i < list1.size()) {
+            ergebnis.add(list1.get(i));
+            i++;
+        }
+        
+        // Restliche Elemente von list2
+        while (j < list2.size()) {
+            ergebnis.add(list2.get(j));
+            j++;
+        }
+        
+        return ergebnis;
+    }
+}
\ No newline at end of file
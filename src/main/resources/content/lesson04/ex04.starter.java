@@ -0,0 +1,21 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class ListenMerge {
+    public static void main(String[] args) {
+        ArrayList<Integer> list1 = new ArrayList<>(Arrays.asList(1, 2, 3, 4, 5, 6));
+        ArrayList<Integer> list2 = new ArrayList<>(Arrays.asList(10, 9, 8, 7));
+        
+        ArrayList<Integer> gemergt = merge(list1, list2);
+        System.out.println("Gemergte Liste: " + gemergt);
+        // Erwartet: [1, 10, 2, 9, 3, 8, 4, 7, 5, 6]
+    }
+    
+    public static ArrayList<Integer> merge(ArrayList<Integer> list1, ArrayList<Integer> list2) {
+        ArrayList<Integer> ergebnis = new ArrayList<>();
+        
+        // TODO: Implementieren Sie den Merge-Algorithmus
+        
+        return ergebnis;
+    }
+}
\ No newline at end of file
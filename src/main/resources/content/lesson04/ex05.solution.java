@@ -0,0 +1,60 @@
+import java.util.Arrays;
+
+public class Histogramm {
+    public static void main(String[] args) {
+        int[] daten = {12, 5, 8, 20, 15, 3, 18, 10, 7, 22, 14, 6, 9, 16, 11};
+        int intervalle = 5;
+        
+        int[] histogramm = erzeugeHistogramm(daten, intervalle);
+        
+        System.out.println("Daten: " + Arrays.toString(daten));
+        System.out.println("Histogramm mit " + intervalle + " Intervallen:");
+        System.out.println(Arrays.toString(histogramm));
+        
+        // Optional: Ausgabe mit Intervallgrenzen
+        int min = Arrays.stream(daten).min().getAsInt();
+        int max = Arrays.stream(daten).max().getAsInt();
+        double breite = (double)(max - min) / intervalle;
+        
+        System.out.println("\nIntervallgrenzen:");
+        for (int i = 0; i < intervalle; i++) {
+            double untergrenze = min + i * breite;
+            double obergrenze = min + (i + 1) * breite;
+            System.out.printf("Intervall %d: [%.2f, %.2f): %d Werte\n", 
+                i, untergrenze, obergrenze, histogramm[i]);
+        }
+    }
+    
+    public static int[] erzeugeHistogramm(int[] daten, int anzahlIntervalle) {
+        // 1. Minimum und Maximum finden
+        int min = daten[0];
+        int max = daten[0];
+        
+        for (int wert : daten) {
+            if (wert < min) min = wert;
+            if (wert > max) max = wert;
+        }
+        
+        // 2. Intervallbreite berechnen
+        double bereich = max - min;
+        double intervallBreite = bereich / anzahlIntervalle;
+        
+        // 3. Histogramm-Array erstellen
+        int[] histogramm = new int[anzahlIntervalle];
+        
+        // 4. Daten zählen
+        for (int wert : daten) {
+            // Index des Intervalls berechnen
+            int index = (int)((wert - min) / intervallBreite);
+            
+            // Sonderfall: Wert entspricht genau dem Maximum
+            if (index == anzahlIntervalle) {
+                index = anzahlIntervalle - 1;
+            }
+            
+            histogramm[index]++;
+        }
+        
+        return histogramm;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+import java.util.Arrays;
+
+public class Histogramm {
+    public static void main(String[] args) {
+        int[] daten = {12, 5, 8, 20, 15, 3, 18, 10, 7, 22, 14, 6, 9, 16, 11};
+        int intervalle = 5;
+        
+        int[] histogramm = erzeugeHistogramm(daten, intervalle);
+        
+        System.out.println("Daten: " + Arrays.toString(daten));
+        System.out.println("Histogramm mit " + intervalle + " Intervallen:");
+        System.out.println(Arrays.toString(histogramm));
+    }
+    
+    public static int[] erzeugeHistogramm(int[] daten, int anzahlIntervalle) {
+        // TODO 1: Minimum und Maximum finden
+        
+        // TODO 2: Intervallbreite berechnen
+        
+        // TODO 3: Histogramm-Array erstellen
+        
+        // TODO 4: Daten in Intervalle einordnen und zählen
+        
+        return new int[0]; // Platzhalter
+    }
+}
\ No newline at end of file
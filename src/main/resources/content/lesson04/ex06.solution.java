@@ -0,0 +1,44 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class StringSplit {
+    public static void main(String[] args) {
+        String test = "1234;Hans Hansen;6";
+        char trennzeichen = ';';
+        
+        String[] teile = split(test, trennzeichen);
+        
+        System.out.println("Original: " + test);
+        System.out.println("Geteilte Teile:");
+        for (int i = 0; i < teile.length; i++) {
+            System.out.println("  [" + i + "]: '" + teile[i] + "'");
+        }
+        
+        // Weitere Tests
+        System.out.println("\nWeitere Tests:");
+        System.out.println(Arrays.toString(split("a,b,c,d", ',')));
+        System.out.println(Arrays.toString(split("eins", ','))); // Nur ein Teil
+        System.out.println(Arrays.toString(split(";a;b;", ';'))); // Leere Teile
+    }
+    
+    public static String[] split(String zeile, char trennzeichen) {
+        ArrayList<String> teileListe = new ArrayList<>();
+        
+        int start = 0;
+        
+        for (int i = 0; i < zeile.length(); i++) {
+            if (zeile.charAt(i) == trennzeichen) {
+                // Teil von start bis i (exklusiv) extrahieren
+                teileListe.add(zeile.substring(start, i));
+                start = i + 1; // Nächster Teil startet nach dem Trennzeichen
+            }
+        }
+        
+        // Letzten Teil hinzufügen (nach dem letzten Trennzeichen)
+        teileListe.add(zeile.substring(start));
+        
+        // ArrayList in Array umwandeln
+        String[] ergebnis = new String[teileListe.size()];
+        return teileListe.toArray(ergebnis);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+import java.util.ArrayList;
+
+public class StringSplit {
+    public static void main(String[] args) {
+        String test = "1234;Hans Hansen;6";
+        char trennzeichen = ';';
+        
+        String[] teile = split(test, trennzeichen);
+        
+        System.out.println("Original: " + test);
+        System.out.println("Geteilte Teile:");
+        for (int i = 0; i < teile.length; i++) {
+            System.out.println("  [" + i + "]: '" + teile[i] + "'");
+        }
+    }
+    
+    public static String[] split(String zeile, char trennzeichen) {
+        // TODO 1: Teile in einer ArrayList sammeln
+        
+        // TODO 2: Durch den String iterieren und bei Trennzeichen teilen
+        
+        // TODO 3: ArrayList in Array umwandeln
+        
+        return new String[0]; // Platzhalter
+    }
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+public class StudentVergleich {
+    
+    static class Student {
+        private String name;
+        private int matrikelnummer;
+        private int semester;
+        
+        public Student(String name, int matrikelnummer, int semester) {
+            this.name = name;
+            this.matrikelnummer = matrikelnummer;
+            this.semester = semester;
+        }
+        
+        public String getName() { return name; }
+        public int getMatrikelnummer() { return matrikelnummer; }
+        public int getSemester() { return semester; }
+    }
+    
+    public static void main(String[] args) {
+        Student s1 = new Student("Max Mustermann", 12345, 3);
+        Student s2 = new Student("Max Mustermann", 12345, 3);
+        Student s3 = new Student("Maria Musterfrau", 67890, 2);
+        
+        System.out.println("s1 und s2 sind gleich: " + sindGleich(s1, s2));
+        System.out.println("s1 und s3 sind gleich: " + sindGleich(s1, s3));
+    }
+    
+    public static boolean sindGleich(Student student1, Student student2) {
+        // Prüfen, ob beide Referenzen auf dasselbe Objekt zeigen
+        if (student1 == student2) {
+            return true;
+        }
+        
+        // Prüfen, ob einer der Studenten null ist
+        if (student1 == null || student2 == null) {
+            return false;
+        }
+        
+        // Vergleichen aller Attribute
+        return student1.getName().equals(student2.getName()) &&
+               student1.getMatrikelnummer() == student2.getMatrikelnummer() &&
+               student1.getSemester() == student2.getSemester();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+public class StudentVergleich {
+    
+    // Annahme: Student-Klasse existiert bereits
+    static class Student {
+        private String name;
+        private int matrikelnummer;
+        private int semester;
+        
+        public Student(String name, int matrikelnummer, int semester) {
+            this.name = name;
+            this.matrikelnummer = matrikelnummer;
+            this.semester = semester;
+        }
+        
+        // Getter-Methoden
+        public String getName() { return name; }
+        public int getMatrikelnummer() { return matrikelnummer; }
+        public int getSemester() { return semester; }
+    }
+    
+    public static void main(String[] args) {
+        Student s1 = new Student("Max Mustermann", 12345, 3);
+        Student s2 = new Student("Max Mustermann", 12345, 3);
+        Student s3 = new Student("Maria Musterfrau", 67890, 2);
+        
+        System.out.println("s1 und s2 sind gleich: " + sindGleich(s1, s2)); // true
+        System.out.println("s1 und s3 sind gleich: " + sindGleich(s1, s3)); // false
+    }
+    
+    // TODO: Implementieren Sie die Methode sindGleich
+    public static boolean sindGleich(Student student1, Student student2) {
+        // Vergleichen Sie alle Attribute der beiden Studenten
+        return false;
+    }
+}
\ No newline at end of file
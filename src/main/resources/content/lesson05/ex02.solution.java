@@ -0,0 +1,72 @@
+import java.util.ArrayList;
+
+public class SortiereStudenten {
+    
+    static class Student {
+        private String name;
+        private int matrikelnummer;
+        private int semester;
+        
+        public Student(String name, int matrikelnummer, int semester) {
+            this.name = name;
+            this.matrikelnummer = matrikelnummer;
+            this.semester = semester;
+        }
+        
+        public String getName() { return name; }
+        public int getMatrikelnummer() { return matrikelnummer; }
+        public int getSemester() { return semester; }
+        
+        @Override
+        public String toString() {
+            return name + " (Matr.Nr.: " + matrikelnummer + ", Sem.: " + semester + ")";
+        }
+    }
+    
+    public static void main(String[] args) {
+        ArrayList<Student> studenten = new ArrayList<>();
+        studenten.add(new Student("Zoe Schmidt", 54321, 2));
+        studenten.add(new Student("Anna Müller", 12345, 3));
+        studenten.add(new Student("Ben Weber", 98765, 1));
+        studenten.add(new Student("Max Meyer", 23456, 4));
+        
+        System.out.println("Unsortierte Liste:");
+        for (Student s : studenten) {
+            System.out.println("  " + s);
+        }
+        
+        sortiere(studenten);
+        
+        System.out.println("\nSortierte Liste (nach Matrikelnummer):");
+        for (Student s : studenten) {
+            System.out.println("  " + s);
+        }
+    }
+    
+    public static void sortiere(ArrayList<Student> liste) {
+        int n = liste.size();
+        boolean getauscht;
+        
+        // BubbleSort Algorithmus
+        for (int i = 0; i < n - 1; i++) {
+            getauscht = false;
+            
+            // Letzte i Elemente sind bereits sortiert
+            for (int j = 0; j < n - 1 - i; j++) {
+                // Vergleiche benachbarte Studenten nach Matrikelnummer
+                if (liste.get(j).getMatrikelnummer() > liste.get(j + 1).getMatrikelnummer()) {
+                    // Tausche die Studenten
+                    Student temp = liste.get(j);
+                    liste.set(j, liste.get(j + 1));
+                    liste.set(j + 1, temp);
+                    getauscht = true;
+                }
+            }
+            
+            // Wenn in einem Durchgang nichts getauscht wurde, ist die Liste sortiert
+            if (!getauscht) {
+                break;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class SortiereStudenten {
+    
+    static class Student {
+        private String name;
+        private int matrikelnummer;
+        private int semester;
+        
+        public Student(String name, int matrikelnummer, int semester) {
+            this.name = name;
+            this.matrikelnummer = matrikelnummer;
+            this.semester = semester;
+        }
+        
+        public String getName() { return name; }
+        public int getMatrikelnummer() { return matrikelnummer; }
+        public int getSemester() { return semester; }
+        
+        @Override
+        public String toString() {
+            return name + " (Matr.Nr.: " + matrikelnummer + ", Sem.: " + semester + ")";
+        }
+    }
+    
+    public static void main(String[] args) {
+        ArrayList<Student> studenten = new ArrayList<>();
+        studenten.add(new Student("Zoe Schmidt", 54321, 2));
+        studenten.add(new Student("Anna Müller", 12345, 3));
+        studenten.add(new Student("Ben Weber", 98765, 1));
+        studenten.add(new Student("Max Meyer", 23456, 4));
+        
+        System.out.println("Unsortierte Liste:");
+        for (Student s : studenten) {
+            System.out.println("  " + s);
+        }
+        
+        sortiere(studenten);
+        
+        System.out.println("\nSortierte Liste (nach Matrikelnummer):");
+        for (Student s : studenten) {
+            System.out.println("  " + s);
+        }
+    }
+    
+    // TODO: Implementieren Sie BubbleSort für Studenten
+    public static void sortiere(ArrayList<Student> liste) {
+        // BubbleSort Algorithmus:
+        // 1. Äußere Schleife für Durchgänge
+        // 2. Innere Schleife für Vergleiche
+        // 3. Tauschen bei falscher Reihenfolge
+    }
+}
\ No newline at end of file
@@ -0,0 +1,124 @@
+public class Uhr2 {
+    private int stunden;
+    private int minuten;
+    private int sekunden;
+    
+    public Uhr2(int stunden, int minuten, int sekunden) {
+        setStunden(stunden);
+        setMinuten(minuten);
+        setSekunden(sekunden);
+    }
+    
+    // a) tick()-Methode
+    public void tick() {
+        sekunden++;
+        if (sekunden >= 60) {
+            sekunden = 0;
+            minuten++;
+            if (minuten >= 60) {
+                minuten = 0;
+                stunden++;
+                if (stunden >= 24) {
+                    stunden = 0;
+                }
+            }
+        }
+    }
+    
+    // b) Getter und Setter mit Validierung
+    public int getStunden() {
+        return stunden;
+    }
+    
+    public void setStunden(int stunden) {
+        if (stunden >= 0 && stunden < 24) {
+            this.stunden = stunden;
+        } else {
+            throw new IllegalArgumentException("Stunden müssen zwischen 0 und 23 liegen");
+        }
+    }
+    
+    public int getMinuten() {
+        return minuten;
+    }
+    
+    public void setMinuten(int minuten) {
+        if (minuten >= 0 && minuten < 60) {
+            this.minuten = minuten;
+        } else {
+            throw new IllegalArgumentException("Minuten müssen zwischen 0 und 59 liegen");
+        }
+    }
+    
+    public int getSekunden() {
+        return sekunden;
+    }
+    
+    public void setSekunden(int sekunden) {
+        if (sekunden >= 0 && sekunden < 60) {
+            this.sekunden = sekunden;
+        } else {
+            throw new IllegalArgumentException("Sekunden müssen zwischen 0 und 59 liegen");
+        }
+    }
+    
+    // c) addZeit()-Methode
+    public void addZeit(int sekunden) {
+        if (sekunden == 0) return;
+        
+        // Gesamtzeit in Sekunden berechnen
+        int gesamt = gesamtSekunden() + sekunden;
+        
+        // Sicherstellen, dass die Zeit nicht negativ wird
+        while (gesamt < 0) {
+            gesamt += 24 * 3600; // Einen Tag addieren
+        }
+        
+        // In Stunden, Minuten, Sekunden umrechnen
+        gesamt = gesamt % (24 * 3600); // Auf 24 Stunden begrenzen
+        this.stunden = gesamt / 3600;
+        gesamt %= 3600;
+        this.minuten = gesamt / 60;
+        this.sekunden = gesamt % 60;
+    }
+    
+    // d) compare()-Methode
+    public int compare(Uhr2 andereUhr) {
+        int dieseSekunden = this.gesamtSekunden();
+        int andereSekunden = andereUhr.gesamtSekunden();
+        
+        if (dieseSekunden > andereSekunden) {
+            return -1; // Diese Uhr zeigt später
+        } else if (dieseSekunden < andereSekunden) {
+            return 1; // Diese Uhr zeigt früher
+        } else {
+            return 0; // Beide zeigen gleiche Zeit
+        }
+    }
+    
+    // Hilfsmethode
+    private int gesamtSekunden() {
+        return stunden * 3600 + minuten * 60 + sekunden;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("%02d:%02d:%02d", stunden, minuten, sekunden);
+    }
+    
+    public static void main(String[] args) {
+        Uhr2 u1 = new Uhr2(10, 30, 45);
+        Uhr2 u2 = new Uhr2(14, 15, 20);
+        
+        System.out.println("Uhr 1: " + u1);
+        System.out.println("Uhr 2: " + u2);
+        
+        u1.tick();
+        System.out.println("Uhr 1 nach tick(): " + u1);
+        
+        u1.addZeit(3600); // 1 Stunde addieren
+        System.out.println("Uhr 1 nach +3600s: " + u1);
+        
+        System.out.println("Vergleich (u1.compare(u2)): " + u1.compare(u2));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+public class Uhr2 {
+    // Attribute
+    private int stunden;
+    private int minuten;
+    private int sekunden;
+    
+    // Konstruktor
+    public Uhr2(int stunden, int minuten, int sekunden) {
+        // TODO: Setzen der Werte mit Validierung
+    }
+    
+    // TODO a): tick()-Methode
+    public void tick() {
+        // Erhöht die Sekunden um 1
+        // Bei 60 Sekunden: Minuten erhöhen, Sekunden auf 0
+        // Bei 60 Minuten: Stunden erhöhen, Minuten auf 0
+        // Bei 24 Stunden: Auf 0 zurücksetzen
+    }
+    
+    // TODO b): Getter und Setter mit Validierung
+    // Stunden: 0-23
+    // Minuten: 0-59
+    // Sekunden: 0-59
+    
+    // TODO c): addZeit()-Methode
+    public void addZeit(int sekunden) {
+        // Fügt Sekunden hinzu (können auch negativ sein)
+        // Passt Stunden, Minuten, Sekunden entsprechend an
+    }
+    
+    // TODO d): compare()-Methode
+    public int compare(Uhr2 andereUhr) {
+        // Vergleicht diese Uhr mit einer anderen
+        // Rückgabe: -1 wenn diese Uhr später ist (größere Zeit)
+        //           1 wenn diese Uhr früher ist (kleinere Zeit)
+        //           0 wenn beide gleich sind
+        return 0;
+    }
+    
+    // Hilfsmethode: Gesamtzeit in Sekunden
+    private int gesamtSekunden() {
+        return stunden * 3600 + minuten * 60 + sekunden;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("%02d:%02d:%02d", stunden, minuten, sekunden);
+    }
+    
+    public static void main(String[] args) {
+        // Testen Sie hier Ihre Implementierung
+    }
+}
\ No newline at end of file
@@ -0,0 +1,100 @@
+import java.util.ArrayList;
+
+public class Verwaltung {
+    
+    static class Student {
+        private String name;
+        private int matrikelnummer;
+        private int semester;
+        
+        public Student(String name, int matrikelnummer, int semester) {
+            this.name = name;
+            this.matrikelnummer = matrikelnummer;
+            this.semester = semester;
+        }
+        
+        // Getter-Methoden
+        public String getName() { return name; }
+        public int getMatrikelnummer() { return matrikelnummer; }
+        public int getSemester() { return semester; }
+        
+        // Setter-Methoden
+        public void setName(String name) { this.name = name; }
+        public void setMatrikelnummer(int matrikelnummer) { this.matrikelnummer = matrikelnummer; }
+        public void setSemester(int semester) { this.semester = semester; }
+        
+        // toString-Methode (ersetzt studentToString)
+        @Override
+        public String toString() {
+            return name + " (Matr.Nr.: " + matrikelnummer + ", Sem.: " + semester + ")";
+        }
+        
+        // equals-Methode (ersetzt sindGleich)
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (obj == null || getClass() != obj.getClass()) return false;
+            Student student = (Student) obj;
+            return matrikelnummer == student.matrikelnummer;
+        }
+    }
+    
+    private ArrayList<Student> studentenListe;
+    
+    public Verwaltung() {
+        studentenListe = new ArrayList<>();
+    }
+    
+    // Die folgenden Methoden werden NICHT mehr benötigt,
+    // da sie jetzt in der Student-Klasse implementiert sind:
+    // - studentToString(Student s) → wird durch toString() ersetzt
+    // - sindGleich(Student s1, Student s2) → wird durch equals() ersetzt
+    
+    // Diese Methoden bleiben in der Verwaltungsklasse:
+    public void studentHinzufuegen(Student student) {
+        studentenListe.add(student);
+    }
+    
+    public void alleStudentenAusgeben() {
+        for (Student s : studentenListe) {
+            System.out.println(s);
+        }
+    }
+    
+    public Student findeStudent(int matrikelnummer) {
+        for (Student s : studentenListe) {
+            if (s.getMatrikelnummer() == matrikelnummer) {
+                return s;
+            }
+        }
+        return null;
+    }
+    
+    public void studentEntfernen(int matrikelnummer) {
+        Student zuEntfernender = findeStudent(matrikelnummer);
+        if (zuEntfernender != null) {
+            studentenListe.remove(zuEntfernender);
+        }
+    }
+    
+    public static void main(String[] args) {
+        Verwaltung verwaltung = new Verwaltung();
+        
+        Student s1 = new Student("Max Mustermann", 12345, 3);
+        Student s2 = new Student("Maria Musterfrau", 67890, 2);
+        
+        verwaltung.studentHinzufuegen(s1);
+        verwaltung.studentHinzufuegen(s2);
+        
+        System.out.println("Alle Studenten:");
+        verwaltung.alleStudentenAusgeben();
+        
+        // Demonstration der neuen Methoden in Student
+        System.out.println("\nDemonstration der Student-Methoden:");
+        System.out.println("s1.toString(): " + s1);
+        System.out.println("s1.equals(s2): " + s1.equals(s2));
+        
+        Student s3 = new Student("Anderer Name", 12345, 5);
+        System.out.println("s1.equals(s3): " + s1.equals(s3) + " (gleiche Matrikelnummer!)");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,79 @@
+import java.util.ArrayList;
+
+public class Verwaltung {
+    
+    static class Student {
+        private String name;
+        private int matrikelnummer;
+        private int semester;
+        
+        public Student(String name, int matrikelnummer, int semester) {
+            this.name = name;
+            this.matrikelnummer = matrikelnummer;
+            this.semester = semester;
+        }
+        
+        // Getter-Methoden
+        public String getName() { return name; }
+        public int getMatrikelnummer() { return matrikelnummer; }
+        public int getSemester() { return semester; }
+        
+        // Setter-Methoden
+        public void setName(String name) { this.name = name; }
+        public void setMatrikelnummer(int matrikelnummer) { this.matrikelnummer = matrikelnummer; }
+        public void setSemester(int semester) { this.semester = semester; }
+        
+        @Override
+        public String toString() {
+            return name + " (Matr.Nr.: " + matrikelnummer + ", Sem.: " + semester + ")";
+        }
+    }
+    
+    private ArrayList<Student> studentenListe;
+    
+    public Verwaltung() {
+        studentenListe = new ArrayList<>();
+    }
+    
+    // TODO: Diese Methoden müssen angepasst/entfernt werden
+    
+    // Alte Methode, die jetzt in Student-Klasse ist:
+    public static String studentToString(Student s) {
+        return s.getName() + ", " + s.getMatrikelnummer() + ", " + s.getSemester();
+    }
+    
+    // Alte Methode, die jetzt in Student-Klasse ist:
+    public static boolean sindGleich(Student s1, Student s2) {
+        return s1.getMatrikelnummer() == s2.getMatrikelnummer();
+    }
+    
+    // Diese Methoden bleiben:
+    public void studentHinzufuegen(Student student) {
+        studentenListe.add(student);
+    }
+    
+    public void alleStudentenAusgeben() {
+        for (Student s : studentenListe) {
+            System.out.println(s); // Jetzt wird toString() von Student verwendet
+        }
+    }
+    
+    public Student findeStudent(int matrikelnummer) {
+        for (Student s : studentenListe) {
+            if (s.getMatrikelnummer() == matrikelnummer) {
+                return s;
+            }
+        }
+        return null;
+    }
+    
+    public static void main(String[] args) {
+        Verwaltung verwaltung = new Verwaltung();
+        
+        verwaltung.studentHinzufuegen(new Student("Max Mustermann", 12345, 3));
+        verwaltung.studentHinzufuegen(new Student("Maria Musterfrau", 67890, 2));
+        
+        System.out.println("Alle Studenten:");
+        verwaltung.alleStudentenAusgeben();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+public class Rechteck {
+    // a) Private Attribute
+    private double a; // Kantenlänge 1
+    private double b; // Kantenlänge 2
+    private double x; // x-Koordinate der linken unteren Ecke
+    private double y; // y-Koordinate der linken unteren Ecke
+    
+    // c) Konstruktor
+    public Rechteck(double a, double b, double x, double y) {
+        setA(a);
+        setB(b);
+        this.x = x;
+        this.y = y;
+    }
+    
+    // b) Getter und Setter
+    public double getA() {
+        return a;
+    }
+    
+    public void setA(double a) {
+        if (a >= 0) {
+            this.a = a;
+        } else {
+            throw new IllegalArgumentException("Kantenlänge a darf nicht negativ sein");
+        }
+    }
+    
+    public double getB() {
+        return b;
+    }
+    
+    public void setB(double b) {
+        if (b >= 0) {
+            this.b = b;
+        } else {
+            throw new IllegalArgumentException("Kantenlänge b darf nicht negativ sein");
+        }
+    }
+    
+    public double getX() {
+        return x;
+    }
+    
+    public void setX(double x) {
+        this.x = x;
+    }
+    
+    public double getY() {
+        return y;
+    }
+    
+    public void setY(double y) {
+        this.y = y;
+    }
+    
+    // d) Methoden für Umfang und Fläche
+    public double getUmfang() {
+        return 2 * (a + b);
+    }
+    
+    public double getFlaeche() {
+        return a * b;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("Rechteck(%.2f x %.2f) an Position (%.2f, %.2f) - Fläche: %.2f, Umfang: %.2f", 
+                a, b, x, y, getFlaeche(), getUmfang());
+    }
+}
+
+// e) Testklasse
+class TestRechteck {
+    public static void main(String[] args) {
+        // Zwei Rechtecke erzeugen
+        Rechteck r1 = new Rechteck(5.0, 3.0, 0.0, 0.0);
+        Rechteck r2 = new Rechteck(4.0, 6.0, 2.0, 1.0);
+        
+        // Methoden testen
+        System.out.println("Rechteck 1:");
+        System.out.println("  " + r1);
+        System.out.println("  Fläche: " + r1.getFlaeche());
+        System.out.println("  Umfang: " + r1.getUmfang());
+        
+        System.out.println("\nRechteck 2:");
+        System.out.println("  " + r2);
+        System.out.println("  Fläche: " + r2.getFlaeche());
+        System.out.println("  Umfang: " + r2.getUmfang());
+        
+        // Änderungen testen
+        r1.setA(6.0);
+        r1.setB(4.0);
+        System.out.println("\nRechteck 1 nach Änderung:");
+        System.out.println("  " + r1);
+        
+        // Test ungültiger Wert
+        try {
+            r2.setA(-2.0);
+        } catch (IllegalArgumentException e) {
+            System.out.println("\nFehler (erwartet): " + e.getMessage());
+        }
+    }
+}
\ No newline at end of file
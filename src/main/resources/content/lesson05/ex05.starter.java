@@ -0,0 +1,36 @@
+public class Rechteck {
+    // TODO a): Private Attribute
+    // Kantenlängen a und b (double)
+    // Position der linken unteren Ecke: x, y (double)
+    
+    // TODO c): Konstruktor
+    public Rechteck(double a, double b, double x, double y) {
+        // Setzen der Attribute mit Validierung
+    }
+    
+    // TODO b): Getter und Setter
+    // Alle Getter
+    // Setter mit Validierung: a und b dürfen nicht negativ sein
+    
+    // TODO d): Methoden für Umfang und Fläche
+    public double getUmfang() {
+        return 0.0; // Platzhalter
+    }
+    
+    public double getFlaeche() {
+        return 0.0; // Platzhalter
+    }
+    
+    @Override
+    public String toString() {
+        return "Rechteck mit Kanten " + a + " x " + b + " an Position (" + x + ", " + y + ")";
+    }
+}
+
+// TODO e): Testklasse
+class TestRechteck {
+    public static void main(String[] args) {
+        // Zwei Rechtecke erzeugen
+        // Methoden testen
+    }
+}
\ No newline at end of file
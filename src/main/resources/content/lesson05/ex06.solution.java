@@ -0,0 +1,93 @@
+class Rechteck {
+    private double a;
+    private double b;
+    private double x;
+    private double y;
+    
+    public Rechteck(double a, double b, double x, double y) {
+        setA(a);
+        setB(b);
+        this.x = x;
+        this.y = y;
+    }
+    
+    public double getA() { return a; }
+    public double getB() { return b; }
+    public double getX() { return x; }
+    public double getY() { return y; }
+    
+    public void setA(double a) {
+        if (a >= 0) this.a = a;
+        else throw new IllegalArgumentException("Kantenlänge a darf nicht negativ sein");
+    }
+    
+    public void setB(double b) {
+        if (b >= 0) this.b = b;
+        else throw new IllegalArgumentException("Kantenlänge b darf nicht negativ sein");
+    }
+    
+    public void setX(double x) { this.x = x; }
+    public void setY(double y) { this.y = y; }
+    
+    public double getUmfang() { return 2 * (a + b); }
+    public double getFlaeche() { return a * b; }
+    
+    // Neue Methode zur Überprüfung der Überdeckung
+    public boolean ueberdeckt(Rechteck anderes) {
+        // Berechne die rechte obere Ecke dieses Rechtecks
+        double diesesRechts = this.x + this.a;
+        double diesesOben = this.y + this.b;
+        
+        // Berechne die rechte obere Ecke des anderen Rechtecks
+        double anderesRechts = anderes.x + anderes.a;
+        double anderesOben = anderes.y + anderes.b;
+        
+        // Überprüfe Überlappung in x-Richtung
+        boolean xUeberlappung = this.x < anderesRechts && diesesRechts > anderes.x;
+        
+        // Überprüfe Überlappung in y-Richtung
+        boolean yUeberlappung = this.y < anderesOben && diesesOben > anderes.y;
+        
+        // Beide müssen überlappen für eine Überdeckung
+        return xUeberlappung && yUeberlappung;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("Rechteck(%.1f x %.1f) von (%.1f,%.1f) bis (%.1f,%.1f)", 
+                a, b, x, y, x + a, y + b);
+    }
+}
+
+class TestRechteck {
+    public static void main(String[] args) {
+        // Testfälle
+        Rechteck r1 = new Rechteck(4, 3, 0, 0);
+        Rechteck r2 = new Rechteck(3, 2, 2, 1); // Überlappt mit r1
+        Rechteck r3 = new Rechteck(2, 2, 5, 5); // Nicht überlappend
+        Rechteck r4 = new Rechteck(6, 4, 1, 1); // Größeres Rechteck, das r1 umfasst
+        Rechteck r5 = new Rechteck(1, 1, 3.5, 2.5); // Kleines Rechteck innerhalb von r1
+        
+        System.out.println("Test-Rechtecke:");
+        System.out.println("r1: " + r1);
+        System.out.println("r2: " + r2);
+        System.out.println("r3: " + r3);
+        System.out.println("r4: " + r4);
+        System.out.println("r5: " + r5);
+        
+        System.out.println("\nÜberdeckungstests:");
+        System.out.println("r1.ueberdeckt(r2): " + r1.ueberdeckt(r2) + " (erwartet: true)");
+        System.out.println("r1.ueberdeckt(r3): " + r1.ueberdeckt(r3) + " (erwartet: false)");
+        System.out.println("r1.ueberdeckt(r4): " + r1.ueberdeckt(r4) + " (erwartet: true)");
+        System.out.println("r1.ueberdeckt(r5): " + r1.ueberdeckt(r5) + " (erwartet: true)");
+        System.out.println("r3.ueberdeckt(r4): " + r3.ueberdeckt(r4) + " (erwartet: false)");
+        
+        // Test mit sich selbst
+        System.out.println("r1.ueberdeckt(r1): " + r1.ueberdeckt(r1) + " (erwartet: true)");
+        
+        // Symmetrie-Test
+        System.out.println("\nSymmetrie-Test:");
+        System.out.println("r1.ueberdeckt(r2) == r2.ueberdeckt(r1): " + 
+                         (r1.ueberdeckt(r2) == r2.ueberdeckt(r1)) + " (erwartet: true)");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+// Fortsetzung der Rechteck-Klasse aus Aufgabe 5
+class Rechteck {
+    // ... bestehender Code aus Aufgabe 5 ...
+    
+    // TODO: ueberdeckt-Methode
+    public boolean ueberdeckt(Rechteck anderes) {
+        // Prüfen, ob sich dieses Rechteck mit dem anderen überdeckt
+        // Zwei Rechtecke überdecken sich, wenn:
+        // 1. Ihre x-Bereiche sich überlappen
+        // 2. Ihre y-Bereiche sich überlappen
+        return false;
+    }
+}
+
+class TestRechteck {
+    public static void main(String[] args) {
+        // Testfälle für Überdeckung
+        Rechteck r1 = new Rechteck(4, 3, 0, 0);
+        Rechteck r2 = new Rechteck(3, 2, 2, 1);
+        Rechteck r3 = new Rechteck(2, 2, 5, 5); // Nicht überlappend
+        
+        System.out.println("r1: " + r1);
+        System.out.println("r2: " + r2);
+        System.out.println("r3: " + r3);
+        
+        System.out.println("\nr1.ueberdeckt(r2): " + r1.ueberdeckt(r2)); // sollte true sein
+        System.out.println("r1.ueberdeckt(r3): " + r1.ueberdeckt(r3)); // sollte false sein
+        System.out.println("r2.ueberdeckt(r3): " + r2.ueberdeckt(r3)); // sollte false sein
+    }
+}
\ No newline at end of file
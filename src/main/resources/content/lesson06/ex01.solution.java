@@ -0,0 +1,38 @@
+public class MethodenUebung {
+    public static void main(String[] args) {
+        int summe = addiere(3, 5);
+        System.out.println("Summe: " + summe);
+
+        double summeDouble = addiere(2.5, 4.5);
+        System.out.println("Summe (double): " + summeDouble);
+
+        int fakultaet = berechneFakultaet(5);
+        System.out.println("Fakultät von 5: " + fakultaet);
+
+        MethodenUebung objekt = new MethodenUebung();
+        objekt.gruessen("Alex");
+    }
+
+    // Statische Methode mit Rückgabewert
+    public static int addiere(int a, int b) {
+        return a + b;
+    }
+
+    // Überladene Methode (gleicher Name, andere Parameter)
+    public static double addiere(double a, double b) {
+        return a + b;
+    }
+
+    // Rekursive Methode
+    public static int berechneFakultaet(int zahl) {
+        if (zahl == 0) {
+            return 1; // Abbruchbedingung
+        }
+        return zahl * berechneFakultaet(zahl - 1);
+    }
+
+    // Instanzmethode
+    public void gruessen(String name) {
+        System.out.println("Hallo " + name + "!");
+    }
+}
\ No newline at end of file
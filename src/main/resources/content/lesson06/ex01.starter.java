@@ -0,0 +1,25 @@
+public class MethodenUebung {
+    public static void main(String[] args) {
+        // Statische Methode aufrufen
+        int summe = addiere(3, 5);
+        System.out.println("Summe: " + summe);
+
+        // Überladene Methode aufrufen
+        double summeDouble = addiere(2.5, 4.5);
+        System.out.println("Summe (double): " + summeDouble);
+
+        // Rekursive Methode aufrufen
+        int fakultaet = berechneFakultaet(5);
+        System.out.println("Fakultät von 5: " + fakultaet);
+
+        // Instanzmethode aufrufen
+        MethodenUebung objekt = new MethodenUebung();
+        objekt.gruessen("Alex");
+    }
+
+    // TODO 1: Statische Methode, die zwei int-Werte addiert und zurückgibt
+    // TODO 2: Überladene Methode, die zwei double-Werte addiert
+    // TODO 3: Rekursive Methode zur Berechnung der Fakultät
+    // Hinweis: Fakultät von 0 ist 1
+    // TODO 4: Instanzmethode, die eine Begrüßung ausgibt
+}
\ No newline at end of file
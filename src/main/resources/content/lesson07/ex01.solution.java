@@ -0,0 +1,38 @@
+public class Student {
+
+    // Attribute (Instanzvariablen)
+    private String name;
+    private int matrikelnummer;
+    private int semester;
+
+    // Konstruktor
+    public Student(String name, int matrikelnummer, int semester) {
+        this.name = name;
+        this.matrikelnummer = matrikelnummer;
+        this.semester = semester;
+    }
+
+    // Instanzmethode
+    public void naechstesSemester() {
+        semester++;
+    }
+
+    // Instanzmethode
+    public void infoAusgeben() {
+        System.out.println(
+            "Name: " + name +
+            " | Matrikelnummer: " + matrikelnummer +
+            " | Semester: " + semester
+        );
+    }
+
+    public static void main(String[] args) {
+        Student s1 = new Student("Alex", 12345, 1);
+        Student s2 = new Student("Maria", 67890, 3);
+
+        s1.naechstesSemester();
+        s1.infoAusgeben();
+
+        s2.infoAusgeben();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+public class Student {
+
+    // TODO 1: Lege die Attribute name, matrikelnummer und semester an
+
+    // TODO 2: Erstelle einen Konstruktor,
+    // der alle Attribute initialisiert
+
+    // TODO 3: Erstelle eine Instanzmethode,
+    // die den Studenten ins nächste Semester versetzt
+
+    // TODO 4: Erstelle eine Instanzmethode,
+    // die eine kurze Info über den Studenten ausgibt
+    // Beispiel:
+    // "Name: Alex | Matrikelnummer: 12345 | Semester: 2"
+
+    public static void main(String[] args) {
+        Student s1 = new Student("Alex", 12345, 1);
+        Student s2 = new Student("Maria", 67890, 3);
+
+        s1.naechstesSemester();
+        s1.infoAusgeben();
+
+        s2.infoAusgeben();
+    }
+}
\ No newline at end of file
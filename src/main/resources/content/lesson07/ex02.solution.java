@@ -0,0 +1,73 @@
+public class Modul {
+
+    // Attribute (gekapselt)
+    private String modulName;
+    private int modulNummer;
+    private int semester;
+    private int credits;
+
+    // Konstruktor
+    public Modul(String modulName, int modulNummer, int semester, int credits) {
+        this.modulName = modulName;
+        this.modulNummer = modulNummer;
+        setSemester(semester);   // Nutzung des Setters
+        setCredits(credits);     // Nutzung des Setters
+    }
+
+    // Getter
+    public String getModulName() {
+        return modulName;
+    }
+
+    public int getModulNummer() {
+        return modulNummer;
+    }
+
+    public int getSemester() {
+        return semester;
+    }
+
+    public int getCredits() {
+        return credits;
+    }
+
+    // Setter mit Validierung
+    public void setModulName(String modulName) {
+        this.modulName = modulName;
+    }
+
+    public void setModulNummer(int modulNummer) {
+        this.modulNummer = modulNummer;
+    }
+
+    public void setSemester(int semester) {
+        if (semester >= 1) {
+            this.semester = semester;
+        }
+    }
+
+    public void setCredits(int credits) {
+        if (credits >= 0) {
+            this.credits = credits;
+        }
+    }
+
+    // Instanzmethode
+    public void modulInfoAusgeben() {
+        System.out.println(
+            "Modul: " + modulName +
+            " (Nr. " + modulNummer + ")" +
+            " | Semester: " + semester +
+            " | Credits: " + credits
+        );
+    }
+
+    public static void main(String[] args) {
+        Modul m1 = new Modul("Programmieren 1", 101, 1, 5);
+
+        m1.setCredits(6);
+        m1.setSemester(2);
+
+        m1.modulInfoAusgeben();
+    }
+}
\ No newline at end of file
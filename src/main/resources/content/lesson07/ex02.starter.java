@@ -0,0 +1,30 @@
+public class Modul {
+
+    // TODO 1: Lege die privaten Attribute an:
+    // - modulName (String)
+    // - modulNummer (int)
+    // - semester (int)
+    // - credits (int)
+
+    // TODO 2: Erstelle einen Konstruktor,
+    // der alle Attribute initialisiert
+
+    // TODO 3: Erstelle Getter und Setter für alle Attribute
+    // Regeln:
+    // - semester darf nicht kleiner als 1 sein
+    // - credits dürfen nicht negativ sein
+
+    // TODO 4: Erstelle eine Methode,
+    // die eine Modulbeschreibung ausgibt
+    // Beispiel:
+    // "Modul: Programmieren 1 (Nr. 101) | Semester: 1 | Credits: 5"
+
+    public static void main(String[] args) {
+        Modul m1 = new Modul("Programmieren 1", 101, 1, 5);
+
+        m1.setCredits(6);
+        m1.setSemester(2);
+
+        m1.modulInfoAusgeben();
+    }
+}
\ No newline at end of file
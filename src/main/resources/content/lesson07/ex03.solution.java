@@ -0,0 +1,135 @@
+import java.util.ArrayList;
+
+public class Modul {
+
+    private String name;
+    private int nummer;
+    private int credits;
+    private int semester;
+
+    public Modul(String name, int nummer, int credits, int semester) {
+        this.name = name;
+        this.nummer = nummer;
+        setCredits(credits);
+        setSemester(semester);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getNummer() {
+        return nummer;
+    }
+
+    public int getCredits() {
+        return credits;
+    }
+
+    public int getSemester() {
+        return semester;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public void setNummer(int nummer) {
+        this.nummer = nummer;
+    }
+
+    public void setCredits(int credits) {
+        if (credits >= 0) {
+            this.credits = credits;
+        }
+    }
+
+    public void setSemester(int semester) {
+        if (semester >= 1) {
+            this.semester = semester;
+        }
+    }
+
+    public String getModulInfo() {
+        return name + " (" + nummer + ")" +
+               " | Semester: " + semester +
+               " | Credits: " + credits;
+    }
+}
+
+class Student {
+
+    private String name;
+    private int matrikelnummer;
+    private int semester;
+    private ArrayList<Modul> belegteModule;
+
+    public Student(String name, int matrikelnummer, int semester) {
+        this.name = name;
+        this.matrikelnummer = matrikelnummer;
+        setSemester(semester);
+        this.belegteModule = new ArrayList<>();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMatrikelnummer() {
+        return matrikelnummer;
+    }
+
+    public int getSemester() {
+        return semester;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public void setMatrikelnummer(int matrikelnummer) {
+        this.matrikelnummer = matrikelnummer;
+    }
+
+    public void setSemester(int semester) {
+        if (semester >= 1) {
+            this.semester = semester;
+        }
+    }
+
+    public void modulHinzufuegen(Modul modul) {
+        belegteModule.add(modul);
+    }
+
+    public int berechneGesamtCredits() {
+        int summe = 0;
+        for (Modul m : belegteModule) {
+            summe += m.getCredits();
+        }
+        return summe;
+    }
+
+    public void studentInfoAusgeben() {
+        System.out.println("Student: " + name);
+        System.out.println("Matrikelnummer: " + matrikelnummer);
+        System.out.println("Semester: " + semester);
+        System.out.println("Gesamtcredits: " + berechneGesamtCredits());
+        System.out.println("Belegte Module:");
+
+        for (Modul m : belegteModule) {
+            System.out.println(" - " + m.getModulInfo());
+        }
+    }
+
+    public static void main(String[] args) {
+        Modul m1 = new Modul("Programmieren 1", 101, 5, 1);
+        Modul m2 = new Modul("Datenbanken", 202, 6, 2);
+
+        Student s = new Student("Alex", 12345, 1);
+
+        s.modulHinzufuegen(m1);
+        s.modulHinzufuegen(m2);
+
+        s.studentInfoAusgeben();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+import java.util.ArrayList;
+
+public class Modul {
+
+    // TODO 1:
+    // private Attribute:
+    // - name (String)
+    // - nummer (int)
+    // - credits (int)
+    // - semester (int)
+
+    // TODO 2:
+    // Konstruktor mit allen Attributen
+
+    // TODO 3:
+    // Getter und Setter
+    // Regeln:
+    // - credits >= 0
+    // - semester >= 1
+
+    // TODO 4:
+    // Methode:
+    // String getModulInfo()
+    // Beispiel:
+    // "Programmieren 1 (101) | Semester: 1 | Credits: 5"
+}
+
+class Student {
+
+    // TODO 5:
+    // private Attribute:
+    // - name (String)
+    // - matrikelnummer (int)
+    // - semester (int)
+    // - belegteModule (ArrayList<Modul>)
+
+    // TODO 6:
+    // Konstruktor:
+    // name, matrikelnummer, semester
+    // belegteModule soll leer initialisiert werden
+
+    // TODO 7:
+    // Getter und Setter
+    // Regeln:
+    // - semester >= 1
+
+    // TODO 8:
+    // Methode:
+    // void modulHinzufuegen(Modul modul)
+    // → Modul zur Liste hinzufügen
+
+    // TODO 9:
+    // Methode:
+    // int berechneGesamtCredits()
+    // → Summe aller Credits der belegten Module
+
+    // TODO 10:
+    // Methode:
+    // void studentInfoAusgeben()
+    // → Name, Matrikelnummer, Semester, Gesamtcredits
+    // → Alle belegten Module ausgeben
+
+    public static void main(String[] args) {
+        Modul m1 = new Modul("Programmieren 1", 101, 5, 1);
+        Modul m2 = new Modul("Datenbanken", 202, 6, 2);
+
+        Student s = new Student("Alex", 12345, 1);
+
+        s.modulHinzufuegen(m1);
+        s.modulHinzufuegen(m2);
+
+        s.studentInfoAusgeben();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+public abstract class GeomFigur {
+
+    protected String name;
+
+    public GeomFigur(String name) {
+        this.name = name;
+    }
+
+    public abstract double berechneFlaeche();
+
+    public void info() {
+        System.out.println(name + ": Fläche = " + berechneFlaeche());
+    }
+}
+
+class Kreis extends GeomFigur {
+
+    private double radius;
+
+    public Kreis(String name, double radius) {
+        super(name);
+        this.radius = radius;
+    }
+
+    @Override
+    public double berechneFlaeche() {
+        return Math.PI * radius * radius;
+    }
+}
+
+class Rechteck extends GeomFigur {
+
+    private double breite;
+    private double hoehe;
+
+    public Rechteck(String name, double breite, double hoehe) {
+        super(name);
+        this.breite = breite;
+        this.hoehe = hoehe;
+    }
+
+    @Override
+    public double berechneFlaeche() {
+        return breite * hoehe;
+    }
+}
+
+class Main {
+    public static void main(String[] args) {
+        GeomFigur k = new Kreis("Mein Kreis", 5.0);
+        GeomFigur r = new Rechteck("Mein Rechteck", 4.0, 3.0);
+
+        k.info();
+        r.info();
+    }
+}
\ No newline at end of file
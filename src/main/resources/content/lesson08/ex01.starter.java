@@ -0,0 +1,40 @@
+public abstract class GeomFigur {
+
+    // TODO 1: Attribut 'name' (protected)
+
+    // TODO 2: Konstruktor mit name-Parameter
+
+    // TODO 3: Abstrakte Methode berechneFlaeche()
+
+    // TODO 4: Methode info() die Name und Fläche ausgibt
+}
+
+class Kreis extends GeomFigur {
+
+    // TODO 5: Attribut 'radius' (private)
+
+    // TODO 6: Konstruktor der super() aufruft
+
+    // TODO 7: Überschreibe berechneFlaeche()
+    // Formel: π * r²
+}
+
+class Rechteck extends GeomFigur {
+
+    // TODO 8: Attribute 'breite' und 'hoehe' (private)
+
+    // TODO 9: Konstruktor der super() aufruft
+
+    // TODO 10: Überschreibe berechneFlaeche()
+    // Formel: breite * höhe
+}
+
+class Main {
+    public static void main(String[] args) {
+        GeomFigur k = new Kreis("Mein Kreis", 5.0);
+        GeomFigur r = new Rechteck("Mein Rechteck", 4.0, 3.0);
+
+        k.info();
+        r.info();
+    }
+}
\ No newline at end of file
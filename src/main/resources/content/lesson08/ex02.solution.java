@@ -0,0 +1,72 @@
+import java.util.ArrayList;
+
+public class Mitarbeiter {
+
+    protected String name;
+    protected int personalnummer;
+
+    public Mitarbeiter(String name, int personalnummer) {
+        this.name = name;
+        this.personalnummer = personalnummer;
+    }
+
+    public void info() {
+        System.out.println("Mitarbeiter: " + name + " (Nr. " + personalnummer + ")");
+    }
+
+    public int getPersonalnummer() {
+        return personalnummer;
+    }
+}
+
+class Professor extends Mitarbeiter {
+
+    private String fachgebiet;
+
+    public Professor(String name, int personalnummer, String fachgebiet) {
+        super(name, personalnummer);
+        this.fachgebiet = fachgebiet;
+    }
+
+    @Override
+    public void info() {
+        System.out.println("Professor: " + name + " (Nr. " + personalnummer + ") - Fachgebiet: " + fachgebiet);
+    }
+}
+
+class Assistent extends Mitarbeiter {
+
+    private int stundenProWoche;
+
+    public Assistent(String name, int personalnummer, int stundenProWoche) {
+        super(name, personalnummer);
+        this.stundenProWoche = stundenProWoche;
+    }
+
+    @Override
+    public void info() {
+        System.out.println("Assistent: " + name + " (Nr. " + personalnummer + ") - " + stundenProWoche + " Std/Woche");
+    }
+}
+
+class Personalverwaltung {
+    public static void main(String[] args) {
+        ArrayList<Mitarbeiter> personal = new ArrayList<>();
+
+        personal.add(new Professor("Dr. Schmidt", 1001, "Informatik"));
+        personal.add(new Assistent("Anna Müller", 2001, 20));
+        personal.add(new Professor("Dr. Weber", 1002, "Mathematik"));
+
+        for (Mitarbeiter m : personal) {
+            m.info();
+        }
+
+        int profCount = 0;
+        for (Mitarbeiter m : personal) {
+            if (m instanceof Professor) {
+                profCount++;
+            }
+        }
+        System.out.println("Anzahl Professoren: " + profCount);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+import java.util.ArrayList;
+
+public class Mitarbeiter {
+
+    // TODO 1: protected Attribute: name, personalnummer
+
+    // TODO 2: Konstruktor
+
+    // TODO 3: Methode info() zur Ausgabe
+
+    // TODO 4: Getter für personalnummer
+}
+
+class Professor extends Mitarbeiter {
+
+    // TODO 5: private Attribut: fachgebiet
+
+    // TODO 6: Konstruktor mit super()
+
+    // TODO 7: Überschreibe info()
+}
+
+class Assistent extends Mitarbeiter {
+
+    // TODO 8: private Attribut: stundenProWoche
+
+    // TODO 9: Konstruktor mit super()
+
+    // TODO 10: Überschreibe info()
+}
+
+class Personalverwaltung {
+    public static void main(String[] args) {
+        ArrayList<Mitarbeiter> personal = new ArrayList<>();
+
+        personal.add(new Professor("Dr. Schmidt", 1001, "Informatik"));
+        personal.add(new Assistent("Anna Müller", 2001, 20));
+        personal.add(new Professor("Dr. Weber", 1002, "Mathematik"));
+
+        // Alle Mitarbeiter ausgeben
+        for (Mitarbeiter m : personal) {
+            m.info();
+        }
+
+        // Nur Professoren zählen mit instanceof
+        int profCount = 0;
+        for (Mitarbeiter m : personal) {
+            if (m instanceof Professor) {
+                profCount++;
+            }
+        }
+        System.out.println("Anzahl Professoren: " + profCount);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,45 @@
+import java.util.ArrayList;
+import java.util.Collections;
+
+public class Student implements Comparable<Student> {
+
+    private String name;
+    private int matrikelnummer;
+
+    public Student(String name, int matrikelnummer) {
+        this.name = name;
+        this.matrikelnummer = matrikelnummer;
+    }
+
+    @Override
+    public int compareTo(Student other) {
+        return this.matrikelnummer - other.matrikelnummer;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + matrikelnummer + ")";
+    }
+
+    public String getName() { return name; }
+    public int getMatrikelnummer() { return matrikelnummer; }
+
+    public static void main(String[] args) {
+        ArrayList<Student> studenten = new ArrayList<>();
+        studenten.add(new Student("Maria", 54321));
+        studenten.add(new Student("Alex", 12345));
+        studenten.add(new Student("Tim", 33333));
+
+        System.out.println("Vor Sortierung:");
+        for (Student s : studenten) {
+            System.out.println(s);
+        }
+
+        Collections.sort(studenten);
+
+        System.out.println("\nNach Sortierung:");
+        for (Student s : studenten) {
+            System.out.println(s);
+        }
+    }
+}
\ No newline at end of file
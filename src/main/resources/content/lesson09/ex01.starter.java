@@ -0,0 +1,51 @@
+import java.util.ArrayList;
+import java.util.Collections;
+
+public class Student implements Comparable<Student> {
+
+    private String name;
+    private int matrikelnummer;
+
+    public Student(String name, int matrikelnummer) {
+        this.name = name;
+        this.matrikelnummer = matrikelnummer;
+    }
+
+    // TODO 1: Implementiere compareTo()
+    // Sortiere nach Matrikelnummer aufsteigend
+    @Override
+    public int compareTo(Student other) {
+        // Dein Code hier
+        return 0;
+    }
+
+    // TODO 2: Überschreibe toString()
+    @Override
+    public String toString() {
+        // Dein Code hier
+        return "";
+    }
+
+    public String getName() { return name; }
+    public int getMatrikelnummer() { return matrikelnummer; }
+
+    public static void main(String[] args) {
+        ArrayList<Student> studenten = new ArrayList<>();
+        studenten.add(new Student("Maria", 54321));
+        studenten.add(new Student("Alex", 12345));
+        studenten.add(new Student("Tim", 33333));
+
+        System.out.println("Vor Sortierung:");
+        for (Student s : studenten) {
+            System.out.println(s);
+        }
+
+        // TODO 3: Sortiere die Liste
+        // Collections.sort(...)
+
+        System.out.println("\nNach Sortierung:");
+        for (Student s : studenten) {
+            System.out.println(s);
+        }
+    }
+}
\ No newline at end of file
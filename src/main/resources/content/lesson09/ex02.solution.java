@@ -0,0 +1,26 @@
+import java.util.HashMap;
+import java.util.Map;
+
+public class Modulkatalog {
+
+    public static void main(String[] args) {
+        HashMap<Integer, String> module = new HashMap<>();
+
+        module.put(101, "Programmieren 1");
+        module.put(102, "Programmieren 2");
+        module.put(201, "Datenbanken");
+        module.put(301, "Software Engineering");
+
+        int gesuchteNummer = 101;
+        if (module.containsKey(gesuchteNummer)) {
+            System.out.println("Modul " + gesuchteNummer + ": " + module.get(gesuchteNummer));
+        } else {
+            System.out.println("Modul nicht gefunden");
+        }
+
+        System.out.println("\nAlle Module:");
+        for (Map.Entry<Integer, String> entry : module.entrySet()) {
+            System.out.println(entry.getKey() + ": " + entry.getValue());
+        }
+    }
+}
\ No newline at end of file
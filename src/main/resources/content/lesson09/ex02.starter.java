@@ -0,0 +1,19 @@
+import java.util.HashMap;
+import java.util.Map;
+
+public class Modulkatalog {
+
+    public static void main(String[] args) {
+        // TODO 1: Erstelle eine HashMap für Modulnummer -> Modulname
+        HashMap<Integer, String> module = new HashMap<>();
+
+        // TODO 2: Füge mindestens 4 Module hinzu
+        // Beispiel: 101 -> "Programmieren 1"
+
+        // TODO 3: Prüfe ob Modul 101 existiert und gib es aus
+        int gesuchteNummer = 101;
+
+        // TODO 4: Gib alle Module aus (Schleife über entrySet)
+        System.out.println("\nAlle Module:");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+public class EingabeVerarbeitung {
+
+    public static int parseMatrikelnummer(String eingabe) {
+        try {
+            return Integer.parseInt(eingabe);
+        } catch (NumberFormatException e) {
+            System.out.println("Fehler: Ungültiges Zahlenformat");
+            return -1;
+        } catch (NullPointerException e) {
+            System.out.println("Fehler: Eingabe ist null");
+            return -1;
+        }
+    }
+
+    public static double berechneNotenschnitt(int[] noten) {
+        try {
+            if (noten.length == 0) {
+                throw new ArithmeticException("Keine Noten vorhanden");
+            }
+            int summe = 0;
+            for (int note : noten) {
+                summe += note;
+            }
+            return (double) summe / noten.length;
+        } catch (ArithmeticException e) {
+            System.out.println("Fehler: " + e.getMessage());
+            return 0.0;
+        }
+    }
+
+    public static void main(String[] args) {
+        System.out.println("Gültige Eingabe: " + parseMatrikelnummer("12345"));
+        System.out.println("Ungültige Eingabe: " + parseMatrikelnummer("abc"));
+        System.out.println("Null Eingabe: " + parseMatrikelnummer(null));
+
+        int[] noten = {1, 2, 3, 2, 1};
+        int[] leereNoten = {};
+        System.out.println("Notenschnitt: " + berechneNotenschnitt(noten));
+        System.out.println("Leeres Array: " + berechneNotenschnitt(leereNoten));
+    }
+}
\ No newline at end of file
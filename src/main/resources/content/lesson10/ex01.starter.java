@@ -0,0 +1,29 @@
+public class EingabeVerarbeitung {
+
+    public static int parseMatrikelnummer(String eingabe) {
+        // TODO 1: Implementiere try-catch
+        // Wandle den String in eine Zahl um
+        // Bei Fehler: gib -1 zurück und eine Fehlermeldung aus
+        return 0;
+    }
+
+    public static double berechneNotenschnitt(int[] noten) {
+        // TODO 2: Implementiere try-catch
+        // Berechne den Durchschnitt
+        // Bei leerem Array: ArithmeticException abfangen
+        return 0.0;
+    }
+
+    public static void main(String[] args) {
+        // Test parseMatrikelnummer
+        System.out.println("Gültige Eingabe: " + parseMatrikelnummer("12345"));
+        System.out.println("Ungültige Eingabe: " + parseMatrikelnummer("abc"));
+        System.out.println("Null Eingabe: " + parseMatrikelnummer(null));
+
+        // Test berechneNotenschnitt
+        int[] noten = {1, 2, 3, 2, 1};
+        int[] leereNoten = {};
+        System.out.println("Notenschnitt: " + berechneNotenschnitt(noten));
+        System.out.println("Leeres Array: " + berechneNotenschnitt(leereNoten));
+    }
+}
\ No newline at end of file
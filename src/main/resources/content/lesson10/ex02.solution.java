@@ -0,0 +1,36 @@
+class UngueltigerStudentException extends Exception {
+    public UngueltigerStudentException(String message) {
+        super(message);
+    }
+}
+
+public class Pruefungsamt {
+
+    public static void validiereStudent(String name, int matrikelnummer, int semester)
+            throws UngueltigerStudentException {
+        if (name == null || name.trim().isEmpty()) {
+            throw new UngueltigerStudentException("Name darf nicht leer sein");
+        }
+        if (matrikelnummer <= 0) {
+            throw new UngueltigerStudentException("Matrikelnummer muss positiv sein");
+        }
+        if (semester < 1 || semester > 14) {
+            throw new UngueltigerStudentException("Semester muss zwischen 1 und 14 liegen");
+        }
+    }
+
+    public static void main(String[] args) {
+        try {
+            validiereStudent("Alex", 12345, 3);
+            System.out.println("Student ist gültig!");
+        } catch (UngueltigerStudentException e) {
+            System.out.println("Fehler: " + e.getMessage());
+        }
+
+        try {
+            validiereStudent("", -1, 20);
+        } catch (UngueltigerStudentException e) {
+            System.out.println("Fehler: " + e.getMessage());
+        }
+    }
+}
\ No newline at end of file
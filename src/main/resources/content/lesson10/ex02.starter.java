@@ -0,0 +1,34 @@
+// TODO 1: Erstelle die Exception-Klasse
+class UngueltigerStudentException extends Exception {
+    // Konstruktor mit Fehlermeldung
+}
+
+public class Pruefungsamt {
+
+    // TODO 2: Methode zur Validierung
+    public static void validiereStudent(String name, int matrikelnummer, int semester)
+            throws UngueltigerStudentException {
+        // Prüfe:
+        // - Name nicht leer
+        // - Matrikelnummer > 0
+        // - Semester zwischen 1 und 14
+        // Bei Fehler: throw new UngueltigerStudentException(...)
+    }
+
+    public static void main(String[] args) {
+        // TODO 3: Teste die Validierung mit try-catch
+        try {
+            validiereStudent("Alex", 12345, 3);
+            System.out.println("Student ist gültig!");
+        } catch (UngueltigerStudentException e) {
+            System.out.println("Fehler: " + e.getMessage());
+        }
+
+        // Teste mit ungültigen Daten
+        try {
+            validiereStudent("", -1, 20);
+        } catch (UngueltigerStudentException e) {
+            System.out.println("Fehler: " + e.getMessage());
+        }
+    }
+}
\ No newline at end of file
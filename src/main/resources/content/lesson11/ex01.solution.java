@@ -0,0 +1,25 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+
+public class LambdaBeispiel {
+
+    public static void main(String[] args) {
+        ArrayList<String> studenten = new ArrayList<>();
+        studenten.add("Maria");
+        studenten.add("Alex");
+        studenten.add("Tim");
+        studenten.add("Anna");
+
+        System.out.println("Alle Studenten:");
+        studenten.forEach(s -> System.out.println(s));
+
+        Collections.sort(studenten, (a, b) -> a.length() - b.length());
+        System.out.println("\nNach Namenslänge sortiert:");
+        studenten.forEach(s -> System.out.println(s));
+
+        Collections.sort(studenten, (a, b) -> b.compareTo(a));
+        System.out.println("\nAlphabetisch absteigend:");
+        studenten.forEach(s -> System.out.println(s));
+    }
+}
\ No newline at end of file
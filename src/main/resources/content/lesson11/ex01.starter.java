@@ -0,0 +1,25 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+
+public class LambdaBeispiel {
+
+    public static void main(String[] args) {
+        ArrayList<String> studenten = new ArrayList<>();
+        studenten.add("Maria");
+        studenten.add("Alex");
+        studenten.add("Tim");
+        studenten.add("Anna");
+
+        // TODO 1: Gib alle Studenten mit forEach und Lambda aus
+        // Syntax: liste.forEach(element -> ...)
+        System.out.println("Alle Studenten:");
+
+        // TODO 2: Sortiere nach Länge des Namens mit Lambda
+        // Syntax: Collections.sort(liste, (a, b) -> ...)
+        System.out.println("\nNach Namenslänge sortiert:");
+
+        // TODO 3: Sortiere alphabetisch absteigend (Z-A)
+        System.out.println("\nAlphabetisch absteigend:");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,33 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class StreamBeispiel {
+
+    public static void main(String[] args) {
+        ArrayList<Integer> noten = new ArrayList<>();
+        noten.add(1);
+        noten.add(3);
+        noten.add(2);
+        noten.add(5);
+        noten.add(4);
+        noten.add(2);
+        noten.add(1);
+
+        List<Integer> guteNoten = noten.stream()
+                .filter(n -> n <= 2)
+                .collect(Collectors.toList());
+        System.out.println("Gute Noten: " + guteNoten);
+
+        long bestanden = noten.stream()
+                .filter(n -> n <= 4)
+                .count();
+        System.out.println("Bestandene Prüfungen: " + bestanden);
+
+        double durchschnitt = noten.stream()
+                .mapToInt(n -> n)
+                .average()
+                .orElse(0.0);
+        System.out.println("Durchschnitt: " + durchschnitt);
+    }
+}
\ No newline at end of file
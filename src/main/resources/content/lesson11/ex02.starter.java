@@ -0,0 +1,32 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class StreamBeispiel {
+
+    public static void main(String[] args) {
+        ArrayList<Integer> noten = new ArrayList<>();
+        noten.add(1);
+        noten.add(3);
+        noten.add(2);
+        noten.add(5);
+        noten.add(4);
+        noten.add(2);
+        noten.add(1);
+
+        // TODO 1: Filtere alle guten Noten (1 oder 2)
+        // Syntax: liste.stream().filter(n -> ...).collect(...)
+        List<Integer> guteNoten = noten; // Ersetze durch Stream
+        System.out.println("Gute Noten: " + guteNoten);
+
+        // TODO 2: Zähle bestandene Prüfungen (Note <= 4)
+        // Syntax: liste.stream().filter(...).count()
+        long bestanden = 0; // Ersetze durch Stream
+        System.out.println("Bestandene Prüfungen: " + bestanden);
+
+        // TODO 3: Berechne den Notendurchschnitt
+        // Syntax: liste.stream().mapToInt(n -> n).average()
+        double durchschnitt = 0.0; // Ersetze durch Stream
+        System.out.println("Durchschnitt: " + durchschnitt);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+// fragments.js
+
+// Lädt Lektionsinhalte und Aufgabenstellungen nach. Der Browser-Cache fragt mit If-None-Match an,
+// unveränderte Fragmente kommen als 304 ohne Inhalt zurück.
+document.addEventListener('DOMContentLoaded', function() {
+    document.querySelectorAll('[data-fragment-src]').forEach(container => {
+        fetch(container.getAttribute('data-fragment-src'), { credentials: 'same-origin' })
+            .then(response => {
+                if (!response.ok) {
+                    throw new Error('HTTP ' + response.status);
+                }
+                return response.text();
+            })
+            .then(html => {
+                container.innerHTML = html;
+                container.removeAttribute('aria-busy');
+                if (window.hljs) {
+                    container.querySelectorAll('pre code').forEach(block => window.hljs.highlightElement(block));
+                }
+            })
+            .catch(() => {
+                container.removeAttribute('aria-busy');
+                container.textContent = 'Inhalt konnte nicht geladen werden. Bitte lade die Seite neu.';
+            });
+    });
+});
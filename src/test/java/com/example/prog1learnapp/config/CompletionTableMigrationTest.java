@@ -0,0 +1,80 @@
+package com.example.prog1learnapp.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// DDL schließt in H2 die laufende Transaktion ab, daher ohne Test-Transaktion und mit eigenem Aufräumen
+@DataJpaTest
+@Import(CompletionTableMigration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CompletionTableMigrationTest {
+
+    @Autowired
+    private CompletionTableMigration migration;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM completed_exercises");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    void run_removesDuplicatesAndAddsPrimaryKeyOnUpgradedSchema() {
+        assertTrue(migration.hasPrimaryKey());
+        // Stand einer Datenbank aus der Zeit, als die Abschlüsse eine Liste ohne Schlüssel waren
+        jdbcTemplate.execute("ALTER TABLE completed_exercises DROP PRIMARY KEY");
+        Long userId = insertUser("upgraded");
+        insertCompletion(userId, 7L);
+        insertCompletion(userId, 7L);
+        insertCompletion(userId, 8L);
+        assertFalse(migration.hasPrimaryKey());
+
+        migration.run();
+
+        assertTrue(migration.hasPrimaryKey());
+        assertEquals(2, count(userId));
+        assertThrows(DataIntegrityViolationException.class, () -> insertCompletion(userId, 8L));
+    }
+
+    @Test
+    void run_leavesTableWithPrimaryKeyUntouched() {
+        Long userId = insertUser("fresh");
+        insertCompletion(userId, 7L);
+
+        migration.run();
+
+        assertTrue(migration.hasPrimaryKey());
+        assertEquals(1, count(userId));
+    }
+
+    private Long insertUser(String username) {
+        jdbcTemplate.update("INSERT INTO users (username, password, display_name) VALUES (?, 'x', ?)", username, username);
+        return jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = ?", Long.class, username);
+    }
+
+    private void insertCompletion(Long userId, Long exerciseId) {
+        jdbcTemplate.update("INSERT INTO completed_exercises (user_id, completed_exercises) VALUES (?, ?)",
+                userId, exerciseId);
+    }
+
+    private int count(Long userId) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM completed_exercises WHERE user_id = ?", Integer.class, userId);
+        return count != null ? count : 0;
+    }
+}
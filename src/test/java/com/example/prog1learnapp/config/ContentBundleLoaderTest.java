@@ -0,0 +1,81 @@
+package com.example.prog1learnapp.config;
+
+import com.example.prog1learnapp.config.seed.ContentBundleLoader;
+import com.example.prog1learnapp.config.seed.LessonSeed;
+import com.example.prog1learnapp.model.Exercise;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContentBundleLoaderTest {
+
+    @TempDir
+    Path bundle;
+
+    @Test
+    void bundledContent_containsAllLessonsInIdOrder() {
+        List<LessonSeed> seeds = new ContentBundleLoader(new DefaultResourceLoader(), "classpath:content").load();
+
+        assertEquals(11, seeds.size());
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L),
+                seeds.stream().map(seed -> seed.lesson().getId()).toList());
+        for (LessonSeed seed : seeds) {
+            assertTrue(seed.lesson().getContent().contains("<"), "Lektion " + seed.lesson().getId());
+            for (Exercise exercise : seed.exercises()) {
+                assertTrue(exercise.getSolution().contains("class"), exercise.getTitle());
+                assertSame(seed.lesson(), exercise.getLesson());
+            }
+        }
+    }
+
+    @Test
+    void fileLocation_readsManifestAndExerciseFiles() throws IOException {
+        Path lesson = Files.createDirectories(bundle.resolve("lesson42"));
+        Files.writeString(lesson.resolve("lesson.properties"), """
+                id=42
+                title=Schleifen & mehr
+                shortDescription=Kurzbeschreibung
+                exercises=ex01, ex02
+                ex01.title=Zählen
+                ex01.difficulty=EASY
+                ex02.title=Summieren
+                ex02.difficulty=MEDIUM
+                """);
+        Files.writeString(lesson.resolve("content.html"), "<p>Inhalt</p>");
+        for (String key : List.of("ex01", "ex02")) {
+            Files.writeString(lesson.resolve(key + ".description.txt"), "Beschreibung " + key);
+            Files.writeString(lesson.resolve(key + ".starter.java"), "class Main {}\n");
+            Files.writeString(lesson.resolve(key + ".solution.java"), "class Main { /* " + key + " */ }\n");
+        }
+
+        List<LessonSeed> seeds = new ContentBundleLoader(new DefaultResourceLoader(), bundle.toUri().toString()).load();
+
+        LessonSeed seed = seeds.get(0);
+        assertEquals(42L, seed.lesson().getId());
+        assertEquals("Schleifen & mehr", seed.lesson().getTitle());
+        assertEquals("<p>Inhalt</p>", seed.lesson().getContent());
+        assertEquals(List.of("Zählen", "Summieren"), seed.exercises().stream().map(Exercise::getTitle).toList());
+        assertEquals("MEDIUM", seed.exercises().get(1).getDifficulty());
+        assertEquals("class Main { /* ex02 */ }\n", seed.exercises().get(1).getSolution());
+    }
+
+    @Test
+    void missingManifestEntry_failsWithKeyInMessage() throws IOException {
+        Path lesson = Files.createDirectories(bundle.resolve("lesson43"));
+        Files.writeString(lesson.resolve("lesson.properties"), "id=43\ntitle=Ohne Kurzbeschreibung\nexercises=ex01\n");
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> new ContentBundleLoader(new DefaultResourceLoader(), bundle.toUri().toString()).load());
+        assertTrue(ex.getMessage().contains("shortDescription"), ex.getMessage());
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.prog1learnapp.config;
+
+import com.example.prog1learnapp.config.seed.ContentFingerprint;
+import com.example.prog1learnapp.config.seed.LessonSeed;
+import com.example.prog1learnapp.model.Exercise;
+import com.example.prog1learnapp.model.Lesson;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ContentFingerprintTest {
+
+    @Test
+    void sameContent_yieldsSameFingerprintRegardlessOfLessonOrder() {
+        String forward = ContentFingerprint.of(List.of(seed(1L, "class A {}"), seed(2L, "class B {}")));
+        String reversed = ContentFingerprint.of(List.of(seed(2L, "class B {}"), seed(1L, "class A {}")));
+
+        assertEquals(forward, reversed);
+        assertEquals(64, forward.length());
+    }
+
+    @Test
+    void changedSolution_changesFingerprint() {
+        String before = ContentFingerprint.of(List.of(seed(1L, "class A {}")));
+        String after = ContentFingerprint.of(List.of(seed(1L, "class A { }")));
+
+        assertNotEquals(before, after);
+    }
+
+    @Test
+    void shiftedFieldBoundary_changesFingerprint() {
+        Lesson first = new Lesson(1L, "ab", "c", "Inhalt");
+        Lesson second = new Lesson(1L, "a", "bc", "Inhalt");
+
+        assertNotEquals(ContentFingerprint.of(List.of(new LessonSeed(first, List.of()))),
+                ContentFingerprint.of(List.of(new LessonSeed(second, List.of()))));
+    }
+
+    private LessonSeed seed(Long lessonId, String solution) {
+        Lesson lesson = new Lesson(lessonId, "Lektion " + lessonId, "Kurz", "Inhalt");
+        Exercise exercise = new Exercise();
+        exercise.setTitle("Aufgabe " + lessonId);
+        exercise.setDescription("Beschreibung");
+        exercise.setStarterCode("class Main {}");
+        exercise.setSolution(solution);
+        exercise.setDifficulty("EASY");
+        exercise.setLesson(lesson);
+        return new LessonSeed(lesson, List.of(exercise));
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.prog1learnapp.config;
+
+import com.example.prog1learnapp.model.ContentVersion;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+// Ändert den eingespielten Katalog, daher eigener Kontext
+@SpringBootTest
+@DirtiesContext
+class DataInitializerTest {
+
+    @Autowired
+    private DataInitializer dataInitializer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Nachbildung eines Rolling Deploys: zwei Instanzen starten mit geändertem Inhalt gleichzeitig,
+     * eine Aufgabe fehlt in der Datenbank. Sie darf nur einmal eingefügt werden.
+     */
+    @Test
+    void concurrentRuns_seedMissingExercisesOnlyOnce() throws Exception {
+        int exercises = count("SELECT COUNT(*) FROM exercise");
+        jdbcTemplate.update("DELETE FROM exercise WHERE id = (SELECT MAX(id) FROM exercise)");
+        jdbcTemplate.update("UPDATE content_version SET fingerprint = '' WHERE name = ?", ContentVersion.CATALOG);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch ready = new CountDownLatch(2);
+            List<Future<?>> runs = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                runs.add(executor.submit(() -> {
+                    ready.countDown();
+                    ready.await();
+                    dataInitializer.run();
+                    return null;
+                }));
+            }
+            for (Future<?> run : runs) {
+                run.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(exercises, count("SELECT COUNT(*) FROM exercise"));
+        assertEquals(0, count("SELECT COUNT(*) FROM (SELECT lesson_id, title FROM exercise " +
+                "GROUP BY lesson_id, title HAVING COUNT(*) > 1) d"));
+        String fingerprint = jdbcTemplate.queryForObject(
+                "SELECT fingerprint FROM content_version WHERE name = ?", String.class, ContentVersion.CATALOG);
+        assertFalse(fingerprint.isEmpty());
+    }
+
+    private int count(String sql) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class);
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.prog1learnapp.config;
+
+import com.example.prog1learnapp.config.seed.ExerciseSeedService;
+import com.example.prog1learnapp.config.seed.LessonSeed;
+import com.example.prog1learnapp.config.seed.SeedReport;
+import com.example.prog1learnapp.model.Exercise;
+import com.example.prog1learnapp.model.Lesson;
+import com.example.prog1learnapp.repository.ExerciseRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@Import(ExerciseSeedService.class)
+class ExerciseSeedServiceTest {
+
+    @Autowired
+    private ExerciseSeedService exerciseSeedService;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void seedLesson_insertsOnceAndSkipsExistingExercises() {
+        SeedReport first = exerciseSeedService.seedLesson(seed(8001L, "A", "B"));
+        SeedReport second = exerciseSeedService.seedLesson(seed(8001L, "A", "B"));
+
+        assertTrue(first.lessonCreated());
+        assertEquals(2, first.insertedExercises());
+        assertFalse(second.lessonCreated());
+        assertEquals(2, second.existingExercises());
+        assertEquals(0, second.insertedExercises());
+        assertEquals(2, exerciseRepository.findTitlesByLessonId(8001L).size());
+    }
+
+    @Test
+    void seedLesson_appendsNewExercisesBehindExistingOnes() {
+        exerciseSeedService.seedLesson(seed(8002L, "A", "B"));
+        SeedReport report = exerciseSeedService.seedLesson(seed(8002L, "A", "B", "C"));
+
+        assertEquals(1, report.insertedExercises());
+        List<Exercise> stored = exerciseRepository.findAll().stream()
+                .filter(exercise -> exercise.getLesson().getId().equals(8002L))
+                .sorted(Comparator.comparing(Exercise::getPosition))
+                .toList();
+        assertEquals(List.of("A", "B", "C"), stored.stream().map(Exercise::getTitle).toList());
+        assertEquals(List.of(0, 1, 2), stored.stream().map(Exercise::getPosition).toList());
+        assertEquals("class Main { /* C */ }", stored.get(2).getSolution());
+    }
+
+    @Test
+    void seedLesson_backfillsMissingPositionsInIdOrderBeforeAppending() {
+        exerciseSeedService.seedLesson(seed(8003L, "A", "B"));
+        // Stand vor Einführung der Positionen
+        jdbcTemplate.update("UPDATE exercise SET position_in_lesson = NULL WHERE lesson_id = ?", 8003L);
+
+        exerciseSeedService.seedLesson(seed(8003L, "A", "B", "C"));
+
+        List<Exercise> stored = exerciseRepository.findByLessonIdOrdered(8003L);
+        assertEquals(List.of("A", "B", "C"), stored.stream().map(Exercise::getTitle).toList());
+        assertEquals(List.of(0, 1, 2), stored.stream().map(Exercise::getPosition).toList());
+    }
+
+    private LessonSeed seed(Long lessonId, String... titles) {
+        Lesson lesson = new Lesson(lessonId, "Seed " + lessonId, "Kurz", "Inhalt");
+        List<Exercise> exercises = Arrays.stream(titles).map(title -> exercise(lesson, title)).toList();
+        return new LessonSeed(lesson, exercises);
+    }
+
+    private Exercise exercise(Lesson lesson, String title) {
+        Exercise exercise = new Exercise();
+        exercise.setTitle(title);
+        exercise.setDescription("Beschreibung " + title);
+        exercise.setStarterCode("class Main {}");
+        exercise.setSolution("class Main { /* " + title + " */ }");
+        exercise.setDifficulty("EASY");
+        exercise.setLesson(lesson);
+        return exercise;
+    }
+}
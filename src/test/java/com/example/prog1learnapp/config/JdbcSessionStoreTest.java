@@ -0,0 +1,56 @@
+package com.example.prog1learnapp.config;
+
+import com.example.prog1learnapp.controller.ExamController;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@SpringBootTest(properties = {
+        "app.session.store=jdbc",
+        "spring.session.jdbc.initialize-schema=always"
+})
+class JdbcSessionStoreTest {
+
+    @Autowired
+    private SessionRepository<? extends Session> sessionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void sessionAttributesSurviveRoundTripThroughDatabase() {
+        roundTrip(sessionRepository);
+    }
+
+    private <S extends Session> void roundTrip(SessionRepository<S> repository) {
+        S session = repository.createSession();
+        session.setAttribute(ExamController.EXAM_SESSION_KEY, "attempt-1");
+        repository.save(session);
+        assertEquals(1, countAttributes(session.getId()));
+
+        S loaded = repository.findById(session.getId());
+        assertEquals("attempt-1", loaded.getAttribute(ExamController.EXAM_SESSION_KEY));
+
+        // Nur das neue Attribut wird geschrieben, das vorhandene bleibt unverändert
+        loaded.setAttribute("other", "value");
+        repository.save(loaded);
+        assertEquals(2, countAttributes(session.getId()));
+
+        repository.deleteById(session.getId());
+        assertNull(repository.findById(session.getId()));
+    }
+
+    private int countAttributes(String sessionId) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM SPRING_SESSION_ATTRIBUTES a " +
+                "JOIN SPRING_SESSION s ON s.PRIMARY_ID = a.SESSION_PRIMARY_ID WHERE s.SESSION_ID = ?",
+                Integer.class, sessionId);
+        return count != null ? count : 0;
+    }
+}
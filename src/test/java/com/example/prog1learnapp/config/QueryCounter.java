@@ -0,0 +1,141 @@
+package com.example.prog1learnapp.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Zählt ausgeführte SQL-Anweisungen und gelesene Zeilen auf JDBC-Ebene, also für JPA und
+ * {@code JdbcTemplate} gleichermaßen. Gezählt wird nur im Thread, der {@link #measure(Action)} aufruft;
+ * Hintergrund-Threads (Puffer, Vorwärmen) verfälschen das Ergebnis daher nicht.
+ * Die Datenquelle wird über {@link QueryCountingConfig} eingebunden.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    /**
+     * Anzahl der Ausführungen ({@code execute*}, ein Batch zählt einmal) und der per {@code next()} gelesenen Zeilen.
+     */
+    public record Result(int statements, int rows) {
+    }
+
+    public static Result measure(Action action) throws Exception {
+        Counts counts = new Counts();
+        CURRENT.set(counts);
+        try {
+            action.run();
+        } finally {
+            CURRENT.remove();
+        }
+        return new Result(counts.statements, counts.rows);
+    }
+
+    static DataSource wrap(DataSource dataSource) {
+        return new CountingDataSource(dataSource);
+    }
+
+    private static final class Counts {
+        private int statements;
+        private int rows;
+    }
+
+    static final class CountingDataSource extends DelegatingDataSource {
+
+        CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return proxy(Connection.class, obtainTargetDataSource().getConnection(), null);
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return proxy(Connection.class, obtainTargetDataSource().getConnection(username, password), null);
+        }
+    }
+
+    private static <T> T proxy(Class<T> type, T target, Object parent) {
+        return type.cast(Proxy.newProxyInstance(QueryCounter.class.getClassLoader(), new Class<?>[]{type},
+                new CountingHandler(target, parent)));
+    }
+
+    /**
+     * Umhüllt Connection, Statement und ResultSet. {@code getConnection()} und {@code getStatement()} liefern
+     * die Hülle zurück, damit Hibernate Statements und ResultSets wiedererkennt.
+     */
+    private static final class CountingHandler implements InvocationHandler {
+
+        private final Object target;
+        private final Object parent;
+
+        private CountingHandler(Object target, Object parent) {
+            this.target = target;
+            this.parent = parent;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("equals") && method.getParameterCount() == 1) {
+                return proxy == args[0];
+            }
+            if (name.equals("hashCode") && method.getParameterCount() == 0) {
+                return System.identityHashCode(proxy);
+            }
+            if (parent != null && (name.equals("getConnection") || name.equals("getStatement"))
+                    && method.getParameterCount() == 0) {
+                return parent;
+            }
+
+            Counts counts = CURRENT.get();
+            if (counts != null && target instanceof Statement && name.startsWith("execute")) {
+                counts.statements++;
+            }
+
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+
+            if (counts != null && target instanceof ResultSet && name.equals("next") && Boolean.TRUE.equals(result)) {
+                counts.rows++;
+            }
+
+            if (target instanceof Connection && result instanceof Statement
+                    && Statement.class.isAssignableFrom(method.getReturnType())) {
+                return wrapAs(method.getReturnType(), result, proxy);
+            }
+            if (target instanceof Statement && result instanceof ResultSet
+                    && (name.equals("executeQuery") || name.equals("getResultSet"))) {
+                return proxy(ResultSet.class, (ResultSet) result, proxy);
+            }
+            return result;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T wrapAs(Class<T> type, Object target, Object parent) {
+            return proxy(type, (T) target, parent);
+        }
+    }
+}
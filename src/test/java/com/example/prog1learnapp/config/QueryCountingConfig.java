@@ -0,0 +1,28 @@
+package com.example.prog1learnapp.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * Hängt den {@link QueryCounter} vor die Datenquelle. Per {@code @Import} in Tests einbinden, die
+ * Abfragen zählen.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class QueryCountingConfig {
+
+    @Bean
+    static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof QueryCounter.CountingDataSource)) {
+                    return QueryCounter.wrap(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.prog1learnapp.config;
+
+import jakarta.servlet.http.Cookie;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Sessions für MockMvc-Tests über den Session-Store statt {@code MockHttpSession}: Requests tragen wie im
+ * Browser den {@code SESSION}-Cookie und laufen so durch den {@code SessionRepositoryFilter}.
+ */
+public final class TestSessions {
+
+    private static final String COOKIE = "SESSION";
+
+    private final SessionRepository<? extends Session> repository;
+
+    public TestSessions(SessionRepository<? extends Session> repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Legt eine Session mit den Attributen im Store an und liefert ihre ID.
+     */
+    public String create(Map<String, Object> attributes) {
+        return create(repository, attributes);
+    }
+
+    /**
+     * ID der Session, die die Anwendung in der Antwort per Cookie gesetzt hat.
+     */
+    public String idOf(MvcResult result) {
+        Cookie cookie = result.getResponse().getCookie(COOKIE);
+        assertNotNull(cookie, "Antwort setzt keinen SESSION-Cookie");
+        return new String(Base64.getDecoder().decode(cookie.getValue()), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Schickt den Request mit dem Cookie der Session ab.
+     */
+    public RequestPostProcessor session(String sessionId) {
+        String value = Base64.getEncoder().encodeToString(sessionId.getBytes(StandardCharsets.UTF_8));
+        return request -> {
+            request.setCookies(new Cookie(COOKIE, value));
+            return request;
+        };
+    }
+
+    public Object attribute(String sessionId, String name) {
+        Session session = repository.findById(sessionId);
+        assertNotNull(session, "Session " + sessionId + " nicht im Store");
+        return session.getAttribute(name);
+    }
+
+    private static <S extends Session> String create(SessionRepository<S> repository, Map<String, Object> attributes) {
+        S session = repository.createSession();
+        attributes.forEach(session::setAttribute);
+        repository.save(session);
+        return session.getId();
+    }
+}
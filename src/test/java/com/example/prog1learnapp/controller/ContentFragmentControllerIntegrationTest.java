@@ -0,0 +1,118 @@
+package com.example.prog1learnapp.controller;
+
+import com.example.prog1learnapp.model.Exercise;
+import com.example.prog1learnapp.model.Lesson;
+import com.example.prog1learnapp.repository.ExerciseRepository;
+import com.example.prog1learnapp.repository.LessonRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@WithMockUser(username = "fragmentuser")
+class ContentFragmentControllerIntegrationTest {
+
+    private static final AtomicLong LESSON_ID_SEQ = new AtomicLong(8100L);
+
+    private static final String CONTENT = "<h3>Arrays</h3>\n" + "<p>Ein Array speichert Werte gleichen Typs.</p>\n".repeat(30);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LessonRepository lessonRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Test
+    void lessonContent_isServedGzippedAndRevalidatedWith304() throws Exception {
+        Lesson lesson = createLesson();
+
+        MvcResult first = mockMvc.perform(get("/lesson/{id}/content", lesson.getId())
+                        .header("Accept-Encoding", "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Vary", "Accept-Encoding"))
+                .andReturn();
+        String etag = first.getResponse().getHeader("ETag");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(first.getResponse().getContentAsByteArray()))) {
+            assertEquals(CONTENT, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        mockMvc.perform(get("/lesson/{id}/content", lesson.getId())
+                        .header("Accept-Encoding", "gzip")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void exerciseDescription_withoutAcceptEncoding_isPlainHtml() throws Exception {
+        Exercise exercise = createExercise(createLesson());
+
+        mockMvc.perform(get("/exercise/{id}/description", exercise.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(content().contentTypeCompatibleWith("text/html"))
+                .andExpect(content().bytes(CONTENT.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void noAcceptableEncoding_returns406() throws Exception {
+        Lesson lesson = createLesson();
+
+        mockMvc.perform(get("/lesson/{id}/content", lesson.getId())
+                        .header("Accept-Encoding", "*;q=0"))
+                .andExpect(status().isNotAcceptable())
+                .andExpect(header().string("Vary", "Accept-Encoding"));
+        mockMvc.perform(get("/lesson/{id}/content", lesson.getId())
+                        .header("Accept-Encoding", "identity;q=0"))
+                .andExpect(status().isNotAcceptable());
+        mockMvc.perform(get("/lesson/{id}/content", lesson.getId())
+                        .header("Accept-Encoding", "gzip, identity;q=0"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"));
+    }
+
+    @Test
+    void unknownIds_return404() throws Exception {
+        mockMvc.perform(get("/lesson/{id}/content", 987654L)).andExpect(status().isNotFound());
+        mockMvc.perform(get("/exercise/{id}/description", 987654L)).andExpect(status().isNotFound());
+    }
+
+    private Lesson createLesson() {
+        Lesson lesson = new Lesson(LESSON_ID_SEQ.incrementAndGet(), "Fragment Lesson", "Short", CONTENT);
+        return lessonRepository.save(lesson);
+    }
+
+    private Exercise createExercise(Lesson lesson) {
+        Exercise exercise = new Exercise();
+        exercise.setTitle("Fragment Exercise");
+        exercise.setDescription(CONTENT);
+        exercise.setStarterCode("class Main {}");
+        exercise.setSolution("class Main {}");
+        exercise.setDifficulty("EASY");
+        exercise.setLesson(lesson);
+        return exerciseRepository.save(exercise);
+    }
+}
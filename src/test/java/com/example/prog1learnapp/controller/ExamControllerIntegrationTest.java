@@ -1,25 +1,37 @@
 package com.example.prog1learnapp.controller;
 
+import com.example.prog1learnapp.config.TestSessions;
+import com.example.prog1learnapp.model.ExamAttempt;
 import com.example.prog1learnapp.model.ExamSessionState;
 import com.example.prog1learnapp.model.Exercise;
 import com.example.prog1learnapp.model.Lesson;
 import com.example.prog1learnapp.model.User;
+import com.example.prog1learnapp.repository.ExamAttemptRepository;
 import com.example.prog1learnapp.repository.ExerciseRepository;
 import com.example.prog1learnapp.repository.LessonRepository;
 import com.example.prog1learnapp.repository.UserRepository;
+import com.example.prog1learnapp.service.ExamAttemptService;
+import com.example.prog1learnapp.service.ExamCompletionBuffer;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.mock.web.MockHttpSession;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.Matchers.hasSize;
@@ -36,7 +48,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 
-@SpringBootTest
+// Der Write-Behind-Puffer wird in den Tests nur explizit geleert
+@SpringBootTest(properties = "app.exam.completion-flush-interval=PT1H")
 @AutoConfigureMockMvc
 @Transactional
 class ExamControllerIntegrationTest {
@@ -58,6 +71,31 @@ class ExamControllerIntegrationTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private ExamAttemptRepository examAttemptRepository;
+
+    @Autowired
+    private ExamAttemptService examAttemptService;
+
+    @Autowired
+    private ExamCompletionBuffer completionBuffer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private SessionRepository<? extends Session> sessionRepository;
+
+    private TestSessions sessions;
+
+    @BeforeEach
+    void setUpSessions() {
+        sessions = new TestSessions(sessionRepository);
+    }
+
     @Test
     @WithMockUser(username = "examuser")
     void examStart_createsSessionStateAndRedirects() throws Exception {
@@ -66,12 +104,12 @@ class ExamControllerIntegrationTest {
                 .andExpect(redirectedUrl("/exam"))
                 .andReturn();
 
-        MockHttpSession session = (MockHttpSession) result.getRequest().getSession(false);
+        String session = sessions.idOf(result);
         assertNotNull(session);
-        Object stateObj = session.getAttribute(ExamController.EXAM_SESSION_KEY);
-        assertNotNull(stateObj);
+        // Die Session hält nur die Versuchs-ID, der Versuch selbst liegt in der Datenbank
+        assertTrue(sessions.attribute(session, ExamController.EXAM_SESSION_KEY) instanceof String);
 
-        ExamSessionState state = (ExamSessionState) stateObj;
+        ExamSessionState state = attemptOf(session, "examuser");
         assertEquals(3, state.getSelectedExerciseIds().size());
         assertNotNull(state.getAttemptId());
     }
@@ -83,9 +121,9 @@ class ExamControllerIntegrationTest {
                 .andExpect(status().is3xxRedirection())
                 .andReturn();
 
-        MockHttpSession session = (MockHttpSession) start.getRequest().getSession(false);
+        String session = sessions.idOf(start);
 
-        mockMvc.perform(get("/exam").session(session))
+        mockMvc.perform(get("/exam").with(sessions.session(session)))
                 .andExpect(status().isOk())
                 .andExpect(view().name("exam"))
                 .andExpect(model().attributeExists("examExercises"))
@@ -108,9 +146,9 @@ class ExamControllerIntegrationTest {
                 .andExpect(status().is3xxRedirection())
                 .andReturn();
 
-        MockHttpSession session = (MockHttpSession) start.getRequest().getSession(false);
+        String session = sessions.idOf(start);
 
-        mockMvc.perform(get("/dashboard").session(session))
+        mockMvc.perform(get("/dashboard").with(sessions.session(session)))
                 .andExpect(status().isOk())
                 .andExpect(view().name("dashboard"))
                 .andExpect(model().attribute("hasActiveExamAttempt", true))
@@ -127,22 +165,22 @@ class ExamControllerIntegrationTest {
                 .andExpect(status().is3xxRedirection())
                 .andReturn();
 
-        MockHttpSession session = (MockHttpSession) start.getRequest().getSession(false);
-        ExamSessionState initialState = (ExamSessionState) session.getAttribute(ExamController.EXAM_SESSION_KEY);
+        String session = sessions.idOf(start);
+        ExamSessionState initialState = attemptOf(session, "examuser");
         List<Long> initialIds = new ArrayList<>(initialState.getSelectedExerciseIds());
         String initialAttemptId = initialState.getAttemptId();
 
-        mockMvc.perform(get("/exam").session(session))
+        mockMvc.perform(get("/exam").with(sessions.session(session)))
                 .andExpect(status().isOk());
 
-        ExamSessionState afterFirstLoad = (ExamSessionState) session.getAttribute(ExamController.EXAM_SESSION_KEY);
+        ExamSessionState afterFirstLoad = attemptOf(session, "examuser");
         assertEquals(initialIds, afterFirstLoad.getSelectedExerciseIds());
         assertEquals(initialAttemptId, afterFirstLoad.getAttemptId());
 
-        mockMvc.perform(get("/exam").session(session))
+        mockMvc.perform(get("/exam").with(sessions.session(session)))
                 .andExpect(status().isOk());
 
-        ExamSessionState afterSecondLoad = (ExamSessionState) session.getAttribute(ExamController.EXAM_SESSION_KEY);
+        ExamSessionState afterSecondLoad = attemptOf(session, "examuser");
         assertEquals(initialIds, afterSecondLoad.getSelectedExerciseIds());
         assertEquals(initialAttemptId, afterSecondLoad.getAttemptId());
     }
@@ -154,15 +192,15 @@ class ExamControllerIntegrationTest {
                 .andExpect(status().is3xxRedirection())
                 .andReturn();
 
-        MockHttpSession session = (MockHttpSession) firstStart.getRequest().getSession(false);
-        ExamSessionState firstState = (ExamSessionState) session.getAttribute(ExamController.EXAM_SESSION_KEY);
+        String session = sessions.idOf(firstStart);
+        ExamSessionState firstState = attemptOf(session, "examuser");
         String firstAttemptId = firstState.getAttemptId();
 
-        mockMvc.perform(get("/exam/start").session(session))
+        mockMvc.perform(get("/exam/start").with(sessions.session(session)))
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl("/exam"));
 
-        ExamSessionState secondState = (ExamSessionState) session.getAttribute(ExamController.EXAM_SESSION_KEY);
+        ExamSessionState secondState = attemptOf(session, "examuser");
         assertNotNull(secondState.getAttemptId());
         assertNotEquals(firstAttemptId, secondState.getAttemptId());
     }
@@ -170,18 +208,17 @@ class ExamControllerIntegrationTest {
     @Test
     @WithMockUser(username = "examuser")
     void exam_withInvalidSelectedIds_doesNotReshuffleAndShowsError() throws Exception {
-        ExamSessionState brokenState = new ExamSessionState(List.of(999999L));
-        MockHttpSession session = new MockHttpSession();
-        session.setAttribute(ExamController.EXAM_SESSION_KEY, brokenState);
+        String session = sessionWithAttempt("examuser", List.of(999999L));
+        String brokenAttemptId = (String) sessions.attribute(session, ExamController.EXAM_SESSION_KEY);
 
-        mockMvc.perform(get("/exam").session(session))
+        mockMvc.perform(get("/exam").with(sessions.session(session)))
                 .andExpect(status().isOk())
                 .andExpect(view().name("exam"))
                 .andExpect(model().attributeExists("examError"))
-                .andExpect(model().attribute("examAttemptId", brokenState.getAttemptId()));
+                .andExpect(model().attribute("examAttemptId", brokenAttemptId));
 
-        ExamSessionState stateAfter = (ExamSessionState) session.getAttribute(ExamController.EXAM_SESSION_KEY);
-        assertEquals(brokenState.getAttemptId(), stateAfter.getAttemptId());
+        ExamSessionState stateAfter = attemptOf(session, "examuser");
+        assertEquals(brokenAttemptId, stateAfter.getAttemptId());
         assertEquals(List.of(999999L), stateAfter.getSelectedExerciseIds());
     }
 
@@ -192,21 +229,54 @@ class ExamControllerIntegrationTest {
                 .andExpect(status().is3xxRedirection())
                 .andReturn();
 
-        MockHttpSession session = (MockHttpSession) start.getRequest().getSession(false);
-        ExamSessionState state = (ExamSessionState) session.getAttribute(ExamController.EXAM_SESSION_KEY);
+        String session = sessions.idOf(start);
+        ExamSessionState state = attemptOf(session, "examuser");
         Long selectedId = state.getSelectedExerciseIds().get(0);
 
-        mockMvc.perform(post("/exam/{exerciseId}/complete", selectedId).session(session))
+        mockMvc.perform(post("/exam/{exerciseId}/complete", selectedId).with(sessions.session(session)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status").value("success"))
                 .andExpect(jsonPath("$.completedCount").value(1))
                 .andExpect(jsonPath("$.totalCount").value(3))
                 .andExpect(jsonPath("$.canRevealSolutions").value(false));
 
-        ExamSessionState updatedState = (ExamSessionState) session.getAttribute(ExamController.EXAM_SESSION_KEY);
+        ExamSessionState updatedState = attemptOf(session, "examuser");
         assertTrue(updatedState.getCompletedExerciseIds().contains(selectedId));
     }
 
+    @Test
+    @WithMockUser(username = "examuser")
+    void examComplete_isWrittenInBatchWhenBufferFlushes() throws Exception {
+        MvcResult start = mockMvc.perform(get("/exam/start"))
+                .andExpect(status().is3xxRedirection())
+                .andReturn();
+
+        String session = sessions.idOf(start);
+        ExamSessionState state = attemptOf(session, "examuser");
+        for (Long id : state.getSelectedExerciseIds()) {
+            // Doppelte Meldungen werden im Puffer zusammengefasst
+            mockMvc.perform(post("/exam/{exerciseId}/complete", id).with(sessions.session(session))).andExpect(status().isOk());
+            mockMvc.perform(post("/exam/{exerciseId}/complete", id).with(sessions.session(session))).andExpect(status().isOk());
+        }
+        assertEquals(0, countPersistedCompletions(state.getAttemptId()));
+
+        entityManager.flush();
+        completionBuffer.flush();
+
+        assertEquals(3, countPersistedCompletions(state.getAttemptId()));
+        assertTrue(completionBuffer.pendingFor(state.getAttemptId()).isEmpty());
+    }
+
+    @Test
+    @WithMockUser(username = "mallory")
+    void exam_ignoresAttemptOfAnotherUser() throws Exception {
+        String session = sessionWithAttempt("examuser", List.of(999999L));
+
+        mockMvc.perform(get("/exam").with(sessions.session(session)))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/exam/start"));
+    }
+
     @Test
     @WithMockUser(username = "examuser")
     void examComplete_rejectsNonSelectedExerciseId() throws Exception {
@@ -214,9 +284,9 @@ class ExamControllerIntegrationTest {
                 .andExpect(status().is3xxRedirection())
                 .andReturn();
 
-        MockHttpSession session = (MockHttpSession) start.getRequest().getSession(false);
+        String session = sessions.idOf(start);
 
-        mockMvc.perform(post("/exam/{exerciseId}/complete", 999999L).session(session))
+        mockMvc.perform(post("/exam/{exerciseId}/complete", 999999L).with(sessions.session(session)))
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.status").value("error"));
     }
@@ -228,16 +298,16 @@ class ExamControllerIntegrationTest {
                 .andExpect(status().is3xxRedirection())
                 .andReturn();
 
-        MockHttpSession session = (MockHttpSession) start.getRequest().getSession(false);
-        ExamSessionState state = (ExamSessionState) session.getAttribute(ExamController.EXAM_SESSION_KEY);
+        String session = sessions.idOf(start);
+        ExamSessionState state = attemptOf(session, "examuser");
 
         for (Long id : state.getSelectedExerciseIds()) {
-            mockMvc.perform(post("/exam/{exerciseId}/complete", id).session(session))
+            mockMvc.perform(post("/exam/{exerciseId}/complete", id).with(sessions.session(session)))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.status").value("success"));
         }
 
-        mockMvc.perform(get("/exam").session(session))
+        mockMvc.perform(get("/exam").with(sessions.session(session)))
                 .andExpect(status().isOk())
                 .andExpect(model().attribute("examCompletedCount", 3))
                 .andExpect(model().attribute("examTotalCount", 3))
@@ -264,10 +334,9 @@ class ExamControllerIntegrationTest {
         createUserIfMissing("bob");
         Exercise exercise = createExerciseForNewLesson("regression-exam-complete");
 
-        MockHttpSession session = new MockHttpSession();
-        session.setAttribute(ExamController.EXAM_SESSION_KEY, new ExamSessionState(List.of(exercise.getId())));
+        String session = sessionWithAttempt("bob", List.of(exercise.getId()));
 
-        mockMvc.perform(post("/exam/{exerciseId}/complete", exercise.getId()).session(session))
+        mockMvc.perform(post("/exam/{exerciseId}/complete", exercise.getId()).with(sessions.session(session)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status").value("success"));
 
@@ -275,6 +344,24 @@ class ExamControllerIntegrationTest {
         assertTrue(updated.getCompletedExercises().isEmpty());
     }
 
+    private ExamSessionState attemptOf(String session, String username) {
+        String attemptId = (String) sessions.attribute(session, ExamController.EXAM_SESSION_KEY);
+        assertNotNull(attemptId);
+        return examAttemptService.findAttempt(attemptId, username).orElseThrow();
+    }
+
+    private String sessionWithAttempt(String username, List<Long> exerciseIds) {
+        ExamAttempt attempt = examAttemptRepository.save(
+                new ExamAttempt(UUID.randomUUID().toString(), username, Instant.now(), exerciseIds));
+        return sessions.create(Map.of(ExamController.EXAM_SESSION_KEY, attempt.getId()));
+    }
+
+    private int countPersistedCompletions(String attemptId) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM exam_attempt_completions WHERE attempt_id = ?", Integer.class, attemptId);
+        return count != null ? count : 0;
+    }
+
     private void createUserIfMissing(String username) {
         if (userRepository.findByUsername(username).isPresent()) {
             return;
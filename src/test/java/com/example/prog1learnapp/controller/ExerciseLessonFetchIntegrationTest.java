@@ -0,0 +1,169 @@
+package com.example.prog1learnapp.controller;
+
+import com.example.prog1learnapp.model.Exercise;
+import com.example.prog1learnapp.model.Lesson;
+import com.example.prog1learnapp.model.User;
+import com.example.prog1learnapp.repository.ExerciseRepository;
+import com.example.prog1learnapp.repository.LessonRepository;
+import com.example.prog1learnapp.repository.UserRepository;
+import com.example.prog1learnapp.service.CatalogCache;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Prüft über die Hibernate-Statistik, dass die Lektion einer Übung nirgends nachgeladen wird.
+ * Die Testdaten liegen nicht im Katalog-Snapshot, die Endpunkte laufen also über die Repositories.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class ExerciseLessonFetchIntegrationTest {
+
+    private static final AtomicLong LESSON_ID_SEQ = new AtomicLong(8400L);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LessonRepository lessonRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private CatalogCache catalogCache;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void enableStatistics() {
+        // Snapshot vor dem Anlegen der Testdaten laden; danach liest die Testtransaktion an ihm vorbei
+        catalogCache.snapshot();
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    @WithMockUser(username = "fetchplanuser")
+    void exercisePage_onCacheMiss_usesLessonProxy() throws Exception {
+        createUserIfMissing("fetchplanuser");
+        Lesson lesson = createLesson("exercise-page");
+        Exercise first = createExercise(lesson, "first", 1);
+        createExercise(lesson, "second", 2);
+        startCleanPersistenceContext();
+
+        mockMvc.perform(get("/exercise/{id}", first.getId()))
+                .andExpect(status().isOk());
+
+        assertEquals(0, lessonLoads());
+    }
+
+    @Test
+    @WithMockUser(username = "fetchplanuser")
+    void exerciseComplete_onCacheMiss_doesNotLoadLesson() throws Exception {
+        createUserIfMissing("fetchplanuser");
+        Exercise exercise = createExercise(createLesson("complete"), "complete", 1);
+        startCleanPersistenceContext();
+
+        mockMvc.perform(post("/exercise/{id}/complete", exercise.getId()))
+                .andExpect(status().isOk());
+
+        assertEquals(0, lessonLoads());
+        assertEquals(0, statistics.getEntityFetchCount());
+    }
+
+    @Test
+    @WithMockUser(username = "fetchplanuser")
+    void lessonPage_onCacheMiss_loadsNoEntities() throws Exception {
+        createUserIfMissing("fetchplanuser");
+        Lesson lesson = createLesson("lesson-page");
+        createExercise(lesson, "first", 1);
+        createExercise(lesson, "second", 2);
+        startCleanPersistenceContext();
+
+        mockMvc.perform(get("/lesson/{id}", lesson.getId()))
+                .andExpect(status().isOk());
+
+        assertEquals(0, lessonLoads());
+        assertEquals(0, statistics.getEntityStatistics(Exercise.class.getName()).getLoadCount());
+    }
+
+    @Test
+    void catalogReload_issuesOneQueryPerTable() {
+        startCleanPersistenceContext();
+
+        catalogCache.reload();
+
+        // Lektionen, Übungen, Code-Spalten – unabhängig von der Anzahl der Lektionen
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityFetchCount());
+    }
+
+    private long lessonLoads() {
+        return statistics.getEntityStatistics(Lesson.class.getName()).getLoadCount();
+    }
+
+    private void startCleanPersistenceContext() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private void createUserIfMissing(String username) {
+        if (userRepository.findByUsername(username).isPresent()) {
+            return;
+        }
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword(passwordEncoder.encode("password"));
+        user.setDisplayName(username);
+        userRepository.save(user);
+    }
+
+    private Lesson createLesson(String suffix) {
+        Lesson lesson = new Lesson();
+        lesson.setId(LESSON_ID_SEQ.incrementAndGet());
+        lesson.setTitle("Fetch Lesson " + suffix);
+        lesson.setShortDescription("Short " + suffix);
+        lesson.setContent("Content " + suffix);
+        return lessonRepository.save(lesson);
+    }
+
+    private Exercise createExercise(Lesson lesson, String suffix, int position) {
+        Exercise exercise = new Exercise();
+        exercise.setTitle("Fetch Exercise " + suffix);
+        exercise.setDescription("Description " + suffix);
+        exercise.setStarterCode("class Main {}");
+        exercise.setSolution("class Main {}");
+        exercise.setDifficulty("EASY");
+        exercise.setPosition(position);
+        exercise.setLesson(lesson);
+        return exerciseRepository.save(exercise);
+    }
+}
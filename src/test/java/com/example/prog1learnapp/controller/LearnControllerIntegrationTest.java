@@ -0,0 +1,164 @@
+package com.example.prog1learnapp.controller;
+
+import com.example.prog1learnapp.config.AuthenticatedUser;
+import com.example.prog1learnapp.model.Exercise;
+import com.example.prog1learnapp.model.Lesson;
+import com.example.prog1learnapp.model.User;
+import com.example.prog1learnapp.repository.ExerciseRepository;
+import com.example.prog1learnapp.repository.LessonRepository;
+import com.example.prog1learnapp.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class LearnControllerIntegrationTest {
+
+    private static final AtomicLong LESSON_ID_SEQ = new AtomicLong(6000L);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LessonRepository lessonRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    @WithMockUser(username = "progressuser")
+    void dashboard_reportsPerLessonProgressFromGroupedCounts() throws Exception {
+        createUserIfMissing("progressuser");
+        Lesson lesson = createLesson("dashboard-progress");
+        Exercise first = createExercise(lesson, "first");
+        createExercise(lesson, "second");
+
+        mockMvc.perform(post("/exercise/{id}/complete", first.getId()))
+                .andExpect(status().isOk());
+
+        MvcResult result = mockMvc.perform(get("/dashboard"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("dashboard"))
+                .andReturn();
+
+        Map<?, ?> lessonProgress = (Map<?, ?>) result.getModelAndView().getModel().get("lessonProgress");
+        assertEquals(50, lessonProgress.get(lesson.getId()));
+        assertEquals(1, result.getModelAndView().getModel().get("completedCount"));
+    }
+
+    @Test
+    @WithMockUser(username = "repeatuser")
+    void exerciseComplete_isIdempotentSingleRowWrite() throws Exception {
+        createUserIfMissing("repeatuser");
+        Exercise exercise = createExercise(createLesson("repeat-complete"), "repeat");
+
+        mockMvc.perform(post("/exercise/{id}/complete", exercise.getId()))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/exercise/{id}/complete", exercise.getId()))
+                .andExpect(status().isOk());
+
+        User user = userRepository.findByUsername("repeatuser").orElseThrow();
+        assertTrue(userRepository.existsCompletion(user.getId(), exercise.getId()));
+        assertEquals(Set.of(exercise.getId()), user.getCompletedExercises());
+    }
+
+    @Test
+    @WithMockUser(username = "lessonuser")
+    void lesson_loadsOnlyCompletionsOfThatLesson() throws Exception {
+        createUserIfMissing("lessonuser");
+        Lesson lesson = createLesson("lesson-completions");
+        Exercise inLesson = createExercise(lesson, "in-lesson");
+        Exercise elsewhere = createExercise(createLesson("other-completions"), "elsewhere");
+
+        mockMvc.perform(post("/exercise/{id}/complete", inLesson.getId()))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/exercise/{id}/complete", elsewhere.getId()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/lesson/{id}", lesson.getId()))
+                .andExpect(status().isOk())
+                .andExpect(view().name("lesson"))
+                .andExpect(model().attribute("completedIds", Set.of(inLesson.getId())));
+    }
+
+    @Test
+    void dashboard_usesIdAndDisplayNameFromPrincipal() throws Exception {
+        createUserIfMissing("principaluser");
+        User stored = userRepository.findByUsername("principaluser").orElseThrow();
+        Exercise exercise = createExercise(createLesson("principal"), "principal");
+        AuthenticatedUser principal = new AuthenticatedUser(
+                stored.getId(), stored.getUsername(), "", "Anzeigename aus Sitzung",
+                AuthorityUtils.createAuthorityList("ROLE_USER"));
+
+        mockMvc.perform(post("/exercise/{id}/complete", exercise.getId()).with(user(principal)))
+                .andExpect(status().isOk());
+
+        MvcResult result = mockMvc.perform(get("/dashboard").with(user(principal)))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("user", principal))
+                .andReturn();
+
+        assertEquals("Anzeigename aus Sitzung",
+                ((AuthenticatedUser) result.getModelAndView().getModel().get("user")).getDisplayName());
+        assertTrue(userRepository.existsCompletion(stored.getId(), exercise.getId()));
+    }
+
+    private void createUserIfMissing(String username) {
+        if (userRepository.findByUsername(username).isPresent()) {
+            return;
+        }
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword(passwordEncoder.encode("password"));
+        user.setDisplayName(username);
+        userRepository.save(user);
+    }
+
+    private Lesson createLesson(String suffix) {
+        Lesson lesson = new Lesson();
+        lesson.setId(LESSON_ID_SEQ.incrementAndGet());
+        lesson.setTitle("Test Lesson " + suffix);
+        lesson.setShortDescription("Short " + suffix);
+        lesson.setContent("Content " + suffix);
+        return lessonRepository.save(lesson);
+    }
+
+    private Exercise createExercise(Lesson lesson, String suffix) {
+        Exercise exercise = new Exercise();
+        exercise.setTitle("Test Exercise " + suffix);
+        exercise.setDescription("Description " + suffix);
+        exercise.setStarterCode("class Main {}");
+        exercise.setSolution("class Main {}");
+        exercise.setDifficulty("EASY");
+        exercise.setLesson(lesson);
+        return exerciseRepository.save(exercise);
+    }
+}
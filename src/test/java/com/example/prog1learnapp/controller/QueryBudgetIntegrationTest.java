@@ -0,0 +1,228 @@
+package com.example.prog1learnapp.controller;
+
+import com.example.prog1learnapp.config.AuthenticatedUser;
+import com.example.prog1learnapp.config.QueryCounter;
+import com.example.prog1learnapp.config.QueryCountingConfig;
+import com.example.prog1learnapp.config.TestSessions;
+import com.example.prog1learnapp.model.ExamAttempt;
+import com.example.prog1learnapp.model.Exercise;
+import com.example.prog1learnapp.model.Lesson;
+import com.example.prog1learnapp.model.User;
+import com.example.prog1learnapp.repository.ExamAttemptRepository;
+import com.example.prog1learnapp.repository.UserRepository;
+import com.example.prog1learnapp.service.CatalogCache;
+import com.example.prog1learnapp.service.CatalogSnapshot;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Abfrage-Budgets je Endpunkt bei warmem Katalog-Snapshot und einem Principal aus der Anmeldung.
+ * Ein Test schlägt fehl, sobald eine Änderung mehr SQL-Anweisungen ausführt oder mehr Zeilen liest als
+ * vorgesehen. Budgets nur zusammen mit der Begründung im Kommentar anheben.
+ */
+// Der Write-Behind-Puffer für Exam-Abschlüsse schreibt während der Messung nicht
+@SpringBootTest(properties = "app.exam.completion-flush-interval=PT1H")
+@AutoConfigureMockMvc
+@Transactional
+@Import(QueryCountingConfig.class)
+class QueryBudgetIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryBudgetIntegrationTest.class);
+
+    private static final String USERNAME = "budgetuser";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExamAttemptRepository examAttemptRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private CatalogCache catalogCache;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private SessionRepository<? extends Session> sessionRepository;
+
+    private TestSessions sessions;
+    private AuthenticatedUser principal;
+    private CatalogSnapshot catalog;
+
+    @BeforeEach
+    void setUp() {
+        User stored = userRepository.findByUsername(USERNAME).orElseGet(() -> {
+            User user = new User();
+            user.setUsername(USERNAME);
+            user.setPassword(passwordEncoder.encode("password"));
+            user.setDisplayName(USERNAME);
+            return userRepository.save(user);
+        });
+        principal = new AuthenticatedUser(stored.getId(), stored.getUsername(), "", stored.getDisplayName(),
+                AuthorityUtils.createAuthorityList("ROLE_USER"));
+        sessions = new TestSessions(sessionRepository);
+        // Der Snapshot darf nicht erst während einer Messung geladen werden
+        catalog = catalogCache.snapshot();
+    }
+
+    @Test
+    void dashboard() throws Exception {
+        // Gruppierte Fortschrittsabfrage: eine Zeile je Lektion
+        assertWithinBudget("GET /dashboard", 1, catalog.getLessons().size(),
+                () -> mockMvc.perform(get("/dashboard").with(user(principal)))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    void lesson() throws Exception {
+        Lesson lesson = seededLesson();
+
+        // Erledigte Übungen der Lektion; Kopf und Übungsliste kommen aus dem Snapshot
+        assertWithinBudget("GET /lesson/{id}", 1, catalog.getExercisesByLesson(lesson.getId()).size(),
+                () -> mockMvc.perform(get("/lesson/{id}", lesson.getId()).with(user(principal)))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    void exercise() throws Exception {
+        Exercise exercise = seededExercises(1).get(0);
+
+        // Erledigt-Status als COUNT; Übung, Code und Navigation kommen aus dem Snapshot
+        assertWithinBudget("GET /exercise/{id}", 1, 1,
+                () -> mockMvc.perform(get("/exercise/{id}", exercise.getId()).with(user(principal)))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    void exerciseComplete() throws Exception {
+        Exercise exercise = seededExercises(1).get(0);
+
+        // Ein INSERT ... WHERE NOT EXISTS, ohne die Abschlüsse des Benutzers zu laden
+        assertWithinBudget("POST /exercise/{id}/complete", 1, 0,
+                () -> mockMvc.perform(post("/exercise/{id}/complete", exercise.getId())
+                                .with(user(principal)).with(csrf()))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    void examStart() throws Exception {
+        // Neuer Versuch wird ohne vorherigen Lookup eingefügt (ExamAttempt ist Persistable):
+        // eine Zeile für den Versuch und eine je gezogener Aufgabe (3)
+        assertWithinBudget("GET /exam/start", 4, 0,
+                () -> mockMvc.perform(get("/exam/start").with(user(principal)))
+                        .andExpect(status().is3xxRedirection()));
+    }
+
+    @Test
+    void exam() throws Exception {
+        String session = sessionWithAttempt(seededExercises(3));
+
+        // Versuch plus Auswahl und Abschlüsse (3 Anweisungen, 1 + 3 Zeilen); Aufgaben aus dem Snapshot
+        assertWithinBudget("GET /exam", 3, 4,
+                () -> mockMvc.perform(get("/exam").with(user(principal)).with(sessions.session(session)))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    void examComplete() throws Exception {
+        List<Exercise> selected = seededExercises(3);
+        String session = sessionWithAttempt(selected);
+
+        // Versuch laden wie bei GET /exam; der Abschluss selbst geht in den Write-Behind-Puffer
+        assertWithinBudget("POST /exam/{id}/complete", 3, 4,
+                () -> mockMvc.perform(post("/exam/{exerciseId}/complete", selected.get(0).getId())
+                                .with(user(principal)).with(csrf()).with(sessions.session(session)))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    void feedbackForm() throws Exception {
+        assertWithinBudget("GET /feedback", 0, 0,
+                () -> mockMvc.perform(get("/feedback").with(user(principal)))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    void feedbackSubmit() throws Exception {
+        // Ein INSERT; die erzeugte ID kann je nach Dialekt als Ergebniszeile zurückkommen
+        assertWithinBudget("POST /feedback", 1, 1,
+                () -> mockMvc.perform(post("/feedback").with(user(principal)).with(csrf())
+                                .param("text", "Budget")
+                                .param("rating", "4")
+                                .param("studyProgram", "AINF"))
+                        .andExpect(status().is3xxRedirection()));
+    }
+
+    private void assertWithinBudget(String endpoint, int maxStatements, int maxRows,
+                                    QueryCounter.Action request) throws Exception {
+        // Wie eine neue Anfrage: nichts Ausstehendes, leerer Persistenzkontext
+        entityManager.flush();
+        entityManager.clear();
+
+        QueryCounter.Result result = QueryCounter.measure(() -> {
+            request.run();
+            // Schreibzugriffe, die sonst erst beim Commit ausgeführt würden, dem Endpunkt zurechnen
+            entityManager.flush();
+        });
+        log.info("{}: {} statements (budget {}), {} rows (budget {})",
+                endpoint, result.statements(), maxStatements, result.rows(), maxRows);
+
+        assertTrue(result.statements() <= maxStatements,
+                endpoint + " fuehrt " + result.statements() + " Anweisungen aus, Budget " + maxStatements);
+        assertTrue(result.rows() <= maxRows,
+                endpoint + " liest " + result.rows() + " Zeilen, Budget " + maxRows);
+    }
+
+    private Lesson seededLesson() {
+        return catalog.getLessons().stream()
+                .filter(lesson -> !catalog.getExercisesByLesson(lesson.getId()).isEmpty())
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private List<Exercise> seededExercises(int count) {
+        List<Exercise> exercises = new ArrayList<>(catalog.getExercises());
+        assertTrue(exercises.size() >= count, "Katalog enthaelt zu wenige Aufgaben");
+        return exercises.subList(0, count);
+    }
+
+    private String sessionWithAttempt(List<Exercise> exercises) {
+        List<Long> ids = exercises.stream().map(Exercise::getId).toList();
+        ExamAttempt attempt = examAttemptRepository.save(
+                new ExamAttempt(UUID.randomUUID().toString(), USERNAME, Instant.now(), ids));
+        return sessions.create(Map.of(ExamController.EXAM_SESSION_KEY, attempt.getId()));
+    }
+}
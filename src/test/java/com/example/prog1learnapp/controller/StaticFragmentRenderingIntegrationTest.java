@@ -0,0 +1,127 @@
+package com.example.prog1learnapp.controller;
+
+import com.example.prog1learnapp.model.Exercise;
+import com.example.prog1learnapp.model.Lesson;
+import com.example.prog1learnapp.model.User;
+import com.example.prog1learnapp.repository.ExerciseRepository;
+import com.example.prog1learnapp.repository.LessonRepository;
+import com.example.prog1learnapp.repository.UserRepository;
+import com.example.prog1learnapp.service.RenderMetrics;
+import com.example.prog1learnapp.service.StaticFragmentCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class StaticFragmentRenderingIntegrationTest {
+
+    private static final AtomicLong LESSON_ID_SEQ = new AtomicLong(8200L);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LessonRepository lessonRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private StaticFragmentCache staticFragmentCache;
+
+    @Autowired
+    private RenderMetrics renderMetrics;
+
+    @Test
+    @WithMockUser(username = "fragmentrenderuser")
+    void exercisePage_rendersStaticPartsOnceAndEscapesCode() throws Exception {
+        createUserIfMissing("fragmentrenderuser");
+        Exercise exercise = createExercise(createLesson());
+
+        mockMvc.perform(get("/exercise/{id}", exercise.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("<h1>Vergleiche &amp; Schleifen</h1>")))
+                .andExpect(content().string(containsString("if (a &lt; b) {}")))
+                .andExpect(content().string(containsString("badge-medium")));
+        long rendersAfterFirstView = staticFragmentCache.getRenderCount();
+
+        mockMvc.perform(get("/exercise/{id}", exercise.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("if (a &lt; b) {}")));
+
+        assertEquals(rendersAfterFirstView, staticFragmentCache.getRenderCount());
+        assertTrue(((Number) renderMetrics.snapshot().get("exercise").get("count")).longValue() >= 2);
+    }
+
+    @Test
+    @WithMockUser(username = "fragmentrenderuser")
+    void lessonPage_usesCachedHeaderAndExerciseCards() throws Exception {
+        createUserIfMissing("fragmentrenderuser");
+        Lesson lesson = createLesson();
+        createExercise(lesson);
+
+        mockMvc.perform(get("/lesson/{id}", lesson.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("<p class=\"lesson-desc\">Kurz &amp; knapp</p>")))
+                .andExpect(content().string(containsString("<h3>Vergleiche &amp; Schleifen</h3>")));
+    }
+
+    @Test
+    @WithMockUser(username = "renderadmin", roles = "ADMIN")
+    void renderStats_listsViews() throws Exception {
+        mockMvc.perform(get("/admin/render/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.views").isMap())
+                .andExpect(jsonPath("$.fragmentRenders").isNumber());
+    }
+
+    private void createUserIfMissing(String username) {
+        if (userRepository.findByUsername(username).isPresent()) {
+            return;
+        }
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword(passwordEncoder.encode("password"));
+        user.setDisplayName(username);
+        userRepository.save(user);
+    }
+
+    private Lesson createLesson() {
+        Lesson lesson = new Lesson(LESSON_ID_SEQ.incrementAndGet(), "Fragment Lesson", "Kurz & knapp", "<p>Inhalt</p>");
+        return lessonRepository.save(lesson);
+    }
+
+    private Exercise createExercise(Lesson lesson) {
+        Exercise exercise = new Exercise();
+        exercise.setTitle("Vergleiche & Schleifen");
+        exercise.setDescription("Beschreibung");
+        exercise.setStarterCode("class Main { void m(int a, int b) { if (a < b) {} } }");
+        exercise.setSolution("class Main {}");
+        exercise.setDifficulty("MEDIUM");
+        exercise.setLesson(lesson);
+        return exerciseRepository.save(exercise);
+    }
+}
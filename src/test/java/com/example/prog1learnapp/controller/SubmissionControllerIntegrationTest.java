@@ -0,0 +1,208 @@
+package com.example.prog1learnapp.controller;
+
+import com.example.prog1learnapp.config.AuthenticatedUser;
+import com.example.prog1learnapp.model.Exercise;
+import com.example.prog1learnapp.model.Lesson;
+import com.example.prog1learnapp.model.User;
+import com.example.prog1learnapp.repository.ExerciseRepository;
+import com.example.prog1learnapp.repository.LessonRepository;
+import com.example.prog1learnapp.repository.UserRepository;
+import com.example.prog1learnapp.service.submission.ReferenceOutputCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Nicht @Transactional: Abgaben laufen auf Worker-Threads und müssen Benutzer und Aufgabe sehen
+@SpringBootTest(properties = {
+        "app.submission.per-user-limit=1",
+        "app.submission.time-limit=PT1S",
+        "app.submission.warm-up=false"
+})
+@AutoConfigureMockMvc
+class SubmissionControllerIntegrationTest {
+
+    private static final AtomicLong LESSON_ID_SEQ = new AtomicLong(7000L);
+
+    private static final String HELLO =
+            "public class Main { public static void main(String[] a) { System.out.println(\"Hallo\"); } }";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LessonRepository lessonRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private ReferenceOutputCache referenceOutputCache;
+
+    @Test
+    void submit_gradesAsynchronouslyAndRecordsCompletion() throws Exception {
+        AuthenticatedUser principal = createUser();
+        Exercise exercise = createExercise(HELLO);
+        // Wie nach dem Warm-up: auf dem Bewertungspfad läuft die Musterlösung nie
+        referenceOutputCache.precompute(List.of(exercise));
+
+        String submissionId = submit(exercise, HELLO, principal);
+        JsonNode result = awaitResult(submissionId, principal);
+
+        assertEquals("ACCEPTED", result.get("verdict").asText());
+        assertEquals("Hallo", result.get("output").asText().strip());
+        assertTrue(userRepository.existsCompletion(principal.getId(), exercise.getId()));
+    }
+
+    @Test
+    void submit_returns429WithRetryAfterWhenUserLimitIsReached() throws Exception {
+        AuthenticatedUser principal = createUser();
+        Exercise exercise = createExercise(HELLO);
+        referenceOutputCache.precompute(List.of(exercise));
+        String endless = "public class Main { public static void main(String[] a) { while (true) { } } }";
+
+        String first = submit(exercise, endless, principal);
+        mockMvc.perform(post("/exercise/{id}/submit", exercise.getId()).with(user(principal)).with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(HELLO)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.status").value("error"));
+
+        assertEquals("TIME_LIMIT", awaitResult(first, principal).get("verdict").asText());
+        assertFalse(userRepository.existsCompletion(principal.getId(), exercise.getId()));
+    }
+
+    @Test
+    void poll_hidesSubmissionsOfOtherUsers() throws Exception {
+        AuthenticatedUser owner = createUser();
+        AuthenticatedUser other = createUser();
+        String submissionId = submit(createExercise(HELLO), HELLO, owner);
+
+        mockMvc.perform(get("/submission/{id}", submissionId).with(user(other)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void submit_rejectsEmptySourceWithoutQueueing() throws Exception {
+        AuthenticatedUser principal = createUser();
+
+        mockMvc.perform(post("/exercise/{id}/submit", createExercise(HELLO).getId()).with(user(principal)).with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json("  ")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void submit_requiresCsrfToken() throws Exception {
+        AuthenticatedUser principal = createUser();
+
+        mockMvc.perform(post("/exercise/{id}/submit", createExercise(HELLO).getId()).with(user(principal))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(HELLO)))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void submit_gradesWithoutClientSuppliedStdin() throws Exception {
+        AuthenticatedUser principal = createUser();
+        Exercise exercise = createExercise(HELLO);
+        referenceOutputCache.precompute(List.of(exercise));
+        // Gibt nur die eigene Eingabe aus; mit "Hallo" als stdin wäre das die erwartete Ausgabe
+        String echo = "public class Main { public static void main(String[] a) { "
+                + "System.out.println(new java.util.Scanner(System.in).nextLine()); } }";
+
+        String response = mockMvc.perform(post("/exercise/{id}/submit", exercise.getId()).with(user(principal)).with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("source", echo, "stdin", "Hallo\n"))))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode result = awaitResult(objectMapper.readTree(response).get("submissionId").asText(), principal);
+
+        assertEquals("RUNTIME_ERROR", result.get("verdict").asText());
+        assertFalse(userRepository.existsCompletion(principal.getId(), exercise.getId()));
+    }
+
+    private String submit(Exercise exercise, String source, AuthenticatedUser principal) throws Exception {
+        String response = mockMvc.perform(post("/exercise/{id}/submit", exercise.getId()).with(user(principal)).with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(source)))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("submissionId").asText();
+    }
+
+    private JsonNode awaitResult(String submissionId, AuthenticatedUser principal) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (System.nanoTime() < deadline) {
+            String response = mockMvc.perform(get("/submission/{id}", submissionId).with(user(principal)))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode body = objectMapper.readTree(response);
+            if ("DONE".equals(body.get("state").asText())) {
+                return body;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("Abgabe " + submissionId + " wurde nicht rechtzeitig bewertet");
+    }
+
+    private String json(String source) throws Exception {
+        return objectMapper.writeValueAsString(Map.of("source", source));
+    }
+
+    private AuthenticatedUser createUser() {
+        User user = new User();
+        user.setUsername("submit-" + UUID.randomUUID());
+        user.setPassword("unused");
+        user.setDisplayName(user.getUsername());
+        User stored = userRepository.save(user);
+        return new AuthenticatedUser(stored.getId(), stored.getUsername(), "", stored.getDisplayName(),
+                AuthorityUtils.createAuthorityList("ROLE_USER"));
+    }
+
+    private Exercise createExercise(String solution) {
+        Lesson lesson = new Lesson();
+        lesson.setId(LESSON_ID_SEQ.incrementAndGet());
+        lesson.setTitle("Submission Lesson " + lesson.getId());
+        lesson.setShortDescription("Short");
+        lesson.setContent("Content");
+        Exercise exercise = new Exercise();
+        exercise.setTitle("Submission Exercise");
+        exercise.setDescription("Description");
+        exercise.setStarterCode("public class Main {}");
+        exercise.setSolution(solution);
+        exercise.setDifficulty("EASY");
+        exercise.setLesson(lessonRepository.save(lesson));
+        return exerciseRepository.save(exercise);
+    }
+}
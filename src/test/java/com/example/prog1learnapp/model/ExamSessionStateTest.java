@@ -0,0 +1,133 @@
+package com.example.prog1learnapp.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExamSessionStateTest {
+
+    @Test
+    void roundTrip_keepsAllFields() throws Exception {
+        ExamSessionState state = new ExamSessionState(List.of(41L, 7L, 1234L));
+        state.setCreatedAt(Instant.parse("2026-02-01T10:00:00.123456789Z"));
+        state.markCompleted(1234L);
+        state.markCompleted(41L);
+
+        ExamSessionState copy = (ExamSessionState) deserialize(serialize(state));
+
+        assertEquals(state.getAttemptId(), copy.getAttemptId());
+        assertEquals(List.of(41L, 7L, 1234L), copy.getSelectedExerciseIds());
+        assertEquals(Set.of(41L, 1234L), copy.getCompletedExerciseIds());
+        assertEquals(state.getCreatedAt(), copy.getCreatedAt());
+    }
+
+    @Test
+    void completionMask_coversSelectionsLargerThanOneWord() throws Exception {
+        List<Long> ids = LongStream.rangeClosed(1, 70).boxed().toList();
+        ExamSessionState state = new ExamSessionState(ids);
+        state.markCompleted(1L);
+        state.markCompleted(64L);
+        state.markCompleted(70L);
+        state.markCompleted(999L);
+
+        ExamSessionState copy = (ExamSessionState) deserialize(serialize(state));
+
+        assertEquals(Set.of(1L, 64L, 70L), copy.getCompletedExerciseIds());
+        assertFalse(copy.isExerciseSelected(999L));
+    }
+
+    /**
+     * Vergleicht die Größe mit der früheren Standard-Serialisierung (ArrayList, HashSet, UUID-String,
+     * Instant); die Dauer misst {@code ExamSessionStateBenchmark}.
+     */
+    @Test
+    void compactFormat_isSmallerThanDefaultSerialization() throws Exception {
+        ExamSessionState state = new ExamSessionState(List.of(101L, 202L, 303L));
+        state.markCompleted(202L);
+        LegacyExamSessionState legacy = new LegacyExamSessionState(state);
+
+        int compactSize = serialize(state).length;
+        int legacySize = serialize(legacy).length;
+
+        assertTrue(compactSize < legacySize / 2,
+                "compact=" + compactSize + " bytes, default=" + legacySize + " bytes");
+    }
+
+    @Test
+    void readExternal_rejectsSelectionSizeAboveMaximumBeforeAllocating() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeByte(1);
+            out.writeLong(1L);
+            out.writeLong(2L);
+            out.writeLong(0L);
+            out.writeInt(0);
+            out.writeInt(Integer.MAX_VALUE);
+        }
+
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            ExamSessionState state = new ExamSessionState();
+            InvalidObjectException ex = assertThrows(InvalidObjectException.class, () -> state.readExternal(in));
+            assertTrue(ex.getMessage().contains(String.valueOf(Integer.MAX_VALUE)));
+        }
+    }
+
+    @Test
+    void setSelectedExerciseIds_rejectsSelectionAboveMaximum() {
+        List<Long> ids = LongStream.rangeClosed(1, ExamSessionState.MAX_SELECTED_EXERCISES + 1).boxed().toList();
+
+        assertThrows(IllegalArgumentException.class, () -> new ExamSessionState(ids));
+    }
+
+    private byte[] serialize(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.toByteArray();
+    }
+
+    private Object deserialize(byte[] data) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(data))) {
+            return in.readObject();
+        }
+    }
+
+    /**
+     * Nachbildung des bisherigen Formats als Vergleichsgröße.
+     */
+    private static class LegacyExamSessionState implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String attemptId;
+        private final List<Long> selectedExerciseIds;
+        private final Set<Long> completedExerciseIds;
+        private final Instant createdAt;
+
+        LegacyExamSessionState(ExamSessionState state) {
+            this.attemptId = UUID.fromString(state.getAttemptId()).toString();
+            this.selectedExerciseIds = new ArrayList<>(state.getSelectedExerciseIds());
+            this.completedExerciseIds = new HashSet<>(state.getCompletedExerciseIds());
+            this.createdAt = state.getCreatedAt();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.prog1learnapp.service;
+
+import com.example.prog1learnapp.model.Exercise;
+import com.example.prog1learnapp.model.Lesson;
+import com.example.prog1learnapp.repository.ExerciseRepository;
+import com.example.prog1learnapp.repository.ExerciseSummary;
+import com.example.prog1learnapp.repository.LessonRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@Import(CatalogCache.class)
+class CatalogCacheTest {
+
+    @Autowired
+    private CatalogCache catalogCache;
+
+    @Autowired
+    private LessonRepository lessonRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @BeforeEach
+    void clean() {
+        exerciseRepository.deleteAll();
+        lessonRepository.deleteAll();
+    }
+
+    @Test
+    void reload_servesLessonsAndExercisesFromSnapshot() {
+        Lesson lesson = createLesson(1L);
+        Exercise first = createExercise(lesson, "first");
+        Exercise second = createExercise(lesson, "second");
+
+        CatalogSnapshot snapshot = catalogCache.reload();
+        long hitsBefore = catalogCache.getHitCount();
+
+        List<Exercise> exercises = catalogCache.findExercisesByLesson(1L);
+        assertEquals(List.of(first.getId(), second.getId()), exercises.stream().map(Exercise::getId).toList());
+        assertEquals(second.getId(), catalogCache.findNextExerciseId(exercises.get(0)));
+        assertNull(catalogCache.findNextExerciseId(exercises.get(1)));
+        assertNotSame(first, catalogCache.findExercise(first.getId()).orElseThrow());
+        assertEquals(hitsBefore + 4, catalogCache.getHitCount());
+        assertEquals(snapshot.getVersion(), catalogCache.getVersion());
+    }
+
+    @Test
+    void lessonPage_comesFromSnapshotOrFromOneProjectionQuery() {
+        Lesson lesson = createLesson(5L);
+        Exercise first = createExercise(lesson, "first");
+        Exercise second = createExercise(lesson, "second");
+        catalogCache.reload();
+
+        LessonPage cached = catalogCache.findLessonPage(5L).orElseThrow();
+        assertEquals("Lesson 5", cached.lesson().getTitle());
+        assertEquals(List.of(first.getId(), second.getId()),
+                cached.exercises().stream().map(ExerciseSummary::getId).toList());
+        assertEquals(second.getId(), cached.firstUnfinishedExerciseId(Set.of(first.getId())));
+        assertEquals("class Main {}", catalogCache.findExercise(first.getId()).orElseThrow().getSolution());
+
+        Exercise late = createExercise(createLesson(6L), "late");
+        LessonPage loaded = catalogCache.findLessonPage(6L).orElseThrow();
+        assertEquals("Desc 6", loaded.lesson().getShortDescription());
+        assertEquals(1, loaded.exercises().size());
+        assertEquals(late.getId(), loaded.exercises().get(0).getId());
+        assertEquals("Description late", loaded.exercises().get(0).getDescription());
+
+        createLesson(7L);
+        assertTrue(catalogCache.findLessonPage(7L).orElseThrow().exercises().isEmpty());
+        assertTrue(catalogCache.findLessonPage(999L).isEmpty());
+    }
+
+    @Test
+    void findExercise_fallsBackToRepositoryOnMiss() {
+        Lesson lesson = createLesson(2L);
+        catalogCache.reload();
+        Exercise late = createExercise(lesson, "late");
+        long missesBefore = catalogCache.getMissCount();
+
+        assertTrue(catalogCache.findExercise(late.getId()).isPresent());
+        assertEquals(missesBefore + 1, catalogCache.getMissCount());
+    }
+
+    @Test
+    void catalogWrite_bypassesSnapshotForKnownLessonsUntilReload() {
+        Lesson lesson = createLesson(8L);
+        Exercise first = createExercise(lesson, "first");
+        catalogCache.reload();
+        assertEquals(1, catalogCache.findExercisesByLesson(8L).size());
+
+        Exercise added = createExercise(lesson, "added");
+
+        assertEquals(List.of(first.getId(), added.getId()),
+                catalogCache.findExercisesByLesson(8L).stream().map(Exercise::getId).toList());
+        assertEquals(2, catalogCache.findLessonPage(8L).orElseThrow().exercises().size());
+        assertEquals(added.getId(), catalogCache.findNextExerciseId(first));
+        assertEquals(1, catalogCache.findAllLessons().size());
+
+        long hitsBefore = catalogCache.getHitCount();
+        catalogCache.reload();
+        assertEquals(2, catalogCache.findExercisesByLesson(8L).size());
+        assertEquals(hitsBefore + 1, catalogCache.getHitCount());
+    }
+
+    @Test
+    void reload_buildsContentFragmentsWithTheSnapshot() {
+        Lesson lesson = createLesson(9L);
+        Exercise exercise = createExercise(lesson, "fragment");
+        CatalogSnapshot snapshot = catalogCache.reload();
+
+        assertNotNull(snapshot.getLessonContent(9L));
+        assertNotNull(snapshot.getExerciseDescription(exercise.getId()));
+        assertSame(snapshot.getLessonContent(9L), catalogCache.findLessonContent(9L).orElseThrow());
+        assertSame(snapshot.getExerciseDescription(exercise.getId()),
+                catalogCache.findExerciseDescription(exercise.getId()).orElseThrow());
+        assertTrue(catalogCache.findLessonContent(999L).isEmpty());
+    }
+
+    @Test
+    void reload_swapsSnapshotWithNewVersion() {
+        createLesson(3L);
+        long firstVersion = catalogCache.reload().getVersion();
+        createLesson(4L);
+
+        CatalogSnapshot reloaded = catalogCache.reload();
+
+        assertEquals(firstVersion + 1, reloaded.getVersion());
+        assertEquals(2, reloaded.getLessons().size());
+    }
+
+    private Lesson createLesson(Long id) {
+        return lessonRepository.save(new Lesson(id, "Lesson " + id, "Desc " + id, "Content " + id));
+    }
+
+    private Exercise createExercise(Lesson lesson, String suffix) {
+        Exercise exercise = new Exercise();
+        exercise.setTitle("Exercise " + suffix);
+        exercise.setDescription("Description " + suffix);
+        exercise.setStarterCode("class Main {}");
+        exercise.setSolution("class Main {}");
+        exercise.setDifficulty("EASY");
+        exercise.setLesson(lesson);
+        return exerciseRepository.save(exercise);
+    }
+}
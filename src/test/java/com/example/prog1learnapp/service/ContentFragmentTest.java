@@ -0,0 +1,85 @@
+package com.example.prog1learnapp.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContentFragmentTest {
+
+    private static final String HTML = "<h3>Schleifen</h3>\n" + "<p>Eine for-Schleife wiederholt Anweisungen.</p>\n".repeat(40);
+
+    @Test
+    void select_prefersSmallestAcceptedEncodingAndRoundTrips() throws IOException {
+        ContentFragment fragment = ContentFragment.of(HTML);
+
+        ContentFragment.Representation gzip = fragment.select("gzip").orElseThrow();
+        ContentFragment.Representation deflate = fragment.select("deflate").orElseThrow();
+        ContentFragment.Representation identity = fragment.select(null).orElseThrow();
+
+        assertEquals(ContentFragment.GZIP, gzip.encoding());
+        assertEquals(ContentFragment.DEFLATE, deflate.encoding());
+        assertEquals(ContentFragment.IDENTITY, identity.encoding());
+        assertTrue(gzip.body().length < identity.body().length / 4, "gzip=" + gzip.body().length);
+        assertEquals(HTML, decode(new GZIPInputStream(new ByteArrayInputStream(gzip.body()))));
+        assertEquals(HTML, decode(new InflaterInputStream(new ByteArrayInputStream(deflate.body()))));
+        assertEquals(HTML, new String(identity.body(), StandardCharsets.UTF_8));
+        // deflate spart gegenüber gzip Kopf und Prüfsumme
+        assertEquals(ContentFragment.DEFLATE, fragment.select("gzip, deflate, br").orElseThrow().encoding());
+    }
+
+    @Test
+    void select_respectsZeroQuality() {
+        ContentFragment fragment = ContentFragment.of(HTML);
+
+        assertEquals(ContentFragment.GZIP, fragment.select("gzip, deflate;q=0").orElseThrow().encoding());
+        assertEquals(ContentFragment.IDENTITY, fragment.select("gzip;q=0, br").orElseThrow().encoding());
+        assertEquals(ContentFragment.IDENTITY, fragment.select("").orElseThrow().encoding());
+    }
+
+    @Test
+    void select_excludesIdentityOnlyWhenAskedTo() {
+        ContentFragment fragment = ContentFragment.of(HTML);
+        ContentFragment tiny = ContentFragment.of("<p>a</p>");
+
+        assertTrue(fragment.select("*;q=0").isEmpty());
+        assertTrue(fragment.select("identity;q=0").isEmpty());
+        assertTrue(fragment.select("br, identity;q=0").isEmpty());
+        assertEquals(ContentFragment.IDENTITY, fragment.select("*;q=0, identity").orElseThrow().encoding());
+        assertEquals(ContentFragment.GZIP, fragment.select("gzip, *;q=0").orElseThrow().encoding());
+        assertEquals(ContentFragment.DEFLATE, fragment.select("*, gzip;q=0").orElseThrow().encoding());
+        // ohne erlaubtes identity auch dann komprimiert, wenn das größer ist
+        assertEquals(ContentFragment.GZIP, tiny.select("gzip, identity;q=0").orElseThrow().encoding());
+        assertEquals(ContentFragment.IDENTITY, tiny.select("br").orElseThrow().encoding());
+    }
+
+    @Test
+    void etag_isStrongPerContentAndEncoding() {
+        ContentFragment fragment = ContentFragment.of(HTML);
+
+        String etag = fragment.select(null).orElseThrow().etag();
+        assertTrue(etag.startsWith("\"") && etag.endsWith("\""), etag);
+        assertEquals(etag, ContentFragment.of(HTML).select(null).orElseThrow().etag());
+        assertNotEquals(etag, fragment.select("gzip").orElseThrow().etag());
+        assertNotEquals(etag, ContentFragment.of(HTML + " ").select(null).orElseThrow().etag());
+    }
+
+    @Test
+    void tinyFragment_staysUncompressed() {
+        assertEquals(ContentFragment.IDENTITY, ContentFragment.of("<p>a</p>").select("gzip, deflate").orElseThrow().encoding());
+    }
+
+    private String decode(InputStream in) throws IOException {
+        try (in) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
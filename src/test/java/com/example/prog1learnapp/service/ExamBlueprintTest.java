@@ -0,0 +1,75 @@
+package com.example.prog1learnapp.service;
+
+import com.example.prog1learnapp.config.ExamConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExamBlueprintTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withUserConfiguration(ExamConfig.class);
+
+    @Test
+    void defaultBlueprint_startsWithThreeBands() {
+        runner.run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(context.getBean(ExamBlueprint.class).getExerciseCount()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    void configuredBlueprint_isBound() {
+        runner.withPropertyValues(
+                        "app.exam.blueprint.bands[0].label=3-5",
+                        "app.exam.blueprint.bands[0].lesson-ids=3,4,5",
+                        "app.exam.blueprint.bands[0].count=2",
+                        "app.exam.blueprint.bands[0].difficulty-quotas.MEDIUM=2",
+                        "app.exam.blueprint.bands[0].lesson-weights.5=2.0")
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+                    assertThat(context.getBean(ExamBlueprint.class).getExerciseCount()).isEqualTo(2);
+                });
+    }
+
+    @Test
+    void quotasAboveCount_failStartup() {
+        runner.withPropertyValues(
+                        "app.exam.blueprint.bands[0].label=3-5",
+                        "app.exam.blueprint.bands[0].lesson-ids=3,4,5",
+                        "app.exam.blueprint.bands[0].count=1",
+                        "app.exam.blueprint.bands[0].difficulty-quotas.HARD=2")
+                .run(context -> assertThat(context).hasFailed()
+                        .getFailure().hasStackTraceContaining("quotasWithinCount"));
+    }
+
+    @Test
+    void countBelowOne_failsStartup() {
+        runner.withPropertyValues(
+                        "app.exam.blueprint.bands[0].label=3-5",
+                        "app.exam.blueprint.bands[0].lesson-ids=3",
+                        "app.exam.blueprint.bands[0].count=0")
+                .run(context -> assertThat(context).hasFailed()
+                        .getFailure().hasStackTraceContaining("count"));
+    }
+
+    @Test
+    void bandWithoutLessons_failsStartup() {
+        runner.withPropertyValues(
+                        "app.exam.blueprint.bands[0].label=leer",
+                        "app.exam.blueprint.bands[0].count=1")
+                .run(context -> assertThat(context).hasFailed()
+                        .getFailure().hasStackTraceContaining("lessonIds"));
+    }
+
+    @Test
+    void weightForLessonOutsideBand_failsStartup() {
+        runner.withPropertyValues(
+                        "app.exam.blueprint.bands[0].label=3-5",
+                        "app.exam.blueprint.bands[0].lesson-ids=3,4,5",
+                        "app.exam.blueprint.bands[0].lesson-weights.9=2.0")
+                .run(context -> assertThat(context).hasFailed()
+                        .getFailure().hasStackTraceContaining("weightsWithinLessons"));
+    }
+}
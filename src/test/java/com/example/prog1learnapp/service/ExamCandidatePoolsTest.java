@@ -0,0 +1,162 @@
+package com.example.prog1learnapp.service;
+
+import com.example.prog1learnapp.model.Difficulty;
+import com.example.prog1learnapp.model.Exercise;
+import com.example.prog1learnapp.model.Lesson;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExamCandidatePoolsTest {
+
+    @Test
+    void draw_honoursCountsAndDifficultyQuotasWithoutDuplicates() {
+        CatalogSnapshot snapshot = catalog(List.of(3L, 4L), 20);
+        ExamBlueprint.Band band = new ExamBlueprint.Band("3-4", List.of(3L, 4L), 5);
+        band.getDifficultyQuotas().put(Difficulty.HARD, 2);
+        ExamCandidatePools pools = ExamCandidatePools.build(snapshot, blueprint(band));
+
+        for (int run = 0; run < 200; run++) {
+            long[] drawn = pools.draw(Set.of(), new SplittableRandom(run));
+
+            assertEquals(5, drawn.length);
+            assertEquals(5, Arrays.stream(drawn).distinct().count());
+            assertEquals(Difficulty.HARD, difficultyOf(snapshot, drawn[0]));
+            assertEquals(Difficulty.HARD, difficultyOf(snapshot, drawn[1]));
+        }
+    }
+
+    @Test
+    void draw_avoidsPreviousAttemptWhileEnoughCandidatesRemain() {
+        CatalogSnapshot snapshot = catalog(List.of(3L), 6);
+        ExamCandidatePools pools = ExamCandidatePools.build(snapshot,
+                blueprint(new ExamBlueprint.Band("3", List.of(3L), 3)));
+
+        Set<Long> previous = new HashSet<>();
+        for (long id : pools.draw(Set.of(), new SplittableRandom(1))) {
+            previous.add(id);
+        }
+        for (int run = 0; run < 100; run++) {
+            for (long id : pools.draw(previous, new SplittableRandom(run))) {
+                assertFalse(previous.contains(id));
+            }
+        }
+    }
+
+    @Test
+    void draw_fallsBackToPreviousExercisesWhenBandIsTooSmall() {
+        CatalogSnapshot snapshot = catalog(List.of(3L), 2);
+        ExamCandidatePools pools = ExamCandidatePools.build(snapshot,
+                blueprint(new ExamBlueprint.Band("3", List.of(3L), 2)));
+        Set<Long> previous = Set.of(snapshot.getExercisesByLesson(3L).get(0).getId());
+
+        long[] drawn = pools.draw(previous, new SplittableRandom(7));
+
+        assertEquals(2, Arrays.stream(drawn).distinct().count());
+    }
+
+    @Test
+    void draw_skipsLessonsWithZeroWeight() {
+        CatalogSnapshot snapshot = catalog(List.of(3L, 4L), 10);
+        ExamBlueprint.Band band = new ExamBlueprint.Band("3-4", List.of(3L, 4L), 4);
+        band.getLessonWeights().put(3L, 0.0);
+        ExamCandidatePools pools = ExamCandidatePools.build(snapshot, blueprint(band));
+
+        for (int run = 0; run < 100; run++) {
+            for (long id : pools.draw(Set.of(), new SplittableRandom(run))) {
+                assertEquals(4L, snapshot.getExercise(id).getLesson().getId());
+            }
+        }
+    }
+
+    @Test
+    void draw_throwsWhenBandCannotBeFilled() {
+        CatalogSnapshot snapshot = catalog(List.of(3L), 1);
+        ExamCandidatePools pools = ExamCandidatePools.build(snapshot,
+                blueprint(new ExamBlueprint.Band("nur-3", List.of(3L), 2)));
+
+        ExamSelectionException ex = assertThrows(ExamSelectionException.class,
+                () -> pools.draw(Set.of(), new SplittableRandom(1)));
+        assertTrue(ex.getMessage().contains("nur-3"));
+    }
+
+    /**
+     * Die Pools werden von allen Prüfungsstarts geteilt; parallele Ziehungen dürfen sich nicht stören.
+     */
+    @Test
+    void draw_fromSharedPoolsInParallel_staysValid() throws Exception {
+        CatalogSnapshot snapshot = catalog(List.of(3L, 4L, 5L, 6L, 7L, 8L), 20);
+        ExamBlueprint.Band first = new ExamBlueprint.Band("3-5", List.of(3L, 4L, 5L), 3);
+        first.getDifficultyQuotas().put(Difficulty.MEDIUM, 1);
+        ExamBlueprint.Band second = new ExamBlueprint.Band("6-8", List.of(6L, 7L, 8L), 3);
+        ExamCandidatePools pools = ExamCandidatePools.build(snapshot, blueprint(first, second));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<long[]>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                results.add(executor.submit(() -> pools.draw(Set.of(), ThreadLocalRandom.current())));
+            }
+            for (Future<long[]> result : results) {
+                long[] drawn = result.get(10, TimeUnit.SECONDS);
+                assertEquals(6, Arrays.stream(drawn).distinct().count());
+                assertTrue(Arrays.stream(drawn, 0, 3)
+                        .mapToObj(id -> snapshot.getExercise(id).getLesson().getId())
+                        .allMatch(List.of(3L, 4L, 5L)::contains));
+                assertTrue(Arrays.stream(drawn, 0, 3)
+                        .anyMatch(id -> difficultyOf(snapshot, id) == Difficulty.MEDIUM));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ExamBlueprint blueprint(ExamBlueprint.Band... bands) {
+        ExamBlueprint blueprint = new ExamBlueprint();
+        blueprint.setBands(new ArrayList<>(List.of(bands)));
+        return blueprint;
+    }
+
+    private Difficulty difficultyOf(CatalogSnapshot snapshot, long exerciseId) {
+        return Difficulty.fromString(snapshot.getExercise(exerciseId).getDifficulty());
+    }
+
+    /**
+     * Synthetischer Katalog; die Schwierigkeitsgrade wechseln reihum innerhalb jeder Lektion.
+     */
+    private CatalogSnapshot catalog(List<Long> lessonIds, int exercisesPerLesson) {
+        List<Lesson> lessons = new ArrayList<>();
+        List<Exercise> exercises = new ArrayList<>();
+        Difficulty[] difficulties = Difficulty.values();
+        long exerciseId = 1;
+        for (Long lessonId : lessonIds) {
+            Lesson lesson = new Lesson(lessonId, "Lesson " + lessonId, "Short", "Content");
+            lessons.add(lesson);
+            for (int i = 0; i < exercisesPerLesson; i++) {
+                Exercise exercise = new Exercise();
+                exercise.setId(exerciseId++);
+                exercise.setTitle("Exercise " + i);
+                exercise.setDifficulty(difficulties[i % difficulties.length].name());
+                exercise.setPosition(i);
+                exercise.setLesson(lesson);
+                exercises.add(exercise);
+            }
+        }
+        return CatalogSnapshot.of(1L, lessons, exercises);
+    }
+}
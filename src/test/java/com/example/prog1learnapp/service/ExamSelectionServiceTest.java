@@ -19,12 +19,15 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest
-@Import(ExamSelectionService.class)
+@Import({ExamSelectionService.class, CatalogCache.class, ExamBlueprint.class})
 class ExamSelectionServiceTest {
 
     @Autowired
     private ExamSelectionService examSelectionService;
 
+    @Autowired
+    private CatalogCache catalogCache;
+
     @Autowired
     private LessonRepository lessonRepository;
 
@@ -42,6 +45,7 @@ class ExamSelectionServiceTest {
         createLessonWithExercise(3L, "Band 1");
         createLessonWithExercise(6L, "Band 2");
         createLessonWithExercise(9L, "Band 3");
+        catalogCache.reload();
 
         ExamSessionState state = examSelectionService.startNewExam();
 
@@ -60,11 +64,27 @@ class ExamSelectionServiceTest {
     void startNewExam_throwsWhenAnyBandHasNoCandidates() {
         createLessonWithExercise(3L, "Band 1");
         createLessonWithExercise(9L, "Band 3");
+        catalogCache.reload();
 
         ExamSelectionException ex = assertThrows(ExamSelectionException.class, () -> examSelectionService.startNewExam());
         assertTrue(ex.getMessage().contains("6-8"));
     }
 
+    @Test
+    void startNewExam_picksUpCandidatesAfterCatalogReload() {
+        createLessonWithExercise(3L, "Band 1");
+        createLessonWithExercise(9L, "Band 3");
+        catalogCache.reload();
+        assertThrows(ExamSelectionException.class, () -> examSelectionService.startNewExam());
+
+        createLessonWithExercise(7L, "Band 2");
+        catalogCache.reload();
+
+        ExamSessionState state = examSelectionService.startNewExam();
+        List<Exercise> selected = examSelectionService.resolveSelectedExercises(state);
+        assertEquals(7L, selected.get(1).getLesson().getId());
+    }
+
     private void createLessonWithExercise(Long lessonId, String suffix) {
         Lesson lesson = new Lesson();
         lesson.setId(lessonId);
@@ -0,0 +1,52 @@
+package com.example.prog1learnapp.service;
+
+import com.example.prog1learnapp.model.Exercise;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ExerciseNavigationIndexTest {
+
+    @Test
+    void build_followsPositionBeforeId() {
+        List<Exercise> exercises = new ArrayList<>(List.of(
+                exercise(10L, 2),
+                exercise(11L, 0),
+                exercise(12L, null),
+                exercise(13L, 1)));
+        exercises.sort(ExerciseNavigationIndex.LESSON_ORDER);
+
+        ExerciseNavigationIndex index = ExerciseNavigationIndex.build(Map.of(1L, exercises));
+
+        assertEquals(13L, index.nextExerciseId(11L));
+        assertEquals(10L, index.nextExerciseId(13L));
+        assertEquals(12L, index.nextExerciseId(10L));
+        assertNull(index.nextExerciseId(12L));
+        assertNull(index.previousExerciseId(11L));
+        assertEquals(11L, index.previousExerciseId(13L));
+    }
+
+    @Test
+    void firstUnfinishedExerciseId_skipsCompletedExercises() {
+        List<Exercise> exercises = List.of(exercise(1L, 0), exercise(2L, 1), exercise(3L, 2));
+        ExerciseNavigationIndex index = ExerciseNavigationIndex.build(Map.of(7L, exercises));
+
+        assertEquals(1L, index.firstUnfinishedExerciseId(7L, Set.of()));
+        assertEquals(3L, index.firstUnfinishedExerciseId(7L, Set.of(1L, 2L)));
+        assertNull(index.firstUnfinishedExerciseId(7L, Set.of(1L, 2L, 3L)));
+        assertNull(index.firstUnfinishedExerciseId(99L, Set.of()));
+    }
+
+    private Exercise exercise(Long id, Integer position) {
+        Exercise exercise = new Exercise();
+        exercise.setId(id);
+        exercise.setPosition(position);
+        return exercise;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.prog1learnapp.service;
+
+import com.example.prog1learnapp.model.Exercise;
+import com.example.prog1learnapp.model.Lesson;
+import com.example.prog1learnapp.repository.ExerciseRepository;
+import com.example.prog1learnapp.repository.LessonPageRow;
+import com.example.prog1learnapp.repository.LessonRepository;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+class LessonPageQueryTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LessonPageQueryTest.class);
+
+    @Autowired
+    private LessonRepository lessonRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    /**
+     * Vergleicht die übertragenen Spaltenwerte der Lektionsseite: bisher Lektion und Übungen als
+     * vollständige Entities, jetzt nur Kopf und Listenfelder.
+     */
+    @Test
+    void pageRows_transferOnlyHeaderAndListColumns() {
+        Lesson lesson = lessonRepository.save(new Lesson(8301L, "Rekursion", "Kurz",
+                "<p>Rekursive Methoden rufen sich selbst auf.</p>\n".repeat(400)));
+        for (int i = 0; i < 8; i++) {
+            Exercise exercise = new Exercise();
+            exercise.setTitle("Aufgabe " + i);
+            exercise.setDescription("Berechne die Fakultät von " + i + " rekursiv.");
+            exercise.setStarterCode("public class Main {\n    // Dein Code hier\n}\n".repeat(40));
+            exercise.setSolution("public class Main {\n    static long f(int n) { return n < 2 ? 1 : n * f(n - 1); }\n}\n".repeat(40));
+            exercise.setDifficulty("MEDIUM");
+            exercise.setPosition(i);
+            exercise.setLesson(lesson);
+            exerciseRepository.save(exercise);
+        }
+
+        Lesson fullLesson = lessonRepository.findById(8301L).orElseThrow();
+        long entityBytes = bytes(fullLesson.getTitle(), fullLesson.getShortDescription(), fullLesson.getContent());
+        for (Exercise exercise : exerciseRepository.findByLessonIdOrdered(8301L)) {
+            entityBytes += bytes(exercise.getTitle(), exercise.getDescription(), exercise.getStarterCode(),
+                    exercise.getSolution(), exercise.getDifficulty());
+        }
+
+        List<LessonPageRow> rows = lessonRepository.findPageRows(8301L);
+        long rowBytes = 0;
+        for (LessonPageRow row : rows) {
+            rowBytes += bytes(row.getLessonTitle(), row.getLessonShortDescription(), row.getTitle(),
+                    row.getDescription(), row.getDifficulty());
+        }
+        log.info("Lesson page column bytes: entities {} bytes, page projection {} bytes", entityBytes, rowBytes);
+
+        assertEquals(8, rows.size());
+        assertEquals("Aufgabe 0", rows.get(0).getTitle());
+        assertTrue(rowBytes * 20 < entityBytes, "projection=" + rowBytes + " bytes, entities=" + entityBytes + " bytes");
+    }
+
+    private long bytes(String... values) {
+        long total = 0;
+        for (String value : values) {
+            total += value != null ? value.getBytes(StandardCharsets.UTF_8).length : 0;
+        }
+        return total;
+    }
+}
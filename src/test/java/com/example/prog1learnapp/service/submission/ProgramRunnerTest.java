@@ -0,0 +1,123 @@
+package com.example.prog1learnapp.service.submission;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProgramRunnerTest {
+
+    private static final String COUNTING = """
+            import java.util.Scanner;
+
+            public class Main {
+                static int calls;
+
+                public static void main(String[] args) {
+                    calls++;
+                    System.out.println(calls + " " + new Scanner(System.in).nextLine());
+                }
+            }
+            """;
+
+    private final List<ProgramRunner> runners = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        runners.forEach(ProgramRunner::shutdown);
+    }
+
+    @Test
+    void execute_compilesOnceAndRunsEveryInputInOneProcess() {
+        ProgramRunner runner = runner(new SubmissionProperties());
+
+        ProgramRunner.Execution execution = runner.execute(COUNTING, List.of("a\n", "b\n", "c\n"));
+
+        assertTrue(execution.isStarted(), execution.message());
+        // Jede Eingabe mit frischen Klassen: der statische Zähler beginnt jedes Mal bei 1
+        assertEquals(List.of("1 a", "1 b", "1 c"),
+                execution.runs().stream().map(run -> run.output().strip()).toList());
+        assertEquals(1, runner.getStartedProcessCount());
+    }
+
+    @Test
+    void execute_startsNewProcessWhenThreadsOutliveMain() {
+        ProgramRunner runner = runner(new SubmissionProperties());
+
+        ProgramRunner.Execution execution = runner.execute("""
+                public class Main {
+                    public static void main(String[] args) {
+                        new Thread(() -> { while (true) { Thread.onSpinWait(); } }).start();
+                        System.out.println("fertig");
+                    }
+                }
+                """, List.of("", ""));
+
+        assertEquals(2, execution.runs().size());
+        assertTrue(execution.runs().stream().allMatch(ProgramRunner.RunOutcome::isCompleted));
+        assertEquals(2, runner.getStartedProcessCount());
+    }
+
+    @Test
+    void execute_doesNotStartProcessForCompileErrors() {
+        ProgramRunner runner = runner(new SubmissionProperties());
+
+        ProgramRunner.Execution execution = runner.execute("public class Main { int x = ; }", List.of(""));
+
+        assertEquals(SubmissionVerdict.COMPILE_ERROR, execution.verdict());
+        assertEquals(0, runner.getStartedProcessCount());
+    }
+
+    @Test
+    void execute_stopsCompilationAtCompileTimeLimit() {
+        SubmissionProperties properties = new SubmissionProperties();
+        properties.setCompileTimeLimit(Duration.ZERO);
+
+        ProgramRunner.Execution execution = runner(properties).execute(COUNTING, List.of("a\n"));
+
+        assertEquals(SubmissionVerdict.TIME_LIMIT, execution.verdict());
+    }
+
+    @Test
+    void withoutSecurityManager_requiresIsolationCommand() {
+        assertTrue(ProgramRunner.isIsolated(true, List.of()));
+        assertFalse(ProgramRunner.isIsolated(false, List.of()));
+        assertTrue(ProgramRunner.isIsolated(false, List.of("unshare", "--net", "--")));
+
+        SubmissionProperties properties = new SubmissionProperties();
+        properties.setSecurityManager(false);
+        assertFalse(runner(properties).isAvailable());
+    }
+
+    /**
+     * Wie ab Java 24: kein Security Manager, Abschottung allein über den Prefix.
+     */
+    @Test
+    void withoutSecurityManager_runsBehindIsolationCommand() {
+        SubmissionProperties properties = new SubmissionProperties();
+        properties.setSecurityManager(false);
+        properties.setIsolationCommand(List.of("env"));
+        ProgramRunner runner = runner(properties);
+
+        ProgramRunner.Execution execution = runner.execute(COUNTING, List.of("a\n", "b\n"));
+        assertEquals(List.of("1 a", "1 b"), execution.runs().stream().map(run -> run.output().strip()).toList());
+
+        ProgramRunner.Execution exited = runner.execute(
+                "public class Main { public static void main(String[] a) { System.exit(0); } }", List.of(""));
+        ProgramRunner.RunOutcome run = exited.runs().get(0);
+        assertEquals(SubmissionVerdict.RUNTIME_ERROR, run.verdict());
+        assertTrue(run.message().contains("vorzeitig beendet"), run.message());
+    }
+
+    private ProgramRunner runner(SubmissionProperties properties) {
+        ProgramRunner runner = new ProgramRunner(properties, new InMemoryJavaCompiler(properties));
+        runners.add(runner);
+        return runner;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.prog1learnapp.service.submission;
+
+import com.example.prog1learnapp.model.Exercise;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReferenceOutputCacheTest {
+
+    private final SubmissionProperties properties = new SubmissionProperties();
+    private final ProgramRunner runner = new ProgramRunner(properties, new InMemoryJavaCompiler(properties));
+    private final ReferenceOutputCache cache = new ReferenceOutputCache(runner, properties);
+
+    @Test
+    void precompute_fillsCacheSoGradingOnlyRunsStudentCode() {
+        Exercise hello = exercise(1L, printing("Hallo"));
+        Exercise world = exercise(2L, printing("Welt"));
+        cache.precompute(List.of(hello, world));
+        assertEquals(2, cache.size());
+
+        SubmissionService service = new SubmissionService(runner, cache, new SubmissionResultCache(properties), properties);
+        assertEquals(SubmissionVerdict.ACCEPTED, service.grade(hello, printing("Hallo")).getVerdict());
+        assertEquals(SubmissionVerdict.WRONG_OUTPUT, service.grade(world, printing("Hallo")).getVerdict());
+
+        assertEquals(0, cache.getMissCount());
+        assertEquals(2, cache.getHitCount());
+    }
+
+    @Test
+    void changedSolution_isRecomputedAndStaleEntriesAreDropped() {
+        Exercise exercise = exercise(1L, printing("alt"));
+        cache.precompute(List.of(exercise, exercise(2L, printing("weg"))));
+
+        exercise.setSolution(printing("neu"));
+        cache.precompute(List.of(exercise));
+
+        assertEquals(1, cache.size());
+        assertEquals("neu", cache.expectedOutput(exercise).outputs().get(0).strip());
+    }
+
+    @Test
+    void expectedOutput_onMissComputesInBackgroundForEveryTestInput() throws Exception {
+        Exercise echo = exercise(3L, """
+                import java.util.Scanner;
+
+                public class Echo {
+                    public static void main(String[] args) {
+                        System.out.println(new Scanner(System.in).nextLine().toUpperCase());
+                    }
+                }
+                """);
+        echo.setTestInputs("abc\n---\nxyz\n");
+
+        ReferenceOutputCache.ReferenceOutput pending = cache.expectedOutput(echo);
+        assertFalse(pending.isGradable());
+        assertFalse(pending.cacheable());
+        assertEquals(1, cache.getMissCount());
+
+        ReferenceOutputCache.ReferenceOutput computed = awaitGradable(echo);
+        assertEquals(List.of("ABC", "XYZ"), computed.outputs().stream().map(String::strip).toList());
+    }
+
+    @Test
+    void precompute_runsAllInputsAndTheRepeatInOneProcess() {
+        Exercise exercise = exercise(6L, printing("Hallo"));
+        exercise.setTestInputs("a\n---\nb\n---\nc\n");
+
+        cache.precompute(List.of(exercise));
+
+        assertEquals(3, cache.expectedOutput(exercise).outputs().size());
+        assertEquals(1, runner.getStartedProcessCount());
+    }
+
+    @Test
+    void nonDeterministicSolution_isNotGradable() {
+        Exercise random = exercise(5L,
+                "public class Main { public static void main(String[] a) { System.out.println(System.nanoTime()); } }");
+        cache.precompute(List.of(random));
+
+        ReferenceOutputCache.ReferenceOutput output = cache.expectedOutput(random);
+        assertFalse(output.isGradable());
+        assertTrue(output.cacheable());
+    }
+
+    @Test
+    void brokenSolution_isCachedAsNotGradable() {
+        Exercise broken = exercise(4L, "public class Main { public static void main(String[] a) { int x = ; } }");
+        cache.precompute(List.of(broken));
+
+        assertFalse(cache.expectedOutput(broken).isGradable());
+        assertFalse(cache.expectedOutput(broken).isGradable());
+        assertEquals(1, cache.size());
+        assertEquals(2, cache.getHitCount());
+    }
+
+    private ReferenceOutputCache.ReferenceOutput awaitGradable(Exercise exercise) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (System.nanoTime() < deadline) {
+            ReferenceOutputCache.ReferenceOutput output = cache.expectedOutput(exercise);
+            if (output.isGradable()) {
+                return output;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("Erwartete Ausgabe wurde nicht rechtzeitig berechnet");
+    }
+
+    private static String printing(String text) {
+        return "public class Main { public static void main(String[] a) { System.out.println(\"" + text + "\"); } }";
+    }
+
+    private static Exercise exercise(Long id, String solution) {
+        Exercise exercise = new Exercise();
+        exercise.setId(id);
+        exercise.setSolution(solution);
+        return exercise;
+    }
+}
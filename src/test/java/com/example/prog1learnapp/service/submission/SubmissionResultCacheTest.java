@@ -0,0 +1,106 @@
+package com.example.prog1learnapp.service.submission;
+
+import com.example.prog1learnapp.model.Exercise;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SubmissionResultCacheTest {
+
+    private static final String HELLO = "public class Main {\n  public static void main(String[] a) {\n  }\n}";
+
+    @Test
+    void keyOf_ignoresLineEndingsAndTrailingWhitespace() {
+        SubmissionResultCache.Key key = SubmissionResultCache.keyOf(1L, "solution", "", HELLO);
+
+        assertEquals(key, SubmissionResultCache.keyOf(1L, "solution", "", HELLO.replace("\n", "  \r\n") + "\n\n"));
+        assertNotEquals(key, SubmissionResultCache.keyOf(2L, "solution", "", HELLO));
+        assertNotEquals(key, SubmissionResultCache.keyOf(1L, "changed solution", "", HELLO));
+        assertNotEquals(key, SubmissionResultCache.keyOf(1L, "solution", "42", HELLO));
+        assertNotEquals(key, SubmissionResultCache.keyOf(1L, "solution", "", HELLO.replace("  ", " ")));
+    }
+
+    @Test
+    void get_returnsCachedCopyAndCountsHitRate() {
+        SubmissionResultCache cache = cache(1024 * 1024);
+        SubmissionResultCache.Key key = SubmissionResultCache.keyOf(1L, "s", "", HELLO);
+
+        assertNull(cache.get(key));
+        cache.put(key, result(SubmissionVerdict.ACCEPTED, "Hallo"));
+        SubmissionResult cached = cache.get(key);
+
+        assertNotNull(cached);
+        assertTrue(cached.isCached());
+        assertEquals("Hallo", cached.getOutput());
+        assertEquals(0.5, cache.getHitRate());
+    }
+
+    @Test
+    void put_skipsLoadDependentVerdicts() {
+        SubmissionResultCache cache = cache(1024 * 1024);
+        SubmissionResultCache.Key key = SubmissionResultCache.keyOf(1L, "s", "", HELLO);
+
+        cache.put(key, result(SubmissionVerdict.TIME_LIMIT, ""));
+
+        assertNull(cache.get(key));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void put_evictsLeastRecentlyUsedWhenOverBudget() {
+        SubmissionResultCache cache = cache(3 * (160 + 2 * 100));
+        SubmissionResultCache.Key first = SubmissionResultCache.keyOf(1L, "s", "", "a");
+        SubmissionResultCache.Key second = SubmissionResultCache.keyOf(1L, "s", "", "b");
+        SubmissionResultCache.Key third = SubmissionResultCache.keyOf(1L, "s", "", "c");
+        SubmissionResultCache.Key fourth = SubmissionResultCache.keyOf(1L, "s", "", "d");
+        String output = "x".repeat(100);
+
+        cache.put(first, result(SubmissionVerdict.ACCEPTED, output));
+        cache.put(second, result(SubmissionVerdict.ACCEPTED, output));
+        cache.put(third, result(SubmissionVerdict.ACCEPTED, output));
+        cache.get(first);
+        cache.put(fourth, result(SubmissionVerdict.ACCEPTED, output));
+
+        assertEquals(3, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertNotNull(cache.get(first));
+        assertNull(cache.get(second));
+    }
+
+    @Test
+    void grade_answersIdenticalSubmissionWithoutCompiling() {
+        SubmissionProperties properties = new SubmissionProperties();
+        ProgramRunner runner = new ProgramRunner(properties, new InMemoryJavaCompiler(properties));
+        SubmissionResultCache cache = new SubmissionResultCache(properties);
+        ReferenceOutputCache referenceOutputs = new ReferenceOutputCache(runner, properties);
+        SubmissionService service = new SubmissionService(runner, referenceOutputs, cache, properties);
+        Exercise exercise = new Exercise();
+        exercise.setId(1L);
+        exercise.setSolution("public class Main { public static void main(String[] a) { System.out.println(1); } }");
+        referenceOutputs.precompute(List.of(exercise));
+
+        SubmissionResult first = service.grade(exercise, exercise.getSolution());
+        SubmissionResult second = service.grade(exercise, exercise.getSolution() + "\r\n");
+
+        assertEquals(SubmissionVerdict.ACCEPTED, first.getVerdict());
+        assertEquals(SubmissionVerdict.ACCEPTED, second.getVerdict());
+        assertTrue(second.isCached());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    private static SubmissionResultCache cache(long maxBytes) {
+        SubmissionProperties properties = new SubmissionProperties();
+        properties.setResultCacheMaxBytes(maxBytes);
+        return new SubmissionResultCache(properties);
+    }
+
+    private static SubmissionResult result(SubmissionVerdict verdict, String output) {
+        return new SubmissionResult(verdict, "", output, 0, 1, 1);
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.prog1learnapp.service.submission;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SubmissionSchedulerTest {
+
+    private static final SubmissionResult OK =
+            new SubmissionResult(SubmissionVerdict.ACCEPTED, "", "", 0, 0, 0);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<String> executed = new CopyOnWriteArrayList<>();
+    private SubmissionScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        scheduler.shutdown();
+    }
+
+    @Test
+    void submit_servesUsersRoundRobin() throws Exception {
+        scheduler = scheduler(1, 10, 3);
+        SubmissionJob blocker = scheduler.submit("anna", 1L, blocking("anna-1"));
+        awaitState(blocker, SubmissionJob.State.RUNNING);
+
+        scheduler.submit("anna", 2L, recording("anna-2"));
+        SubmissionJob last = scheduler.submit("anna", 3L, recording("anna-3"));
+        scheduler.submit("ben", 1L, recording("ben-1"));
+        release.countDown();
+        awaitState(last, SubmissionJob.State.DONE);
+
+        assertEquals(List.of("anna-1", "anna-2", "ben-1", "anna-3"), executed);
+    }
+
+    @Test
+    void submit_rejectsWhenUserHasTooManyActiveSubmissions() throws Exception {
+        scheduler = scheduler(1, 10, 2);
+        awaitState(scheduler.submit("anna", 1L, blocking("anna-1")), SubmissionJob.State.RUNNING);
+        scheduler.submit("anna", 2L, recording("anna-2"));
+
+        SubmissionRejectedException ex = assertThrows(SubmissionRejectedException.class,
+                () -> scheduler.submit("anna", 3L, recording("anna-3")));
+        assertTrue(ex.getRetryAfterSeconds() >= 1);
+
+        scheduler.submit("ben", 1L, recording("ben-1"));
+    }
+
+    @Test
+    void submit_rejectsWhenQueueIsFull() throws Exception {
+        scheduler = scheduler(1, 2, 5);
+        awaitState(scheduler.submit("anna", 1L, blocking("anna-1")), SubmissionJob.State.RUNNING);
+        scheduler.submit("ben", 1L, recording("ben-1"));
+        scheduler.submit("carl", 1L, recording("carl-1"));
+
+        assertThrows(SubmissionRejectedException.class, () -> scheduler.submit("dora", 1L, recording("dora-1")));
+        assertEquals(2, scheduler.getQueuedCount());
+        assertEquals(1, scheduler.getRunningCount());
+    }
+
+    @Test
+    void find_onlyReturnsOwnSubmissionsAndFailuresBecomeResults() throws Exception {
+        scheduler = scheduler(2, 10, 2);
+        SubmissionJob job = scheduler.submit("anna", 1L, () -> {
+            throw new IllegalStateException("kaputt");
+        });
+        awaitState(job, SubmissionJob.State.DONE);
+
+        assertTrue(scheduler.find(job.getId(), "ben").isEmpty());
+        assertEquals(SubmissionVerdict.NOT_GRADABLE, scheduler.find(job.getId(), "anna").orElseThrow()
+                .getResult().getVerdict());
+        // Das Limit wird nach Abschluss wieder frei
+        scheduler.submit("anna", 2L, recording("anna-2"));
+        scheduler.submit("anna", 3L, recording("anna-3"));
+    }
+
+    private SubmissionScheduler scheduler(int workers, int queueCapacity, int perUserLimit) {
+        SubmissionProperties properties = new SubmissionProperties();
+        properties.setWorkerCount(workers);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setPerUserLimit(perUserLimit);
+        return new SubmissionScheduler(properties);
+    }
+
+    private Callable<SubmissionResult> recording(String name) {
+        return () -> {
+            executed.add(name);
+            return OK;
+        };
+    }
+
+    private Callable<SubmissionResult> blocking(String name) {
+        return () -> {
+            executed.add(name);
+            release.await(5, TimeUnit.SECONDS);
+            return OK;
+        };
+    }
+
+    private static void awaitState(SubmissionJob job, SubmissionJob.State state) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (job.getState() != state && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(state, job.getState());
+    }
+}
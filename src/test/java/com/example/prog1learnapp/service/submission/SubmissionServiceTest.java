@@ -0,0 +1,361 @@
+package com.example.prog1learnapp.service.submission;
+
+import com.example.prog1learnapp.model.Exercise;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SubmissionServiceTest {
+
+    private static final String HELLO = """
+            public class Main {
+                public static void main(String[] args) {
+                    System.out.println("Hallo Welt");
+                }
+            }
+            """;
+
+    private final SubmissionProperties properties = properties();
+    private final ProgramRunner runner = new ProgramRunner(properties, new InMemoryJavaCompiler(properties));
+    private final ReferenceOutputCache referenceOutputs = new ReferenceOutputCache(runner, properties);
+    private final SubmissionService service = new SubmissionService(runner, referenceOutputs,
+            new SubmissionResultCache(properties), properties);
+
+    @AfterEach
+    void tearDown() {
+        referenceOutputs.shutdown();
+        runner.shutdown();
+    }
+
+    @Test
+    void grade_acceptsOutputMatchingReferenceSolution() {
+        SubmissionResult result = service.grade(gradable(HELLO),
+                "public class Main { public static void main(String[] a) { System.out.print(\"Hallo Welt  \\r\\n\\n\"); } }");
+
+        assertEquals(SubmissionVerdict.ACCEPTED, result.getVerdict(), result.getMessage());
+    }
+
+    @Test
+    void grade_reportsFirstDifferentLine() {
+        String reference = "public class Main { public static void main(String[] a) { System.out.println(\"a\\nb\\nc\"); } }";
+        SubmissionResult result = service.grade(gradable(reference),
+                "public class Main { public static void main(String[] a) { System.out.println(\"a\\nx\\nc\"); } }");
+
+        assertEquals(SubmissionVerdict.WRONG_OUTPUT, result.getVerdict());
+        assertEquals(2, result.getFirstDifferentLine());
+    }
+
+    @Test
+    void grade_findsMainOutsideThePublicClass() {
+        String source = """
+                public class Figur {
+                    String name() { return "Kreis"; }
+                }
+
+                class Main {
+                    public static void main(String[] args) {
+                        System.out.println(new Figur().name());
+                    }
+                }
+                """;
+        SubmissionResult result = service.grade(gradable(source), source);
+
+        assertEquals(SubmissionVerdict.ACCEPTED, result.getVerdict(), result.getMessage());
+        assertEquals("Kreis", result.getOutput().strip());
+    }
+
+    @Test
+    void grade_runsEveryTestInputOfTheExercise() {
+        String doubling = """
+                import java.util.Scanner;
+
+                public class Doppelt {
+                    public static void main(String[] args) {
+                        Scanner scanner = new Scanner(System.in);
+                        System.out.println(scanner.nextInt() * 2);
+                    }
+                }
+                """;
+        Exercise exercise = gradable(doubling, "21\n---\n5\n");
+
+        SubmissionResult accepted = service.grade(exercise, doubling);
+        assertEquals(SubmissionVerdict.ACCEPTED, accepted.getVerdict(), accepted.getMessage());
+        assertEquals("10", accepted.getOutput().strip());
+
+        SubmissionResult wrong = service.grade(exercise,
+                "public class Main { public static void main(String[] a) { System.out.println(42); } }");
+        assertEquals(SubmissionVerdict.WRONG_OUTPUT, wrong.getVerdict());
+        assertTrue(wrong.getMessage().startsWith("Testeingabe 2 von 2:\n5"), wrong.getMessage());
+    }
+
+    @Test
+    void grade_doesNotWaitForReferenceSolutionOnMiss() {
+        Exercise exercise = exercise(HELLO);
+
+        SubmissionResult pending = service.grade(exercise, HELLO);
+        assertEquals(SubmissionVerdict.NOT_GRADABLE, pending.getVerdict());
+        assertTrue(pending.getMessage().contains("noch berechnet"), pending.getMessage());
+
+        // Der Fehlzugriff hat die Berechnung im Hintergrund gestartet; das vorläufige Ergebnis wurde nicht gespeichert
+        referenceOutputs.precompute(List.of(exercise));
+        assertEquals(SubmissionVerdict.ACCEPTED, service.grade(exercise, HELLO).getVerdict());
+    }
+
+    @Test
+    void grade_reportsCompileErrorsWithLineNumbers() {
+        SubmissionResult result = service.grade(gradable(HELLO),
+                "public class Main {\n public static void main(String[] a) {\n int x = \"text\";\n }\n}");
+
+        assertEquals(SubmissionVerdict.COMPILE_ERROR, result.getVerdict());
+        assertTrue(result.getMessage().startsWith("Zeile 3"), result.getMessage());
+    }
+
+    @Test
+    void grade_rejectsCallsThatAffectTheServer() {
+        SubmissionResult result = service.grade(gradable(HELLO),
+                "public class Main { public static void main(String[] a) { System.exit(0); } }");
+
+        assertEquals(SubmissionVerdict.FORBIDDEN, result.getVerdict());
+    }
+
+    @Test
+    void grade_deniesFileAccess() {
+        SubmissionResult result = service.grade(gradable(HELLO),
+                "public class Main { public static void main(String[] a) { System.out.println(new java.io.File(\"/\").exists()); } }");
+
+        assertEquals(SubmissionVerdict.FORBIDDEN, result.getVerdict(), result.getMessage());
+    }
+
+    @Test
+    void grade_deniesNetworkAccess() {
+        SubmissionResult result = service.grade(gradable(HELLO),
+                "public class Main { public static void main(String[] a) throws Exception { new java.net.Socket(\"127.0.0.1\", 80); } }");
+
+        assertEquals(SubmissionVerdict.FORBIDDEN, result.getVerdict(), result.getMessage());
+    }
+
+    @Test
+    void grade_deniesProcessStartThroughMethodHandles() {
+        SubmissionResult result = service.grade(gradable(HELLO), """
+                import java.lang.invoke.MethodHandles;
+                import java.lang.invoke.MethodType;
+
+                public class Main {
+                    public static void main(String[] args) throws Throwable {
+                        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                        Object builder = lookup.findConstructor(ProcessBuilder.class,
+                                MethodType.methodType(void.class, String[].class)).invoke(new String[]{"true"});
+                        lookup.findVirtual(ProcessBuilder.class, "start", MethodType.methodType(Process.class)).invoke(builder);
+                        System.out.println("gestartet");
+                    }
+                }
+                """);
+
+        assertEquals(SubmissionVerdict.FORBIDDEN, result.getVerdict(), result.getMessage());
+        assertEquals("", result.getOutput());
+    }
+
+    @Test
+    void grade_deniesExitThroughMethodHandles() {
+        SubmissionResult result = service.grade(gradable(HELLO), """
+                import java.lang.invoke.MethodHandles;
+                import java.lang.invoke.MethodType;
+
+                public class Main {
+                    public static void main(String[] args) throws Throwable {
+                        MethodHandles.publicLookup()
+                                .findStatic(System.class, "exit", MethodType.methodType(void.class, int.class))
+                                .invoke(42);
+                    }
+                }
+                """);
+
+        assertEquals(SubmissionVerdict.FORBIDDEN, result.getVerdict(), result.getMessage());
+    }
+
+    @Test
+    void grade_stopsEndlessLoopAtTimeLimit() {
+        SubmissionResult result = service.grade(gradable(HELLO),
+                "public class Main { public static void main(String[] a) { long i = 0; while (true) { i++; } } }");
+
+        assertEquals(SubmissionVerdict.TIME_LIMIT, result.getVerdict());
+    }
+
+    @Test
+    void grade_stopsLoopThatSwallowsTheAbort() {
+        SubmissionResult result = service.grade(gradable(HELLO), """
+                public class Main {
+                    public static void main(String[] args) {
+                        while (true) {
+                            try {
+                                for (long i = 0; ; i++) { }
+                            } catch (Throwable ignored) {
+                            }
+                        }
+                    }
+                }
+                """);
+
+        assertEquals(SubmissionVerdict.TIME_LIMIT, result.getVerdict());
+    }
+
+    @Test
+    void grade_stopsParallelStreamThatKeepsSpinning() {
+        SubmissionResult result = service.grade(gradable(HELLO), """
+                import java.util.stream.IntStream;
+
+                public class Main {
+                    public static void main(String[] args) {
+                        IntStream.range(0, 8).parallel().forEach(i -> { while (true) { } });
+                    }
+                }
+                """);
+
+        assertEquals(SubmissionVerdict.TIME_LIMIT, result.getVerdict());
+    }
+
+    @Test
+    void grade_endsThreadsThatOutliveMain() {
+        SubmissionResult result = service.grade(gradable(HELLO), """
+                public class Main {
+                    public static void main(String[] args) {
+                        new Thread(() -> { while (true) { } }).start();
+                        System.out.println("Hallo Welt");
+                    }
+                }
+                """);
+
+        assertEquals(SubmissionVerdict.ACCEPTED, result.getVerdict(), result.getMessage());
+    }
+
+    @Test
+    void grade_reportsStandardErrorSeparately() {
+        SubmissionResult result = service.grade(gradable(HELLO), """
+                public class Main {
+                    public static void main(String[] args) {
+                        System.err.println("Hinweis auf stderr");
+                        System.out.println("Hallo Welt");
+                    }
+                }
+                """);
+
+        assertEquals(SubmissionVerdict.ACCEPTED, result.getVerdict(), result.getMessage());
+        assertEquals("Hallo Welt", result.getOutput().strip());
+        assertTrue(result.getMessage().contains("Hinweis auf stderr"), result.getMessage());
+    }
+
+    @Test
+    void grade_stopsExcessiveAllocation() {
+        SubmissionResult result = service.grade(gradable(HELLO), """
+                import java.util.ArrayList;
+                import java.util.List;
+
+                public class Main {
+                    public static void main(String[] args) {
+                        List<long[]> hold = new ArrayList<>();
+                        while (true) {
+                            hold.add(new long[1024 * 1024]);
+                        }
+                    }
+                }
+                """);
+
+        assertEquals(SubmissionVerdict.MEMORY_LIMIT, result.getVerdict());
+    }
+
+    @Test
+    void grade_reportsRuntimeExceptionsWithStudentFrames() {
+        SubmissionResult result = service.grade(gradable(HELLO),
+                "public class Main {\n public static void main(String[] a) {\n int[] x = new int[1];\n x[2] = 1;\n }\n}");
+
+        assertEquals(SubmissionVerdict.RUNTIME_ERROR, result.getVerdict());
+        assertTrue(result.getMessage().contains("ArrayIndexOutOfBoundsException"), result.getMessage());
+        assertTrue(result.getMessage().contains("Main.java:4"), result.getMessage());
+    }
+
+    @Test
+    void grade_marksExerciseWithoutRunnableSolutionAsNotGradable() {
+        SubmissionResult result = service.grade(gradable("class Main {}"), HELLO);
+
+        assertEquals(SubmissionVerdict.NOT_GRADABLE, result.getVerdict());
+    }
+
+    @Test
+    void grade_doesNotRunSubmissionWithoutExpectedOutput() {
+        Exercise exercise = gradable("class Main {}");
+        long started = runner.getStartedProcessCount();
+
+        SubmissionResult result = service.grade(exercise, HELLO);
+
+        assertEquals(SubmissionVerdict.NOT_GRADABLE, result.getVerdict());
+        assertEquals(started, runner.getStartedProcessCount());
+    }
+
+    @Test
+    void grade_rejectsOversizedSource() {
+        String source = "//" + "x".repeat(20_000);
+
+        assertThrows(IllegalArgumentException.class, () -> service.grade(exercise(HELLO), source));
+    }
+
+    /**
+     * Parallele Abgaben laufen in getrennten Prozessen und beeinflussen sich nicht.
+     */
+    @Test
+    void grade_isolatesConcurrentSubmissions() throws Exception {
+        int submissions = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(submissions);
+        try {
+            List<Future<SubmissionResult>> results = new ArrayList<>();
+            Exercise hello = gradable(HELLO);
+            for (int i = 0; i < submissions; i++) {
+                int value = i;
+                results.add(executor.submit(() -> service.grade(hello,
+                        "public class Main { public static void main(String[] a) { System.out.println(\"Hallo Welt\"); int v = "
+                                + value + "; } }")));
+            }
+            for (Future<SubmissionResult> result : results) {
+                assertEquals(SubmissionVerdict.ACCEPTED, result.get().getVerdict());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static SubmissionProperties properties() {
+        SubmissionProperties properties = new SubmissionProperties();
+        properties.setTimeLimit(Duration.ofMillis(1500));
+        properties.setCpuTimeLimit(Duration.ofMillis(1000));
+        return properties;
+    }
+
+    /**
+     * Aufgabe, deren erwartete Ausgaben schon berechnet sind, wie nach dem Warm-up.
+     */
+    private Exercise gradable(String solution) {
+        return gradable(solution, null);
+    }
+
+    private Exercise gradable(String solution, String testInputs) {
+        Exercise exercise = exercise(solution);
+        exercise.setTestInputs(testInputs);
+        referenceOutputs.precompute(List.of(exercise));
+        return exercise;
+    }
+
+    private static Exercise exercise(String solution) {
+        Exercise exercise = new Exercise();
+        exercise.setSolution(solution);
+        return exercise;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.prog1learnapp.service.submission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TestInputsTest {
+
+    @Test
+    void parse_withoutInputsYieldsOneEmptyCase() {
+        assertEquals(List.of(""), TestInputs.parse(null));
+        assertEquals(List.of(""), TestInputs.parse("  \n"));
+    }
+
+    @Test
+    void parse_splitsAtSeparatorAndKeepsBlankLinesInsideACase() {
+        assertEquals(List.of("Apfel\nBirne\n\n", "1 2 ende\n"),
+                TestInputs.parse("Apfel\r\nBirne\r\n\r\n---\r\n1 2 ende\r\n"));
+    }
+}